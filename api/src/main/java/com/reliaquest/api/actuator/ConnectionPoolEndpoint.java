@@ -0,0 +1,46 @@
+package com.reliaquest.api.actuator;
+
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.apache.hc.client5.http.HttpRoute;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.core5.pool.PoolStats;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+
+/**
+ * Saturation of the outbound connection pool, exposed as {@code /actuator/httpclientpool}.
+ * <p>
+ * A pool that keeps reporting pending requests, or a saturation close to 1, needs more connections per route.
+ */
+@Endpoint(id = "httpclientpool")
+@RequiredArgsConstructor
+public class ConnectionPoolEndpoint {
+
+    private final PoolingHttpClientConnectionManager connectionManager;
+
+    @ReadOperation
+    public PoolReport pool() {
+        List<RouteStats> routes = connectionManager.getRoutes().stream()
+                .map(route -> RouteStats.of(route, connectionManager.getStats(route)))
+                .toList();
+        return new PoolReport(Stats.of(connectionManager.getTotalStats()), routes);
+    }
+
+    public record PoolReport(Stats total, List<RouteStats> routes) {}
+
+    public record RouteStats(String route, Stats stats) {
+
+        static RouteStats of(HttpRoute route, PoolStats stats) {
+            return new RouteStats(route.getTargetHost().toURI(), Stats.of(stats));
+        }
+    }
+
+    public record Stats(int leased, int pending, int available, int max, double saturation) {
+
+        static Stats of(PoolStats stats) {
+            double saturation = stats.getMax() == 0 ? 0 : (double) stats.getLeased() / stats.getMax();
+            return new Stats(stats.getLeased(), stats.getPending(), stats.getAvailable(), stats.getMax(), saturation);
+        }
+    }
+}
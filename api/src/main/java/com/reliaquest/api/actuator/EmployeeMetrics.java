@@ -0,0 +1,66 @@
+package com.reliaquest.api.actuator;
+
+import com.reliaquest.api.cache.Roster;
+import com.reliaquest.api.cache.RosterCache;
+import com.reliaquest.api.client.AdaptiveRateLimiter;
+import com.reliaquest.api.client.UpstreamCircuitBreaker;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Gauges for the roster cache, the upstream rate limiter and circuit breaker, next to the request metrics recorded by
+ * {@link com.reliaquest.api.client.UpstreamMetricsInterceptor} and
+ * {@link com.reliaquest.api.advice.ExceptionHandlerAdvice}.
+ * <p>
+ * A cached roster size that drops to 0 means requests are loading the roster from the upstream again; a rate limit
+ * that keeps falling means the upstream keeps throttling, and an open circuit means requests are answered from the last
+ * known good roster or refused.
+ */
+@Component
+@RequiredArgsConstructor
+public class EmployeeMetrics implements MeterBinder {
+
+    private final RosterCache rosterCache;
+    private final AdaptiveRateLimiter rateLimiter;
+    private final UpstreamCircuitBreaker circuitBreaker;
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("employee.roster.cached", rosterCache, cache -> cache.peek()
+                        .map(Roster::size)
+                        .orElse(0))
+                .description("Employees in the cached roster, 0 while none is cached")
+                .register(registry);
+        Gauge.builder("employee.upstream.rate.limit", rateLimiter, AdaptiveRateLimiter::limit)
+                .description("Upstream requests the adaptive rate limiter currently allows per window")
+                .register(registry);
+        for (UpstreamCircuitBreaker.State state : UpstreamCircuitBreaker.State.values()) {
+            Gauge.builder(
+                            "employee.upstream.circuit.state",
+                            circuitBreaker,
+                            breaker -> breaker.state() == state ? 1 : 0)
+                    .description("1 for the state the upstream circuit breaker is in, 0 for the others")
+                    .tag("state", state.name().toLowerCase())
+                    .register(registry);
+        }
+        FunctionCounter.builder(
+                        "employee.upstream.circuit.rejections", circuitBreaker, UpstreamCircuitBreaker::openRejections)
+                .description("Upstream requests refused by the circuit breaker")
+                .tag("reason", "open")
+                .register(registry);
+        FunctionCounter.builder(
+                        "employee.upstream.circuit.rejections",
+                        circuitBreaker,
+                        UpstreamCircuitBreaker::bulkheadRejections)
+                .description("Upstream requests refused by the circuit breaker")
+                .tag("reason", "bulkhead")
+                .register(registry);
+        Gauge.builder("employee.upstream.bulkhead.active", circuitBreaker, UpstreamCircuitBreaker::activeCalls)
+                .description("Upstream calls holding a bulkhead slot")
+                .register(registry);
+    }
+}
@@ -1,7 +1,11 @@
 package com.reliaquest.api.advice;
 
+import com.reliaquest.api.client.UpstreamUnavailableException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import java.util.HashMap;
 import java.util.Map;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -11,20 +15,29 @@ import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.HttpServerErrorException;
 
+/**
+ * Maps failures to responses and counts each one as {@code employee.api.errors}, tagged with the status answered and
+ * the exception that caused it.
+ */
 @Slf4j
 @ControllerAdvice
+@RequiredArgsConstructor
 public class ExceptionHandlerAdvice {
 
+    static final String METRIC = "employee.api.errors";
+
+    private final MeterRegistry meterRegistry;
+
     @ExceptionHandler(HttpClientErrorException.TooManyRequests.class)
     public ResponseEntity<String> handleTooManyRequestsException(HttpClientErrorException.TooManyRequests exception) {
         log.error("Too Many Request: {}", exception.getMessage());
-        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS).body("Rate limit Applied: Too Many Request");
+        return respond(HttpStatus.TOO_MANY_REQUESTS, exception).body("Rate limit Applied: Too Many Request");
     }
 
     @ExceptionHandler(HttpClientErrorException.BadRequest.class)
     public ResponseEntity<String> handleBadRequestException(HttpClientErrorException.BadRequest exception) {
         log.error("Bad request: {}", exception.getMessage());
-        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body("Invalid request data");
+        return respond(HttpStatus.BAD_REQUEST, exception).body("Invalid request data");
     }
 
     @ExceptionHandler(MethodArgumentNotValidException.class)
@@ -34,24 +47,42 @@ public class ExceptionHandlerAdvice {
                 .getBindingResult()
                 .getFieldErrors()
                 .forEach(error -> fieldErrors.put(error.getField(), error.getDefaultMessage()));
-        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(fieldErrors);
+        return respond(HttpStatus.BAD_REQUEST, exception).body(fieldErrors);
     }
 
     @ExceptionHandler(HttpClientErrorException.NotFound.class)
     public ResponseEntity<String> handleNotFoundException(HttpClientErrorException.NotFound exception) {
         log.error("Resource not found: {}", exception.getMessage());
-        return ResponseEntity.status(HttpStatus.NOT_FOUND).body("Requested resource not found");
+        return respond(HttpStatus.NOT_FOUND, exception).body("Requested resource not found");
+    }
+
+    @ExceptionHandler(UpstreamUnavailableException.class)
+    public ResponseEntity<String> handleUpstreamUnavailableException(UpstreamUnavailableException exception) {
+        log.warn("Upstream unavailable: {}", exception.getMessage());
+        return respond(HttpStatus.SERVICE_UNAVAILABLE, exception)
+                .headers(exception.getResponseHeaders())
+                .body("Employee service temporarily unavailable");
     }
 
     @ExceptionHandler(HttpServerErrorException.class)
     public ResponseEntity<String> handleServerException(HttpServerErrorException exception) {
         log.error("Internal Server error: {}", exception.getMessage());
-        return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body("Internal server error");
+        return respond(HttpStatus.INTERNAL_SERVER_ERROR, exception).body("Internal server error");
     }
 
     @ExceptionHandler(Exception.class)
     public ResponseEntity<String> handleGenericException(Exception exception) {
         log.error("Unexpected error: {}", exception.getMessage());
-        return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body("An unexpected error occurred");
+        return respond(HttpStatus.INTERNAL_SERVER_ERROR, exception).body("An unexpected error occurred");
+    }
+
+    private ResponseEntity.BodyBuilder respond(HttpStatus status, Exception exception) {
+        Counter.builder(METRIC)
+                .description("Requests answered with an error")
+                .tag("status", Integer.toString(status.value()))
+                .tag("exception", exception.getClass().getSimpleName())
+                .register(meterRegistry)
+                .increment();
+        return ResponseEntity.status(status);
     }
 }
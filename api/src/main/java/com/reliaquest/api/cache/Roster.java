@@ -0,0 +1,125 @@
+package com.reliaquest.api.cache;
+
+import com.reliaquest.api.entity.Employee;
+import com.reliaquest.api.index.NameIndex;
+import com.reliaquest.api.index.SalaryIndex;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * Local replica of the upstream roster together with the indexes derived from it.
+ * <p>
+ * Employees keep the order in which they were loaded or created. Mutations are applied by {@link RosterCache} one at a
+ * time, while reads run concurrently and without locking.
+ */
+public class Roster {
+
+    private final ConcurrentSkipListMap<Long, Employee> byPosition = new ConcurrentSkipListMap<>();
+    private final ConcurrentMap<String, Long> positionById = new ConcurrentHashMap<>();
+    private final SalaryIndex salaryIndex = new SalaryIndex();
+    private final NameIndex nameIndex = new NameIndex();
+
+    private List<Employee> source = List.of();
+    private volatile String upstreamVersion;
+    private long nextPosition;
+    private volatile long modifications;
+    private volatile ListView listView = new ListView(0, List.of());
+
+    static Roster of(List<Employee> employees) {
+        Roster roster = new Roster();
+        employees.forEach(roster::add);
+        roster.source = employees;
+        return roster;
+    }
+
+    /**
+     * @return whether this roster was built from exactly this list instance, which a loader returns again when the
+     *     upstream reports the roster as not modified
+     */
+    boolean isLoadedFrom(List<Employee> employees) {
+        return source == employees;
+    }
+
+    public List<Employee> employees() {
+        ListView current = listView;
+        long expected = modifications;
+        if (current.modifications() != expected) {
+            current = new ListView(expected, List.copyOf(byPosition.values()));
+            listView = current;
+        }
+        return current.employees();
+    }
+
+    /**
+     * @return the upstream version this roster was last brought up to, or {@code null} if unknown
+     */
+    public String upstreamVersion() {
+        return upstreamVersion;
+    }
+
+    void upstreamVersion(String upstreamVersion) {
+        this.upstreamVersion = upstreamVersion;
+    }
+
+    public SalaryIndex salaries() {
+        return salaryIndex;
+    }
+
+    public Optional<Employee> findById(String employeeId) {
+        Long position = positionById.get(employeeId);
+        return position == null ? Optional.empty() : Optional.ofNullable(byPosition.get(position));
+    }
+
+    public List<Employee> findByName(String nameToSearch) {
+        List<Employee> matches = new ArrayList<>();
+        for (Long position : nameIndex.search(nameToSearch)) {
+            Employee employee = byPosition.get(position);
+            if (employee != null) {
+                matches.add(employee);
+            }
+        }
+        return matches;
+    }
+
+    public int size() {
+        return byPosition.size();
+    }
+
+    void add(Employee employee) {
+        long position = nextPosition++;
+        if (employee.getId() != null) {
+            Long replaced = positionById.put(employee.getId(), position);
+            if (replaced != null) {
+                unindex(replaced);
+            }
+        }
+        byPosition.put(position, employee);
+        salaryIndex.add(position, employee);
+        nameIndex.add(position, employee);
+        modifications++;
+    }
+
+    boolean remove(String employeeId) {
+        Long position = positionById.remove(employeeId);
+        if (position == null) {
+            return false;
+        }
+        unindex(position);
+        modifications++;
+        return true;
+    }
+
+    private void unindex(long position) {
+        Employee removed = byPosition.remove(position);
+        if (removed != null) {
+            salaryIndex.remove(position, removed);
+            nameIndex.remove(position);
+        }
+    }
+
+    private record ListView(long modifications, List<Employee> employees) {}
+}
@@ -0,0 +1,240 @@
+package com.reliaquest.api.cache;
+
+import com.reliaquest.api.client.RequestPriority;
+import com.reliaquest.api.entity.Employee;
+import com.reliaquest.api.util.SingleFlight;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * In-memory upstream roster, served stale while a single background refresh replaces it once past the TTL.
+ */
+@Slf4j
+@Component
+public class RosterCache {
+
+    private final Duration ttl;
+    private final Executor refreshExecutor;
+
+    private final AtomicReference<Snapshot> snapshot = new AtomicReference<>();
+    private final AtomicLong generation = new AtomicLong();
+    private final AtomicBoolean refreshing = new AtomicBoolean();
+    private final SingleFlight<Long, Roster> loads = new SingleFlight<>();
+    private volatile Roster invalidated;
+
+    public RosterCache(
+            @Value("${employee.cache.ttl:30s}") Duration ttl,
+            @Qualifier("applicationTaskExecutor") Executor refreshExecutor) {
+        this.ttl = ttl;
+        this.refreshExecutor = refreshExecutor;
+    }
+
+    public Roster get(Supplier<List<Employee>> loader) {
+        return sync(base -> RosterUpdate.full(loader.get(), null));
+    }
+
+    /**
+     * Like {@link #get(Supplier)}, but the loader gets the cached roster and may answer with changes to it.
+     */
+    public Roster sync(Function<Roster, RosterUpdate> loader) {
+        Snapshot current = snapshot.get();
+        if (current == null) {
+            return load(loader);
+        }
+        if (current.isOlderThan(ttl)) {
+            refreshInBackground(loader);
+        }
+        return current.roster();
+    }
+
+    /**
+     * Like {@link #sync(Function)}, but returns empty instead of loading when nothing is cached.
+     */
+    public Optional<Roster> getIfCached(Function<Roster, RosterUpdate> loader) {
+        Snapshot current = snapshot.get();
+        if (current == null) {
+            return Optional.empty();
+        }
+        if (current.isOlderThan(ttl)) {
+            refreshInBackground(loader);
+        }
+        return Optional.of(current.roster());
+    }
+
+    /**
+     * Non-blocking variant of {@link #sync(Function)} for loaders that return a future.
+     */
+    public CompletableFuture<Roster> syncAsync(Function<Roster, CompletableFuture<RosterUpdate>> loader) {
+        Snapshot current = snapshot.get();
+        if (current == null) {
+            return loadAsync(loader);
+        }
+        if (current.isOlderThan(ttl) && refreshing.compareAndSet(false, true)) {
+            RequestPriority.runInBackground(() -> loadAsync(loader).whenComplete((roster, exception) -> {
+                refreshing.set(false);
+                if (exception != null) {
+                    log.warn("Background roster refresh failed, serving stale data: {}", exception.getMessage());
+                }
+            }));
+        }
+        return CompletableFuture.completedFuture(current.roster());
+    }
+
+    /**
+     * @return the cached roster, even if expired, without ever loading it
+     */
+    public Optional<Roster> peek() {
+        return Optional.ofNullable(snapshot.get()).map(Snapshot::roster);
+    }
+
+    public void add(Employee employee) {
+        synchronized (generation) {
+            generation.incrementAndGet();
+            Snapshot current = snapshot.get();
+            if (current != null) {
+                current.roster().add(employee);
+            }
+        }
+    }
+
+    public void remove(String employeeId) {
+        synchronized (generation) {
+            generation.incrementAndGet();
+            Snapshot current = snapshot.get();
+            if (current != null) {
+                current.roster().remove(employeeId);
+            }
+        }
+    }
+
+    /**
+     * @return the cached roster, or else the one dropped by the last {@link #invalidate()}
+     */
+    public Optional<Roster> lastKnownGood() {
+        return peek().or(() -> Optional.ofNullable(invalidated));
+    }
+
+    public void invalidate() {
+        synchronized (generation) {
+            generation.incrementAndGet();
+            Snapshot dropped = snapshot.getAndSet(null);
+            if (dropped != null) {
+                invalidated = dropped.roster();
+            }
+        }
+        log.debug("Roster cache invalidated");
+    }
+
+    public long version() {
+        return snapshot.get() == null ? -1 : generation.get();
+    }
+
+    private Roster load(Function<Roster, RosterUpdate> loader) {
+        long startGeneration = generation.get();
+        return loads.execute(startGeneration, () -> update(startGeneration, loader.apply(cachedRoster())));
+    }
+
+    private CompletableFuture<Roster> loadAsync(Function<Roster, CompletableFuture<RosterUpdate>> loader) {
+        long startGeneration = generation.get();
+        return loads.executeAsync(startGeneration, () -> loader.apply(cachedRoster())
+                .thenApply(update -> update(startGeneration, update)));
+    }
+
+    private Roster cachedRoster() {
+        Snapshot current = snapshot.get();
+        return current == null ? null : current.roster();
+    }
+
+    private Roster update(long startGeneration, RosterUpdate update) {
+        if (update instanceof RosterUpdate.Changes changes) {
+            return apply(startGeneration, changes);
+        }
+        RosterUpdate.Full full = (RosterUpdate.Full) update;
+        Roster roster = rosterOf(full.employees());
+        roster.upstreamVersion(full.version());
+        install(startGeneration, roster);
+        return roster;
+    }
+
+    private Roster rosterOf(List<Employee> employees) {
+        Snapshot current = snapshot.get();
+        if (current != null && current.roster().isLoadedFrom(employees)) {
+            return current.roster();
+        }
+        return Roster.of(employees);
+    }
+
+    private Roster apply(long startGeneration, RosterUpdate.Changes update) {
+        synchronized (generation) {
+            Snapshot current = snapshot.get();
+            if (generation.get() != startGeneration || current == null || current.roster() != update.base()) {
+                log.debug("Discarding roster changes loaded before the last invalidation");
+                return current == null ? update.base() : current.roster();
+            }
+            Roster roster = current.roster();
+            for (RosterUpdate.Change change : update.changes()) {
+                if (change.created() != null) {
+                    roster.add(change.created());
+                } else {
+                    roster.remove(change.deletedId());
+                }
+            }
+            roster.upstreamVersion(update.version());
+            snapshot.set(new Snapshot(roster, System.nanoTime()));
+            log.debug(
+                    "Roster cache synced with {} upstream changes",
+                    update.changes().size());
+            return roster;
+        }
+    }
+
+    private void refreshInBackground(Function<Roster, RosterUpdate> loader) {
+        if (!refreshing.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            refreshExecutor.execute(() -> RequestPriority.runInBackground(() -> {
+                try {
+                    load(loader);
+                } catch (RuntimeException exception) {
+                    log.warn("Background roster refresh failed, serving stale data: {}", exception.getMessage());
+                } finally {
+                    refreshing.set(false);
+                }
+            }));
+        } catch (RuntimeException exception) {
+            refreshing.set(false);
+            log.warn("Could not schedule roster refresh: {}", exception.getMessage());
+        }
+    }
+
+    private void install(long startGeneration, Roster roster) {
+        synchronized (generation) {
+            if (generation.get() != startGeneration) {
+                log.debug("Discarding roster loaded before the last invalidation");
+                return;
+            }
+            snapshot.set(new Snapshot(roster, System.nanoTime()));
+        }
+        log.debug("Roster cache refreshed with {} employees", roster.size());
+    }
+
+    private record Snapshot(Roster roster, long loadedAtNanos) {
+
+        boolean isOlderThan(Duration ttl) {
+            return System.nanoTime() - loadedAtNanos > ttl.toNanos();
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.reliaquest.api.cache;
+
+import com.reliaquest.api.entity.Employee;
+import java.util.List;
+
+/**
+ * Result of a roster load: either the complete roster or the changes to apply to the roster the loader was given.
+ * {@code version} is the upstream version the result brings the roster to, {@code null} if the upstream has none.
+ */
+public sealed interface RosterUpdate {
+
+    static RosterUpdate full(List<Employee> employees, String version) {
+        return new Full(employees, version);
+    }
+
+    static RosterUpdate changes(Roster base, List<Change> changes, String version) {
+        return new Changes(base, changes, version);
+    }
+
+    record Full(List<Employee> employees, String version) implements RosterUpdate {}
+
+    record Changes(Roster base, List<Change> changes, String version) implements RosterUpdate {}
+
+    /**
+     * A created employee, or the id of a deleted one.
+     */
+    record Change(Employee created, String deletedId) {
+
+        public static Change created(Employee employee) {
+            return new Change(employee, null);
+        }
+
+        public static Change deleted(String employeeId) {
+            return new Change(null, employeeId);
+        }
+    }
+}
@@ -0,0 +1,173 @@
+package com.reliaquest.api.client;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
+
+/**
+ * Token bucket guarding the mock employee API's request budget.
+ * <p>
+ * The bucket holds up to {@code limit} permits and refills at {@code limit} permits per window. The limit itself is
+ * learned with AIMD: every successful call raises it by {@code 1 / limit}, every 429 halves it, empties the bucket and
+ * stops all traffic until the upstream's {@code Retry-After}, or one window, has passed.
+ * <p>
+ * Callers wait up to {@code max-wait} for a permit, except background refreshes which never wait. A caller that cannot
+ * get a permit fails with the same {@link HttpClientErrorException.TooManyRequests} the upstream would have returned,
+ * without spending any of the upstream budget.
+ */
+@Slf4j
+@Component
+public class AdaptiveRateLimiter {
+
+    private static final double MIN_LIMIT = 1;
+
+    private final double maxLimit;
+    private final long windowNanos;
+    private final long maxWaitNanos;
+    private final LongSupplier nanoClock;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition permitsRefilled = lock.newCondition();
+
+    private double limit;
+    private double permits;
+    private long refilledAt;
+    private long blockedUntil;
+
+    @Autowired
+    public AdaptiveRateLimiter(
+            @Value("${employee.rate-limit.initial-permits:5}") int initialPermits,
+            @Value("${employee.rate-limit.max-permits:50}") int maxPermits,
+            @Value("${employee.rate-limit.window:60s}") Duration window,
+            @Value("${employee.rate-limit.max-wait:2s}") Duration maxWait) {
+        this(initialPermits, maxPermits, window, maxWait, System::nanoTime);
+    }
+
+    AdaptiveRateLimiter(int initialPermits, int maxPermits, Duration window, Duration maxWait, LongSupplier nanoClock) {
+        this.maxLimit = maxPermits;
+        this.windowNanos = window.toNanos();
+        this.maxWaitNanos = maxWait.toNanos();
+        this.nanoClock = nanoClock;
+        this.limit = Math.max(MIN_LIMIT, initialPermits);
+        this.permits = limit;
+        this.refilledAt = nanoClock.getAsLong();
+        this.blockedUntil = refilledAt;
+    }
+
+    public void acquire(RequestPriority priority) {
+        acquire(priority, priority == RequestPriority.BACKGROUND ? 0 : maxWaitNanos);
+    }
+
+    /**
+     * Takes a permit only if one is available right away, for callers that must not block their thread.
+     */
+    public void acquireNow(RequestPriority priority) {
+        acquire(priority, 0);
+    }
+
+    private void acquire(RequestPriority priority, long waitBudget) {
+        long deadline = nanoClock.getAsLong() + waitBudget;
+        lock.lock();
+        try {
+            while (true) {
+                long now = nanoClock.getAsLong();
+                refill(now);
+                double required = Math.min(1 + priority.reservedPermits(), limit);
+                if (now - blockedUntil >= 0 && permits >= required) {
+                    permits -= 1;
+                    return;
+                }
+                long remaining = deadline - now;
+                if (remaining <= 0) {
+                    throw budgetExhausted(priority);
+                }
+                permitsRefilled.awaitNanos(Math.min(remaining, nanosUntilAvailable(now, required)));
+            }
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw budgetExhausted(priority);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void onSuccess() {
+        lock.lock();
+        try {
+            limit = Math.min(maxLimit, limit + 1 / limit);
+            // a higher limit refills faster, so waiters recompute how long they still have to wait
+            permitsRefilled.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void onThrottled(Duration retryAfter) {
+        lock.lock();
+        try {
+            long now = nanoClock.getAsLong();
+            limit = Math.max(MIN_LIMIT, limit / 2);
+            permits = 0;
+            refilledAt = now;
+            blockedUntil = now + (retryAfter == null ? windowNanos : retryAfter.toNanos());
+            log.warn(
+                    "Upstream rate limit hit, pausing outbound calls for {} ms with a budget of {} permits",
+                    TimeUnit.NANOSECONDS.toMillis(blockedUntil - now),
+                    String.format("%.1f", limit));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public double limit() {
+        lock.lock();
+        try {
+            return limit;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void refill(long now) {
+        long elapsed = now - refilledAt;
+        if (elapsed > 0) {
+            permits = Math.min(limit, permits + elapsed * limit / windowNanos);
+            refilledAt = now;
+        }
+    }
+
+    private long nanosUntilAvailable(long now, double required) {
+        long untilUnblocked = Math.max(0, blockedUntil - now);
+        long untilRefilled = (long) (Math.max(0, required - permits) * windowNanos / limit);
+        return Math.max(1, Math.max(untilUnblocked, untilRefilled));
+    }
+
+    public static Duration parseRetryAfter(String retryAfter) {
+        if (retryAfter == null) {
+            return null;
+        }
+        try {
+            return Duration.ofSeconds(Long.parseLong(retryAfter.trim()));
+        } catch (NumberFormatException exception) {
+            return null;
+        }
+    }
+
+    private static HttpClientErrorException budgetExhausted(RequestPriority priority) {
+        return HttpClientErrorException.create(
+                "No upstream request budget for " + priority.name().toLowerCase() + " request",
+                HttpStatus.TOO_MANY_REQUESTS,
+                HttpStatus.TOO_MANY_REQUESTS.getReasonPhrase(),
+                null,
+                null,
+                null);
+    }
+}
@@ -0,0 +1,99 @@
+package com.reliaquest.api.client;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Duration;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.stereotype.Component;
+
+/**
+ * Passes every outbound request through the {@link UpstreamCircuitBreaker}. Runs outside {@link RateLimitInterceptor},
+ * so a refused request neither spends a permit nor waits for one.
+ * <p>
+ * The bulkhead slot is held until the caller closes the response, after reading its body. A 429 that opens the breaker
+ * is answered with the breaker's {@link UpstreamUnavailableException}, exactly like the calls refused after it, so
+ * callers that serve the last known good roster while the circuit is open do so for this call as well.
+ */
+@Component
+@RequiredArgsConstructor
+public class CircuitBreakerInterceptor implements ClientHttpRequestInterceptor {
+
+    private final UpstreamCircuitBreaker circuitBreaker;
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution)
+            throws IOException {
+        UpstreamCircuitBreaker.Call call = circuitBreaker.enter();
+        ClientHttpResponse response;
+        HttpStatusCode status;
+        try {
+            response = execution.execute(request, body);
+            status = response.getStatusCode();
+        } catch (IOException exception) {
+            call.complete(0, null);
+            throw exception;
+        } catch (RuntimeException exception) {
+            call.abandon();
+            throw exception;
+        }
+        Duration openFor = call.record(
+                status.value(),
+                AdaptiveRateLimiter.parseRetryAfter(response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER)));
+        if (openFor != null && status.isSameCodeAs(HttpStatus.TOO_MANY_REQUESTS)) {
+            response.close();
+            call.release();
+            throw new UpstreamUnavailableException("Upstream circuit open", openFor);
+        }
+        return new ReleasingResponse(response, call);
+    }
+
+    /**
+     * Frees the call's bulkhead slot when the response is closed.
+     */
+    private static final class ReleasingResponse implements ClientHttpResponse {
+
+        private final ClientHttpResponse response;
+        private final UpstreamCircuitBreaker.Call call;
+
+        private ReleasingResponse(ClientHttpResponse response, UpstreamCircuitBreaker.Call call) {
+            this.response = response;
+            this.call = call;
+        }
+
+        @Override
+        public HttpStatusCode getStatusCode() throws IOException {
+            return response.getStatusCode();
+        }
+
+        @Override
+        public String getStatusText() throws IOException {
+            return response.getStatusText();
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return response.getHeaders();
+        }
+
+        @Override
+        public InputStream getBody() throws IOException {
+            return response.getBody();
+        }
+
+        @Override
+        public void close() {
+            try {
+                response.close();
+            } finally {
+                call.release();
+            }
+        }
+    }
+}
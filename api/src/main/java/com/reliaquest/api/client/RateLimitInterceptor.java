@@ -0,0 +1,36 @@
+package com.reliaquest.api.client;
+
+import java.io.IOException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.stereotype.Component;
+
+/**
+ * Spends a permit of the {@link AdaptiveRateLimiter} for every outbound request and feeds the upstream's answer back
+ * into it.
+ */
+@Component
+@RequiredArgsConstructor
+public class RateLimitInterceptor implements ClientHttpRequestInterceptor {
+
+    private final AdaptiveRateLimiter rateLimiter;
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution)
+            throws IOException {
+        rateLimiter.acquire(RequestPriority.of(request.getMethod()));
+        ClientHttpResponse response = execution.execute(request, body);
+        if (response.getStatusCode().isSameCodeAs(HttpStatus.TOO_MANY_REQUESTS)) {
+            rateLimiter.onThrottled(
+                    AdaptiveRateLimiter.parseRetryAfter(response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER)));
+        } else {
+            rateLimiter.onSuccess();
+        }
+        return response;
+    }
+}
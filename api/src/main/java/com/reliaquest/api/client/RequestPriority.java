@@ -0,0 +1,68 @@
+package com.reliaquest.api.client;
+
+import java.util.function.Supplier;
+import org.springframework.http.HttpMethod;
+
+/**
+ * Priority of an outbound request when the upstream budget is scarce.
+ * <p>
+ * Each priority leaves a number of permits untouched for the ones above it, so writes can still go out when reads
+ * have drained the budget and background refreshes never take the last permits of a foreground request.
+ */
+public enum RequestPriority {
+    WRITE(0),
+    READ(1),
+    BACKGROUND(2);
+
+    private static final ThreadLocal<RequestPriority> OVERRIDE = new ThreadLocal<>();
+
+    private final int reservedPermits;
+
+    RequestPriority(int reservedPermits) {
+        this.reservedPermits = reservedPermits;
+    }
+
+    public int reservedPermits() {
+        return reservedPermits;
+    }
+
+    public static RequestPriority of(HttpMethod method) {
+        RequestPriority override = OVERRIDE.get();
+        if (override != null) {
+            return override;
+        }
+        return HttpMethod.GET.equals(method) ? READ : WRITE;
+    }
+
+    public static void runInBackground(Runnable task) {
+        OVERRIDE.set(BACKGROUND);
+        try {
+            task.run();
+        } finally {
+            OVERRIDE.remove();
+        }
+    }
+
+    /**
+     * Wraps {@code task} so that it runs with the caller's priority override on whichever thread executes it.
+     */
+    public static <T> Supplier<T> inheritedBy(Supplier<T> task) {
+        RequestPriority override = OVERRIDE.get();
+        if (override == null) {
+            return task;
+        }
+        return () -> {
+            RequestPriority previous = OVERRIDE.get();
+            OVERRIDE.set(override);
+            try {
+                return task.get();
+            } finally {
+                if (previous == null) {
+                    OVERRIDE.remove();
+                } else {
+                    OVERRIDE.set(previous);
+                }
+            }
+        };
+    }
+}
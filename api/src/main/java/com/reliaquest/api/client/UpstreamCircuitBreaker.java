@@ -0,0 +1,275 @@
+package com.reliaquest.api.client;
+
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Circuit breaker and bulkhead in front of the mock employee API.
+ */
+@Slf4j
+@Component
+public class UpstreamCircuitBreaker {
+
+    private final boolean enabled;
+    private final int failureThreshold;
+    private final long openNanos;
+    private final long bulkheadWaitNanos;
+    private final int maxConcurrentCalls;
+    private final Semaphore bulkhead;
+    private final LongSupplier nanoClock;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final LongAdder openRejections = new LongAdder();
+    private final LongAdder bulkheadRejections = new LongAdder();
+
+    private State state = State.CLOSED;
+    private int failures;
+    private long openUntil;
+    private boolean probing;
+
+    @Autowired
+    public UpstreamCircuitBreaker(
+            @Value("${employee.circuit-breaker.enabled:true}") boolean enabled,
+            @Value("${employee.circuit-breaker.failure-threshold:3}") int failureThreshold,
+            @Value("${employee.circuit-breaker.open-duration:30s}") Duration openDuration,
+            @Value("${employee.bulkhead.max-concurrent-calls:25}") int maxConcurrentCalls,
+            @Value("${employee.bulkhead.max-wait:0s}") Duration bulkheadWait) {
+        this(enabled, failureThreshold, openDuration, maxConcurrentCalls, bulkheadWait, System::nanoTime);
+    }
+
+    UpstreamCircuitBreaker(
+            boolean enabled,
+            int failureThreshold,
+            Duration openDuration,
+            int maxConcurrentCalls,
+            Duration bulkheadWait,
+            LongSupplier nanoClock) {
+        this.enabled = enabled;
+        this.failureThreshold = Math.max(1, failureThreshold);
+        this.openNanos = openDuration.toNanos();
+        this.maxConcurrentCalls = Math.max(1, maxConcurrentCalls);
+        this.bulkhead = new Semaphore(this.maxConcurrentCalls);
+        this.bulkheadWaitNanos = bulkheadWait.toNanos();
+        this.nanoClock = nanoClock;
+    }
+
+    /**
+     * Admits a call, waiting up to {@code max-wait} for a bulkhead slot.
+     *
+     * @throws UpstreamUnavailableException if the breaker is open or the bulkhead stays full
+     */
+    public Call enter() {
+        return enter(bulkheadWaitNanos);
+    }
+
+    /**
+     * Like {@link #enter()}, but never waits for a bulkhead slot, for callers that must not block their thread.
+     */
+    public Call enterNow() {
+        return enter(0);
+    }
+
+    private Call enter(long waitNanos) {
+        if (!enabled) {
+            return new Call(false, false);
+        }
+        boolean probe = admit();
+        try {
+            if (!bulkhead.tryAcquire(waitNanos, TimeUnit.NANOSECONDS)) {
+                throw bulkheadFull(probe);
+            }
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw bulkheadFull(probe);
+        }
+        return new Call(true, probe);
+    }
+
+    /**
+     * @return whether the admitted call is the half-open probe
+     */
+    private boolean admit() {
+        lock.lock();
+        try {
+            long now = nanoClock.getAsLong();
+            advance(now);
+            if (state == State.OPEN) {
+                openRejections.increment();
+                throw new UpstreamUnavailableException(
+                        "Upstream circuit open", Duration.ofNanos(Math.max(0, openUntil - now)));
+            }
+            if (state == State.HALF_OPEN) {
+                if (probing) {
+                    openRejections.increment();
+                    throw new UpstreamUnavailableException("Upstream circuit half-open, probe in flight", null);
+                }
+                probing = true;
+                return true;
+            }
+            return false;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private UpstreamUnavailableException bulkheadFull(boolean probe) {
+        if (probe) {
+            endProbe();
+        }
+        bulkheadRejections.increment();
+        return new UpstreamUnavailableException("Upstream bulkhead full", null);
+    }
+
+    /**
+     * @return how long the breaker stays open if this outcome opened it, otherwise {@code null}
+     */
+    private Duration complete(boolean probe, boolean failed, Duration retryAfter) {
+        lock.lock();
+        try {
+            long now = nanoClock.getAsLong();
+            if (probe) {
+                probing = false;
+                if (failed) {
+                    return open(now, retryAfter);
+                }
+                state = State.CLOSED;
+                failures = 0;
+                log.info("Upstream circuit closed, probe succeeded");
+            } else if (state == State.CLOSED) {
+                failures = failed ? failures + 1 : 0;
+                boolean lockedOut = failed && retryAfter != null && retryAfter.toNanos() >= openNanos;
+                if (failures >= failureThreshold || lockedOut) {
+                    return open(now, retryAfter);
+                }
+            }
+            return null;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void endProbe() {
+        lock.lock();
+        try {
+            probing = false;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private Duration open(long now, Duration retryAfter) {
+        long openFor = Math.max(openNanos, retryAfter == null ? 0 : retryAfter.toNanos());
+        state = State.OPEN;
+        failures = 0;
+        openUntil = now + openFor;
+        log.warn("Upstream circuit open for {} ms", TimeUnit.NANOSECONDS.toMillis(openFor));
+        return Duration.ofNanos(openFor);
+    }
+
+    private void advance(long now) {
+        if (state == State.OPEN && now - openUntil >= 0) {
+            state = State.HALF_OPEN;
+            probing = false;
+        }
+    }
+
+    /**
+     * Current state, half-open as soon as the open period has passed even before the probe is sent.
+     */
+    public State state() {
+        lock.lock();
+        try {
+            advance(nanoClock.getAsLong());
+            return state;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int activeCalls() {
+        return maxConcurrentCalls - bulkhead.availablePermits();
+    }
+
+    public long openRejections() {
+        return openRejections.sum();
+    }
+
+    public long bulkheadRejections() {
+        return bulkheadRejections.sum();
+    }
+
+    /**
+     * An admitted call holding a bulkhead slot until it is completed, or released after its outcome was recorded.
+     */
+    public final class Call {
+
+        private final boolean guarded;
+        private final boolean probe;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private Call(boolean guarded, boolean probe) {
+            this.guarded = guarded;
+            this.probe = probe;
+        }
+
+        /**
+         * Completes the call with the upstream's {@code status}, 0 if there was no response.
+         *
+         * @return how long the breaker stays open if this outcome opened it, otherwise {@code null}
+         */
+        public Duration complete(int status, Duration retryAfter) {
+            Duration openFor = record(status, retryAfter);
+            release();
+            return openFor;
+        }
+
+        /**
+         * Like {@link #complete(int, Duration)}, but keeps the bulkhead slot until {@link #release()}.
+         *
+         * @return how long the breaker stays open if this outcome opened it, otherwise {@code null}
+         */
+        public Duration record(int status, Duration retryAfter) {
+            if (!guarded) {
+                return null;
+            }
+            return UpstreamCircuitBreaker.this.complete(
+                    probe, status == 0 || status == 429 || status >= 500, retryAfter);
+        }
+
+        /**
+         * Frees the bulkhead slot; releasing more than once has no further effect.
+         */
+        public void release() {
+            if (guarded && released.compareAndSet(false, true)) {
+                bulkhead.release();
+            }
+        }
+
+        /**
+         * Completes a call that never reached the upstream without counting it either way.
+         */
+        public void abandon() {
+            if (guarded) {
+                release();
+                if (probe) {
+                    endProbe();
+                }
+            }
+        }
+    }
+
+    public enum State {
+        CLOSED,
+        OPEN,
+        HALF_OPEN
+    }
+}
@@ -0,0 +1,84 @@
+package com.reliaquest.api.client;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.io.IOException;
+import java.net.URI;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.metrics.http.Outcome;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.stereotype.Component;
+
+/**
+ * Times every request to the mock employee API as {@code employee.upstream.requests}, tagged with method, route,
+ * status and outcome. The route is the upstream path with employee ids folded into {@code /{id}}, so the number of
+ * series stays fixed however many employees are looked up. A request that gets no response is tagged with status
+ * {@code IO_ERROR}.
+ * <p>
+ * Runs inside {@link RateLimitInterceptor}, so the time spent waiting for a permit is not counted as upstream latency.
+ */
+@Component
+@RequiredArgsConstructor
+public class UpstreamMetricsInterceptor implements ClientHttpRequestInterceptor {
+
+    static final String METRIC = "employee.upstream.requests";
+    static final String BASE_PATH = "/api/v1/employee";
+    private static final Set<String> ROUTES =
+            Set.of("", "/changes", "/snapshot", "/search", "/salary/max", "/salary/top", "/bulk");
+
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution)
+            throws IOException {
+        final long started = System.nanoTime();
+        try {
+            ClientHttpResponse response = execution.execute(request, body);
+            record(
+                    request.getMethod().name(),
+                    request.getURI(),
+                    response.getStatusCode().value(),
+                    started);
+            return response;
+        } catch (IOException | RuntimeException exception) {
+            record(request.getMethod().name(), request.getURI(), 0, started);
+            throw exception;
+        }
+    }
+
+    /**
+     * Records a request started at {@code startedNanos} that was answered with {@code status}, or got no response if
+     * {@code status} is 0.
+     */
+    public void record(String method, URI uri, int status, long startedNanos) {
+        Timer.builder(METRIC)
+                .description("Requests to the mock employee API")
+                .tag("method", method)
+                .tag("route", route(uri))
+                .tag("status", status == 0 ? "IO_ERROR" : Integer.toString(status))
+                .tag(
+                        "outcome",
+                        status == 0
+                                ? Outcome.UNKNOWN.name()
+                                : Outcome.forStatus(status).name())
+                .register(meterRegistry)
+                .record(System.nanoTime() - startedNanos, TimeUnit.NANOSECONDS);
+    }
+
+    static String route(URI uri) {
+        String path = uri.getPath() == null ? "" : uri.getPath();
+        if (!path.startsWith(BASE_PATH)) {
+            return "other";
+        }
+        String route = path.substring(BASE_PATH.length());
+        if (route.endsWith("/")) {
+            route = route.substring(0, route.length() - 1);
+        }
+        return ROUTES.contains(route) ? BASE_PATH + route : BASE_PATH + "/{id}";
+    }
+}
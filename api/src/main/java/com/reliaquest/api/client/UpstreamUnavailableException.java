@@ -0,0 +1,28 @@
+package com.reliaquest.api.client;
+
+import java.time.Duration;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpServerErrorException;
+
+/**
+ * A request to the mock employee API refused before it was sent, because the {@link UpstreamCircuitBreaker} is open or
+ * its bulkhead is full. Carries a {@code Retry-After} for when the breaker lets a probe through again.
+ */
+public class UpstreamUnavailableException extends HttpServerErrorException {
+
+    private static final long serialVersionUID = 1L;
+
+    public UpstreamUnavailableException(String reason, Duration retryAfter) {
+        super(reason, HttpStatus.SERVICE_UNAVAILABLE, reason, headers(retryAfter), null, null);
+    }
+
+    private static HttpHeaders headers(Duration retryAfter) {
+        HttpHeaders headers = new HttpHeaders();
+        if (retryAfter != null) {
+            long seconds = (retryAfter.toMillis() + 999) / 1_000;
+            headers.set(HttpHeaders.RETRY_AFTER, Long.toString(Math.max(1, seconds)));
+        }
+        return headers;
+    }
+}
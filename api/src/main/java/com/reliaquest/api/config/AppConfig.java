@@ -1,18 +1,152 @@
 package com.reliaquest.api.config;
 
-import java.time.Duration;
+import com.reliaquest.api.actuator.ConnectionPoolEndpoint;
+import com.reliaquest.api.client.CircuitBreakerInterceptor;
+import com.reliaquest.api.client.RateLimitInterceptor;
+import com.reliaquest.api.client.UpstreamMetricsInterceptor;
+import java.net.http.HttpClient;
+import java.util.concurrent.Executor;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.web.client.RestTemplate;
 
 @Configuration
+@EnableConfigurationProperties(HttpClientProperties.class)
 public class AppConfig {
 
     @Bean
-    public RestTemplate restTemplate(RestTemplateBuilder builder) {
-        return builder.setConnectTimeout(Duration.ofSeconds(5))
-                .setReadTimeout(Duration.ofSeconds(5))
+    public RestTemplate restTemplate(
+            RestTemplateBuilder builder,
+            ClientHttpRequestFactory employeeRequestFactory,
+            CircuitBreakerInterceptor circuitBreakerInterceptor,
+            RateLimitInterceptor rateLimitInterceptor,
+            UpstreamMetricsInterceptor upstreamMetricsInterceptor) {
+        return builder.requestFactory(() -> employeeRequestFactory)
+                .additionalInterceptors(circuitBreakerInterceptor, rateLimitInterceptor, upstreamMetricsInterceptor)
                 .build();
     }
+
+    @Bean
+    public ClientHttpRequestFactory employeeRequestFactory(
+            HttpClientProperties properties, ObjectProvider<CloseableHttpClient> employeeHttpClient) {
+        return switch (properties.getEngine()) {
+            case POOLED -> new HttpComponentsClientHttpRequestFactory(employeeHttpClient.getObject());
+            case JDK -> jdkRequestFactory(properties);
+        };
+    }
+
+    @Bean(destroyMethod = "close")
+    @ConditionalOnProperty(name = "employee.http.engine", havingValue = "pooled", matchIfMissing = true)
+    public PoolingHttpClientConnectionManager employeeConnectionManager(HttpClientProperties properties) {
+        return PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(properties.getMaxConnections())
+                .setMaxConnPerRoute(properties.getMaxConnectionsPerRoute())
+                .setDefaultConnectionConfig(connectionConfig(properties))
+                .build();
+    }
+
+    /*
+     * Closing the client stops its idle connection evictor thread. The pool is a bean of its own and is closed after
+     * the client, so the client does not close it.
+     */
+    @Bean(destroyMethod = "close")
+    @ConditionalOnProperty(name = "employee.http.engine", havingValue = "pooled", matchIfMissing = true)
+    public CloseableHttpClient employeeHttpClient(
+            HttpClientProperties properties, PoolingHttpClientConnectionManager employeeConnectionManager) {
+        return HttpClients.custom()
+                .setConnectionManager(employeeConnectionManager)
+                .setConnectionManagerShared(true)
+                .setDefaultRequestConfig(requestConfig(properties))
+                .evictExpiredConnections()
+                .evictIdleConnections(TimeValue.of(properties.getIdleEviction()))
+                .build();
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "employee.http.engine", havingValue = "pooled", matchIfMissing = true)
+    public ConnectionPoolEndpoint connectionPoolEndpoint(PoolingHttpClientConnectionManager employeeConnectionManager) {
+        return new ConnectionPoolEndpoint(employeeConnectionManager);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "employee.api.mode", havingValue = "async")
+    public HttpClient asyncHttpClient(HttpClientProperties properties, AsyncExecutor employeeAsyncExecutor) {
+        return HttpClient.newBuilder()
+                .version(properties.isHttp2() ? HttpClient.Version.HTTP_2 : HttpClient.Version.HTTP_1_1)
+                .connectTimeout(properties.getConnectTimeout())
+                .executor(employeeAsyncExecutor.executor())
+                .build();
+    }
+
+    @Bean(destroyMethod = "close")
+    @ConditionalOnProperty(name = "employee.api.mode", havingValue = "async")
+    public AsyncExecutor employeeAsyncExecutor(HttpClientProperties properties, Environment environment) {
+        if (Threading.VIRTUAL.isActive(environment)) {
+            SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("employee-async-");
+            executor.setVirtualThreads(true);
+            return new AsyncExecutor(executor, executor::close);
+        }
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(properties.getAsyncThreads());
+        executor.setMaxPoolSize(properties.getAsyncThreads());
+        executor.setThreadNamePrefix("employee-async-");
+        executor.initialize();
+        return new AsyncExecutor(executor, executor::shutdown);
+    }
+
+    static ConnectionConfig connectionConfig(HttpClientProperties properties) {
+        return ConnectionConfig.custom()
+                .setConnectTimeout(Timeout.of(properties.getConnectTimeout()))
+                .setSocketTimeout(Timeout.of(properties.getReadTimeout()))
+                .setTimeToLive(TimeValue.of(properties.getConnectionTtl()))
+                .build();
+    }
+
+    static RequestConfig requestConfig(HttpClientProperties properties) {
+        return RequestConfig.custom()
+                .setConnectionRequestTimeout(Timeout.of(properties.getPoolAcquireTimeout()))
+                .setResponseTimeout(Timeout.of(properties.getReadTimeout()))
+                .build();
+    }
+
+    private static ClientHttpRequestFactory jdkRequestFactory(HttpClientProperties properties) {
+        HttpClient httpClient = HttpClient.newBuilder()
+                .version(properties.isHttp2() ? HttpClient.Version.HTTP_2 : HttpClient.Version.HTTP_1_1)
+                .connectTimeout(properties.getConnectTimeout())
+                .build();
+        JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(httpClient);
+        requestFactory.setReadTimeout(properties.getReadTimeout());
+        return requestFactory;
+    }
+
+    /**
+     * Threads completing the async client's calls, shut down with the context. Wrapped rather than registered as an
+     * {@link Executor} bean, which would make Spring Boot back off from its {@code applicationTaskExecutor}.
+     */
+    public record AsyncExecutor(Executor executor, Runnable shutdown) implements AutoCloseable {
+
+        @Override
+        public void close() {
+            shutdown.run();
+        }
+    }
 }
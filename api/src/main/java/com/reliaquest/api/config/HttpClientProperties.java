@@ -0,0 +1,62 @@
+package com.reliaquest.api.config;
+
+import java.time.Duration;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Tuning of the HTTP client used to call the mock employee API.
+ */
+@Data
+@ConfigurationProperties(prefix = "employee.http")
+public class HttpClientProperties {
+
+    /**
+     * Client engine behind the {@code RestTemplate}.
+     */
+    private Engine engine = Engine.POOLED;
+
+    private Duration connectTimeout = Duration.ofSeconds(5);
+
+    private Duration readTimeout = Duration.ofSeconds(5);
+
+    /**
+     * How long a request may wait for a free pooled connection.
+     */
+    private Duration poolAcquireTimeout = Duration.ofSeconds(2);
+
+    private int maxConnections = 200;
+
+    private int maxConnectionsPerRoute = 50;
+
+    /**
+     * Pooled connections idle for longer than this are closed.
+     */
+    private Duration idleEviction = Duration.ofSeconds(30);
+
+    /**
+     * Pooled connections are never reused after this age.
+     */
+    private Duration connectionTtl = Duration.ofMinutes(5);
+
+    /**
+     * Negotiate HTTP/2 when using the {@link Engine#JDK} engine.
+     */
+    private boolean http2 = false;
+
+    /**
+     * Threads completing non-blocking upstream calls when {@code employee.api.mode=async}.
+     */
+    private int asyncThreads = 4;
+
+    public enum Engine {
+        /**
+         * Apache HttpClient 5 with a keep-alive connection pool.
+         */
+        POOLED,
+        /**
+         * The JDK {@link java.net.http.HttpClient}, which manages its own connections and supports HTTP/2.
+         */
+        JDK
+    }
+}
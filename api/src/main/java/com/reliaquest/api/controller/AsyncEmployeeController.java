@@ -0,0 +1,89 @@
+package com.reliaquest.api.controller;
+
+import com.reliaquest.api.dto.EmployeeDTO;
+import com.reliaquest.api.entity.Employee;
+import com.reliaquest.api.service.AsyncEmployeeService;
+import jakarta.validation.Valid;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Serves the {@link IEmployeeController} routes with asynchronous return types when {@code employee.api.mode=async}.
+ * <p>
+ * The interface fixes synchronous {@link ResponseEntity} results, so this controller mirrors its mappings instead of
+ * implementing it. Each method returns as soon as the upstream call is started, releasing the servlet thread until
+ * the response is ready.
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/v1/employee")
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "employee.api.mode", havingValue = "async")
+public class AsyncEmployeeController {
+
+    private final AsyncEmployeeService employeeService;
+
+    @GetMapping()
+    public CompletableFuture<ResponseEntity<List<Employee>>> getAllEmployees() {
+        log.info("Fetching all employees");
+        return employeeService.fetchAllEmployees().thenApply(AsyncEmployeeController::okOrNoContent);
+    }
+
+    @GetMapping("/search/{searchString}")
+    public CompletableFuture<ResponseEntity<List<Employee>>> getEmployeesByNameSearch(
+            @PathVariable String searchString) {
+        log.info("Searching all employees whose name contains or matches: {}", searchString);
+        return employeeService
+                .findEmployeesByNameMatchesOrContains(searchString)
+                .thenApply(AsyncEmployeeController::okOrNoContent);
+    }
+
+    @GetMapping("/{id}")
+    public CompletableFuture<ResponseEntity<Employee>> getEmployeeById(@PathVariable String id) {
+        log.info("Fetching employee by employeeId: {}", id);
+        return employeeService.fetchEmployeeById(id).thenApply(ResponseEntity::ok);
+    }
+
+    @GetMapping("/highestSalary")
+    public CompletableFuture<ResponseEntity<Integer>> getHighestSalaryOfEmployees() {
+        log.info("Fetching highest salary among all employees");
+        return employeeService.fetchHighestSalaryAmongAllEmployees().thenApply(ResponseEntity::ok);
+    }
+
+    @GetMapping("/topTenHighestEarningEmployeeNames")
+    public CompletableFuture<ResponseEntity<List<String>>> getTopTenHighestEarningEmployeeNames() {
+        log.info("Fetching top 10 highest earning employee names");
+        return employeeService
+                .fetchTopTenHighestEarningEmployeeNames()
+                .thenApply(AsyncEmployeeController::okOrNoContent);
+    }
+
+    @PostMapping()
+    public CompletableFuture<ResponseEntity<Employee>> createEmployee(@Valid @RequestBody EmployeeDTO employeeDTO) {
+        log.info("Creating new employee: {}", employeeDTO.getName());
+        return employeeService.saveEmployee(employeeDTO).thenApply(employee -> ResponseEntity.status(HttpStatus.CREATED)
+                .body(employee));
+    }
+
+    @DeleteMapping("/{id}")
+    public CompletableFuture<ResponseEntity<String>> deleteEmployeeById(@PathVariable String id) {
+        log.info("Deleting employee having employeeId: {}", id);
+        return employeeService.deleteEmployeeById(id).thenApply(ResponseEntity::ok);
+    }
+
+    private static <T> ResponseEntity<List<T>> okOrNoContent(List<T> values) {
+        return values.isEmpty() ? ResponseEntity.noContent().build() : ResponseEntity.ok(values);
+    }
+}
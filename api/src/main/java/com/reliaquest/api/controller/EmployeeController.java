@@ -7,6 +7,7 @@ import jakarta.validation.Valid;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.RequestMapping;
@@ -16,6 +17,7 @@ import org.springframework.web.bind.annotation.RestController;
 @RestController
 @RequestMapping("/api/v1/employee")
 @RequiredArgsConstructor
+@ConditionalOnProperty(name = "employee.api.mode", havingValue = "blocking", matchIfMissing = true)
 public class EmployeeController implements IEmployeeController<Employee, EmployeeDTO> {
 
     private final EmployeeService employeeService;
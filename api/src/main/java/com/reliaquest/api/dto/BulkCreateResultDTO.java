@@ -0,0 +1,18 @@
+package com.reliaquest.api.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.reliaquest.api.entity.Employee;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkCreateResultDTO {
+    @JsonProperty("employee")
+    private Employee employee;
+
+    @JsonProperty("error")
+    private String error;
+}
@@ -0,0 +1,27 @@
+package com.reliaquest.api.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.reliaquest.api.entity.Employee;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class EmployeeChangeDTO {
+    public static final String CREATED = "CREATED";
+    public static final String DELETED = "DELETED";
+
+    @JsonProperty("version")
+    private long version;
+
+    @JsonProperty("type")
+    private String type;
+
+    @JsonProperty("id")
+    private String id;
+
+    @JsonProperty("employee")
+    private Employee employee;
+}
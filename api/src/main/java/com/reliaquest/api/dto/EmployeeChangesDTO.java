@@ -0,0 +1,21 @@
+package com.reliaquest.api.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class EmployeeChangesDTO {
+    @JsonProperty("version")
+    private String version;
+
+    @JsonProperty("resync")
+    private boolean resync;
+
+    @JsonProperty("changes")
+    private List<EmployeeChangeDTO> changes;
+}
@@ -19,4 +19,10 @@ public class ResponseDTO<T> {
 
     @JsonProperty("error")
     private String error;
+
+    @JsonProperty("next_cursor")
+    private Long nextCursor;
+
+    @JsonProperty("last_cursor")
+    private Long lastCursor;
 }
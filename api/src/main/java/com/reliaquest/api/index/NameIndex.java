@@ -0,0 +1,187 @@
+package com.reliaquest.api.index;
+
+import com.reliaquest.api.entity.Employee;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Case-insensitive substring index over employee names.
+ * <p>
+ * Every name is case-folded once when indexed and split into overlapping trigrams, each mapped to a sorted array of the
+ * roster positions whose name contains it. A query of three or more characters intersects the postings of its
+ * trigrams, starting from the smallest one, and verifies the candidates against the folded names. Shorter queries
+ * cannot be answered from trigrams and fall back to scanning the pre-folded names. Reads never block and are safe
+ * while one other thread at a time updates the index.
+ */
+public class NameIndex {
+
+    private static final int GRAM_LENGTH = 3;
+    private static final int INITIAL_CAPACITY = 4;
+
+    private final ConcurrentMap<Long, String> foldedNames = new ConcurrentHashMap<>();
+    private final ConcurrentMap<Long, Postings> postings = new ConcurrentHashMap<>();
+
+    public void add(long position, Employee employee) {
+        if (employee.getEmployee_name() == null) {
+            return;
+        }
+        int compact = Math.toIntExact(position);
+        String folded = fold(employee.getEmployee_name());
+        foldedNames.put(position, folded);
+        for (int i = 0; i + GRAM_LENGTH <= folded.length(); i++) {
+            long gram = gram(folded, i);
+            Postings current = postings.get(gram);
+            postings.put(gram, current == null ? Postings.of(compact) : current.with(compact));
+        }
+    }
+
+    public void remove(long position) {
+        String folded = foldedNames.remove(position);
+        if (folded == null) {
+            return;
+        }
+        int compact = (int) position;
+        for (int i = 0; i + GRAM_LENGTH <= folded.length(); i++) {
+            long gram = gram(folded, i);
+            Postings current = postings.get(gram);
+            if (current != null) {
+                Postings remaining = current.without(compact);
+                if (remaining.size == 0) {
+                    postings.remove(gram);
+                } else {
+                    postings.put(gram, remaining);
+                }
+            }
+        }
+    }
+
+    /**
+     * @return roster positions of the names containing {@code query}, ignoring case, in ascending order
+     */
+    public List<Long> search(String query) {
+        String folded = fold(query);
+        if (folded.length() < GRAM_LENGTH) {
+            List<Long> matches = scan(folded);
+            matches.sort(Comparator.naturalOrder());
+            return matches;
+        }
+        return lookup(folded);
+    }
+
+    public int size() {
+        return foldedNames.size();
+    }
+
+    private List<Long> scan(String folded) {
+        List<Long> matches = new ArrayList<>();
+        foldedNames.forEach((position, name) -> {
+            if (name.contains(folded)) {
+                matches.add(position);
+            }
+        });
+        return matches;
+    }
+
+    private List<Long> lookup(String folded) {
+        List<Postings> queryPostings = new ArrayList<>();
+        for (int i = 0; i + GRAM_LENGTH <= folded.length(); i++) {
+            Postings positions = postings.get(gram(folded, i));
+            if (positions == null) {
+                return new ArrayList<>();
+            }
+            queryPostings.add(positions);
+        }
+        queryPostings.sort(Comparator.comparingInt(Postings::size));
+
+        List<Long> matches = new ArrayList<>();
+        Postings smallest = queryPostings.get(0);
+        int[] from = new int[queryPostings.size()];
+        for (int i = 0; i < smallest.size; i++) {
+            int position = smallest.positions[i];
+            if (inAll(position, queryPostings, from)) {
+                String name = foldedNames.get((long) position);
+                if (name != null && name.contains(folded)) {
+                    matches.add((long) position);
+                }
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Candidates arrive in ascending order, so each postings array is searched only past the previous candidate.
+     */
+    private static boolean inAll(int position, List<Postings> queryPostings, int[] from) {
+        for (int i = 1; i < queryPostings.size(); i++) {
+            Postings postings = queryPostings.get(i);
+            int found = Arrays.binarySearch(postings.positions, from[i], postings.size, position);
+            if (found < 0) {
+                from[i] = -found - 1;
+                return false;
+            }
+            from[i] = found + 1;
+        }
+        return true;
+    }
+
+    private static long gram(String folded, int offset) {
+        return ((long) folded.charAt(offset) << 32)
+                | ((long) folded.charAt(offset + 1) << 16)
+                | folded.charAt(offset + 2);
+    }
+
+    private static String fold(String value) {
+        return value.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Ascending positions in the first {@code size} slots of {@code positions}. Roster positions only grow, so adding
+     * one writes past every published size and reuses the spare capacity; only removals and growth copy.
+     */
+    private record Postings(int[] positions, int size) {
+
+        static Postings of(int position) {
+            int[] positions = new int[INITIAL_CAPACITY];
+            positions[0] = position;
+            return new Postings(positions, 1);
+        }
+
+        Postings with(int position) {
+            int last = positions[size - 1];
+            if (position == last) {
+                return this;
+            }
+            if (position > last) {
+                int[] grown = size < positions.length ? positions : Arrays.copyOf(positions, size * 2);
+                grown[size] = position;
+                return new Postings(grown, size + 1);
+            }
+            int insertion = Arrays.binarySearch(positions, 0, size, position);
+            if (insertion >= 0) {
+                return this;
+            }
+            insertion = -insertion - 1;
+            int[] copy = new int[Math.max(positions.length, size + 1)];
+            System.arraycopy(positions, 0, copy, 0, insertion);
+            copy[insertion] = position;
+            System.arraycopy(positions, insertion, copy, insertion + 1, size - insertion);
+            return new Postings(copy, size + 1);
+        }
+
+        Postings without(int position) {
+            int found = Arrays.binarySearch(positions, 0, size, position);
+            if (found < 0) {
+                return this;
+            }
+            int[] copy = new int[Math.max(INITIAL_CAPACITY, size - 1)];
+            System.arraycopy(positions, 0, copy, 0, found);
+            System.arraycopy(positions, found + 1, copy, found, size - found - 1);
+            return new Postings(copy, size - 1);
+        }
+    }
+}
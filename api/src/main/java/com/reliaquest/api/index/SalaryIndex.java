@@ -0,0 +1,57 @@
+package com.reliaquest.api.index;
+
+import com.reliaquest.api.entity.Employee;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+/**
+ * Employees ranked by salary, highest first, ties broken by roster position.
+ * <p>
+ * Updates are O(log N). The highest salary is read from the head of the ranking and the top N names are the first N
+ * entries, so neither query touches the rest of the roster. Reads never block and are safe while other threads
+ * update the index.
+ */
+public class SalaryIndex {
+
+    private static final Comparator<Ranked> HIGHEST_FIRST =
+            Comparator.comparingInt(Ranked::salary).reversed().thenComparingLong(Ranked::position);
+
+    private final ConcurrentSkipListSet<Ranked> ranking = new ConcurrentSkipListSet<>(HIGHEST_FIRST);
+
+    public void add(long position, Employee employee) {
+        ranking.add(Ranked.of(position, employee));
+    }
+
+    public void remove(long position, Employee employee) {
+        ranking.remove(Ranked.of(position, employee));
+    }
+
+    public int highestSalary() {
+        Iterator<Ranked> iterator = ranking.iterator();
+        return iterator.hasNext() ? iterator.next().salary() : 0;
+    }
+
+    public List<String> topEarnerNames(int limit) {
+        List<String> names = new ArrayList<>(limit);
+        Iterator<Ranked> iterator = ranking.iterator();
+        while (names.size() < limit && iterator.hasNext()) {
+            names.add(iterator.next().name());
+        }
+        return names;
+    }
+
+    public int size() {
+        return ranking.size();
+    }
+
+    private record Ranked(int salary, long position, String name) {
+
+        static Ranked of(long position, Employee employee) {
+            Integer salary = employee.getEmployee_salary();
+            return new Ranked(salary == null ? 0 : salary, position, employee.getEmployee_name());
+        }
+    }
+}
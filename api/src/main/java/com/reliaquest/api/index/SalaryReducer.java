@@ -0,0 +1,64 @@
+package com.reliaquest.api.index;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.function.ObjIntConsumer;
+
+/**
+ * Single-pass highest salary and top N earners over a stream of (name, salary) pairs.
+ * <p>
+ * Only the current top N candidates are retained, so memory stays O(N) however many employees are fed in. Ranking
+ * matches {@link SalaryIndex}: highest salary first, ties broken by arrival order. Not thread-safe.
+ */
+public class SalaryReducer implements ObjIntConsumer<String> {
+
+    private static final Comparator<Candidate> LOWEST_FIRST = Comparator.comparingInt(Candidate::salary)
+            .thenComparing(Comparator.comparingLong(Candidate::position).reversed());
+
+    private final int limit;
+    private final PriorityQueue<Candidate> candidates;
+    private long position;
+    private int highestSalary;
+
+    public SalaryReducer(int limit) {
+        this.limit = limit;
+        this.candidates = new PriorityQueue<>(limit + 1, LOWEST_FIRST);
+    }
+
+    @Override
+    public void accept(String name, int salary) {
+        if (position == 0 || salary > highestSalary) {
+            highestSalary = salary;
+        }
+        long arrival = position++;
+        if (candidates.size() < limit) {
+            candidates.add(new Candidate(salary, arrival, name));
+        } else if (limit > 0 && salary > candidates.peek().salary()) {
+            // a later arrival never beats an equal salary, so only a strictly higher one displaces the lowest
+            candidates.poll();
+            candidates.add(new Candidate(salary, arrival, name));
+        }
+    }
+
+    public int highestSalary() {
+        return highestSalary;
+    }
+
+    public List<String> topEarnerNames() {
+        List<Candidate> ranked = new ArrayList<>(candidates);
+        ranked.sort(LOWEST_FIRST.reversed());
+        List<String> names = new ArrayList<>(ranked.size());
+        for (Candidate candidate : ranked) {
+            names.add(candidate.name());
+        }
+        return names;
+    }
+
+    public long count() {
+        return position;
+    }
+
+    private record Candidate(int salary, long position, String name) {}
+}
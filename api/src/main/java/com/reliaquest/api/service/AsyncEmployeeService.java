@@ -0,0 +1,287 @@
+package com.reliaquest.api.service;
+
+import static com.reliaquest.api.service.EmployeeService.TEST_DATA_API_URL;
+import static com.reliaquest.api.service.EmployeeService.URL_SEPARATOR;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.cache.Roster;
+import com.reliaquest.api.cache.RosterCache;
+import com.reliaquest.api.cache.RosterUpdate;
+import com.reliaquest.api.client.AdaptiveRateLimiter;
+import com.reliaquest.api.client.RequestPriority;
+import com.reliaquest.api.client.UpstreamCircuitBreaker;
+import com.reliaquest.api.client.UpstreamMetricsInterceptor;
+import com.reliaquest.api.config.HttpClientProperties;
+import com.reliaquest.api.dto.EmployeeChangesDTO;
+import com.reliaquest.api.dto.EmployeeDTO;
+import com.reliaquest.api.dto.ResponseDTO;
+import com.reliaquest.api.entity.Employee;
+import com.reliaquest.api.util.ResponseUtil;
+import com.reliaquest.api.util.SingleFlight;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ETag;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+
+/**
+ * Non-blocking counterpart of {@link EmployeeService}, used when {@code employee.api.mode=async}.
+ * <p>
+ * Upstream calls go through {@link HttpClient#sendAsync}, so no thread waits for the mock employee API. Results come
+ * from the same {@link RosterCache} as the blocking service, and failures surface as the same
+ * {@link HttpClientErrorException}/{@link HttpServerErrorException} types the {@code RestTemplate} throws. Since a
+ * waiting caller would hold a thread, a request without an immediately available rate limit permit fails with 429.
+ * The roster is kept current like the blocking service's, through the change feed and the list endpoint's ETag, but
+ * always read in a single response.
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(name = "employee.api.mode", havingValue = "async")
+public class AsyncEmployeeService {
+
+    private static final int TOP_EARNERS_LIMIT = 10;
+
+    private final HttpClient httpClient;
+    private final ObjectMapper objectMapper;
+    private final RosterCache rosterCache;
+    private final AdaptiveRateLimiter rateLimiter;
+    private final UpstreamCircuitBreaker circuitBreaker;
+    private final UpstreamMetricsInterceptor upstreamMetrics;
+    private final HttpClientProperties properties;
+    private final JavaType employeeResponseType;
+    private final JavaType employeeListResponseType;
+    private final JavaType employeeChangesResponseType;
+    private final boolean changeFeed;
+    private final SingleFlight<String, Employee> employeeFetches = new SingleFlight<>();
+
+    public AsyncEmployeeService(
+            HttpClient asyncHttpClient,
+            ObjectMapper objectMapper,
+            RosterCache rosterCache,
+            AdaptiveRateLimiter rateLimiter,
+            UpstreamCircuitBreaker circuitBreaker,
+            UpstreamMetricsInterceptor upstreamMetrics,
+            HttpClientProperties properties,
+            @Value("${employee.sync.change-feed:true}") boolean changeFeed) {
+        this.httpClient = asyncHttpClient;
+        this.objectMapper = objectMapper;
+        this.rosterCache = rosterCache;
+        this.rateLimiter = rateLimiter;
+        this.circuitBreaker = circuitBreaker;
+        this.upstreamMetrics = upstreamMetrics;
+        this.properties = properties;
+        this.employeeResponseType = objectMapper.constructType(ResponseUtil.EMPLOYEE_RESPONSE.getType());
+        this.employeeListResponseType = objectMapper.constructType(ResponseUtil.EMPLOYEE_LIST_RESPONSE.getType());
+        this.employeeChangesResponseType = objectMapper.constructType(ResponseUtil.EMPLOYEE_CHANGES_RESPONSE.getType());
+        this.changeFeed = changeFeed;
+    }
+
+    public CompletableFuture<List<Employee>> fetchAllEmployees() {
+        return roster().thenApply(roster -> {
+            List<Employee> employees = roster.employees();
+            log.info("Total employees: {}", employees.size());
+            return employees;
+        });
+    }
+
+    public CompletableFuture<Employee> fetchEmployeeById(String employeeId) {
+        return rosterCache
+                .peek()
+                .flatMap(roster -> roster.findById(employeeId))
+                .map(CompletableFuture::completedFuture)
+                .orElseGet(() -> loadEmployee(employeeId))
+                .thenApply(employee -> {
+                    log.info("Fetched employee: {}", employee);
+                    return employee;
+                });
+    }
+
+    public CompletableFuture<List<Employee>> findEmployeesByNameMatchesOrContains(String nameToSearch) {
+        return roster().thenApply(roster -> {
+            List<Employee> matchedEmployees = roster.findByName(nameToSearch);
+            log.info("Found {} employees matching name: {}", matchedEmployees.size(), nameToSearch);
+            return matchedEmployees;
+        });
+    }
+
+    public CompletableFuture<Integer> fetchHighestSalaryAmongAllEmployees() {
+        return roster().thenApply(roster -> {
+            int highestSalary = roster.salaries().highestSalary();
+            log.info("Highest salary: {}", highestSalary);
+            return highestSalary;
+        });
+    }
+
+    public CompletableFuture<List<String>> fetchTopTenHighestEarningEmployeeNames() {
+        return roster().thenApply(roster -> {
+            List<String> topTenEarners = roster.salaries().topEarnerNames(TOP_EARNERS_LIMIT);
+            log.info("Top 10 earners: {}", topTenEarners);
+            return topTenEarners;
+        });
+    }
+
+    public CompletableFuture<Employee> saveEmployee(EmployeeDTO employeeDTO) {
+        HttpRequest request = request(TEST_DATA_API_URL)
+                .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .POST(HttpRequest.BodyPublishers.ofByteArray(toJson(employeeDTO)))
+                .build();
+        return this.<Employee>send(request, employeeResponseType).thenApply(employee -> {
+            if (employee != null) {
+                rosterCache.add(employee);
+            } else {
+                rosterCache.invalidate();
+            }
+            log.info("Saved employee: {}", employee);
+            return employee;
+        });
+    }
+
+    public CompletableFuture<String> deleteEmployeeById(String employeeId) {
+        HttpRequest request =
+                request(TEST_DATA_API_URL + URL_SEPARATOR + employeeId).DELETE().build();
+        return send(request, null).thenApply(ignored -> {
+            rosterCache.remove(employeeId);
+            log.info("Employee with ID: {} deleted successfully", employeeId);
+            return "Employee deleted successfully";
+        });
+    }
+
+    private CompletableFuture<Roster> roster() {
+        return rosterCache.syncAsync(this::syncRoster);
+    }
+
+    private CompletableFuture<RosterUpdate> syncRoster(Roster base) {
+        if (!changeFeed || base == null || base.upstreamVersion() == null) {
+            return loadAllEmployees(base);
+        }
+        HttpRequest request =
+                request(RosterPager.changesUrl(base.upstreamVersion())).GET().build();
+        return this.<EmployeeChangesDTO>send(request, employeeChangesResponseType)
+                .thenCompose(changes -> changes == null || changes.isResync()
+                        ? loadAllEmployees(base)
+                        : CompletableFuture.completedFuture(RosterPager.changesOf(base, changes)));
+    }
+
+    /**
+     * Sends the version of {@code base} as If-None-Match; a 304 keeps the cached roster as it is.
+     */
+    private CompletableFuture<RosterUpdate> loadAllEmployees(Roster base) {
+        String knownVersion = base == null ? null : base.upstreamVersion();
+        HttpRequest.Builder request = request(TEST_DATA_API_URL).GET();
+        if (knownVersion != null) {
+            request.header(HttpHeaders.IF_NONE_MATCH, new ETag(knownVersion, false).formattedTag());
+        }
+        return exchange(request.build()).thenApply(response -> {
+            List<Employee> employees = decode(response, employeeListResponseType);
+            if (knownVersion != null && response.statusCode() == HttpStatus.NOT_MODIFIED.value()) {
+                return RosterUpdate.changes(base, List.of(), knownVersion);
+            }
+            String version = RosterPager.versionOf(
+                    response.headers().firstValue(HttpHeaders.ETAG).orElse(null));
+            return RosterUpdate.full(employees == null ? List.of() : employees, version);
+        });
+    }
+
+    private CompletableFuture<Employee> loadEmployee(String employeeId) {
+        String getEmployeeByIdUrl = TEST_DATA_API_URL + URL_SEPARATOR + employeeId;
+        return employeeFetches.executeAsync(
+                getEmployeeByIdUrl, () -> send(request(getEmployeeByIdUrl).GET().build(), employeeResponseType));
+    }
+
+    private HttpRequest.Builder request(String url) {
+        return HttpRequest.newBuilder(URI.create(url))
+                .timeout(properties.getReadTimeout())
+                .header(HttpHeaders.ACCEPT, MediaType.APPLICATION_JSON_VALUE);
+    }
+
+    private <T> CompletableFuture<T> send(HttpRequest request, JavaType responseType) {
+        return exchange(request).thenApply(response -> decode(response, responseType));
+    }
+
+    private CompletableFuture<HttpResponse<byte[]>> exchange(HttpRequest request) {
+        UpstreamCircuitBreaker.Call call;
+        try {
+            call = circuitBreaker.enterNow();
+        } catch (RuntimeException exception) {
+            return CompletableFuture.failedFuture(exception);
+        }
+        try {
+            rateLimiter.acquireNow(RequestPriority.of(HttpMethod.valueOf(request.method())));
+        } catch (RuntimeException exception) {
+            call.abandon();
+            return CompletableFuture.failedFuture(exception);
+        }
+        final long started = System.nanoTime();
+        return httpClient
+                .sendAsync(request, HttpResponse.BodyHandlers.ofByteArray())
+                .whenComplete((response, failure) -> {
+                    int status = response == null ? 0 : response.statusCode();
+                    upstreamMetrics.record(request.method(), request.uri(), status, started);
+                    call.complete(
+                            status,
+                            response == null
+                                    ? null
+                                    : AdaptiveRateLimiter.parseRetryAfter(response.headers()
+                                            .firstValue(HttpHeaders.RETRY_AFTER)
+                                            .orElse(null)));
+                });
+    }
+
+    private <T> T decode(HttpResponse<byte[]> response, JavaType responseType) {
+        HttpStatusCode status = HttpStatusCode.valueOf(response.statusCode());
+        if (status.isSameCodeAs(HttpStatus.TOO_MANY_REQUESTS)) {
+            rateLimiter.onThrottled(AdaptiveRateLimiter.parseRetryAfter(
+                    response.headers().firstValue(HttpHeaders.RETRY_AFTER).orElse(null)));
+        } else {
+            rateLimiter.onSuccess();
+        }
+        if (status.is4xxClientError()) {
+            throw HttpClientErrorException.create(
+                    status, reasonPhrase(status), new HttpHeaders(), response.body(), StandardCharsets.UTF_8);
+        }
+        if (status.is5xxServerError()) {
+            throw HttpServerErrorException.create(
+                    status, reasonPhrase(status), new HttpHeaders(), response.body(), StandardCharsets.UTF_8);
+        }
+        if (responseType == null || response.body().length == 0) {
+            return null;
+        }
+        try {
+            ResponseDTO<T> body = objectMapper.readValue(response.body(), responseType);
+            return body == null ? null : body.getData();
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+
+    private byte[] toJson(Object value) {
+        try {
+            return objectMapper.writeValueAsBytes(value);
+        } catch (JsonProcessingException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+
+    private static String reasonPhrase(HttpStatusCode status) {
+        HttpStatus httpStatus = HttpStatus.resolve(status.value());
+        return httpStatus == null ? "" : httpStatus.getReasonPhrase();
+    }
+}
@@ -0,0 +1,265 @@
+package com.reliaquest.api.service;
+
+import static com.reliaquest.api.service.EmployeeService.TEST_DATA_API_URL;
+
+import com.reliaquest.api.dto.BulkCreateResultDTO;
+import com.reliaquest.api.dto.EmployeeDTO;
+import com.reliaquest.api.entity.Employee;
+import com.reliaquest.api.util.ResponseUtil;
+import jakarta.annotation.PreDestroy;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.RestTemplate;
+
+/**
+ * Coalesces employee creates into upstream bulk requests, so a burst of creates spends one rate limit permit.
+ */
+@Slf4j
+@Component
+public class EmployeeBatchWriter {
+
+    static final String BULK_PATH = "/bulk";
+    static final Duration SHUTDOWN_TIMEOUT = Duration.ofSeconds(5);
+
+    private final RestTemplate restTemplate;
+    private final boolean enabled;
+    private final int maxSize;
+    private final long windowNanos;
+    private final ScheduledExecutorService scheduler;
+    private final ExecutorService sender;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private List<Pending> pending = new ArrayList<>();
+    private ScheduledFuture<?> scheduledFlush;
+    private boolean closed;
+
+    @Autowired
+    public EmployeeBatchWriter(
+            RestTemplate restTemplate,
+            @Value("${employee.batch.enabled:false}") boolean enabled,
+            @Value("${employee.batch.max-size:100}") int maxSize,
+            @Value("${employee.batch.window:10ms}") Duration window,
+            @Value("${employee.batch.max-in-flight:4}") int maxInFlight) {
+        this(
+                restTemplate,
+                enabled,
+                maxSize,
+                window,
+                enabled ? newScheduler() : null,
+                enabled ? newSender(maxInFlight) : null);
+    }
+
+    EmployeeBatchWriter(
+            RestTemplate restTemplate,
+            boolean enabled,
+            int maxSize,
+            Duration window,
+            ScheduledExecutorService scheduler,
+            ExecutorService sender) {
+        this.restTemplate = restTemplate;
+        this.enabled = enabled;
+        this.maxSize = Math.max(1, maxSize);
+        this.windowNanos = window.toNanos();
+        this.scheduler = scheduler;
+        this.sender = sender;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Creates {@code employeeDTO} as part of the next batch and waits for its result.
+     */
+    public Employee save(EmployeeDTO employeeDTO) {
+        try {
+            return submit(employeeDTO).join();
+        } catch (CompletionException exception) {
+            if (exception.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw exception;
+        }
+    }
+
+    public CompletableFuture<Employee> submit(EmployeeDTO employeeDTO) {
+        Pending item = new Pending(employeeDTO, new CompletableFuture<>());
+        if (scheduler == null) {
+            send(List.of(item));
+            return item.result();
+        }
+        List<Pending> full = null;
+        lock.lock();
+        try {
+            if (closed) {
+                item.result().completeExceptionally(new IllegalStateException("Employee batch writer is shut down"));
+                return item.result();
+            }
+            pending.add(item);
+            if (pending.size() >= maxSize) {
+                full = drain();
+            } else if (pending.size() == 1) {
+                scheduledFlush = scheduler.schedule(this::flush, windowNanos, TimeUnit.NANOSECONDS);
+            }
+        } finally {
+            lock.unlock();
+        }
+        if (full != null) {
+            send(full);
+        }
+        return item.result();
+    }
+
+    private void flush() {
+        List<Pending> batch = drainNow();
+        if (batch.isEmpty()) {
+            return;
+        }
+        try {
+            sender.execute(() -> send(batch));
+        } catch (RejectedExecutionException exception) {
+            send(batch);
+        }
+    }
+
+    private List<Pending> drainNow() {
+        lock.lock();
+        try {
+            return drain();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private List<Pending> drain() {
+        List<Pending> batch = pending;
+        pending = new ArrayList<>();
+        if (scheduledFlush != null) {
+            scheduledFlush.cancel(false);
+            scheduledFlush = null;
+        }
+        return batch;
+    }
+
+    private void send(List<Pending> batch) {
+        List<BulkCreateResultDTO> results;
+        try {
+            List<EmployeeDTO> employees = batch.stream().map(Pending::employee).toList();
+            results = ResponseUtil.extractListData(restTemplate.exchange(
+                    TEST_DATA_API_URL + BULK_PATH,
+                    HttpMethod.POST,
+                    new HttpEntity<>(employees),
+                    ResponseUtil.BULK_CREATE_RESPONSE));
+        } catch (RuntimeException exception) {
+            log.error("Bulk create of {} employees failed: {}", batch.size(), exception.getMessage());
+            batch.forEach(item -> item.result().completeExceptionally(exception));
+            return;
+        }
+        log.debug("Sent {} employees in one bulk create", batch.size());
+        for (int i = 0; i < batch.size(); i++) {
+            BulkCreateResultDTO result = i < results.size() ? results.get(i) : null;
+            CompletableFuture<Employee> future = batch.get(i).result();
+            if (result != null && result.getEmployee() != null) {
+                future.complete(result.getEmployee());
+            } else if (result != null && result.getError() != null) {
+                future.completeExceptionally(rejected(result.getError()));
+            } else {
+                future.completeExceptionally(new IllegalStateException("No bulk create result for employee " + i));
+            }
+        }
+    }
+
+    private static HttpClientErrorException rejected(String error) {
+        return HttpClientErrorException.create(
+                error,
+                HttpStatus.BAD_REQUEST,
+                HttpStatus.BAD_REQUEST.getReasonPhrase(),
+                HttpHeaders.EMPTY,
+                error.getBytes(StandardCharsets.UTF_8),
+                StandardCharsets.UTF_8);
+    }
+
+    private static ScheduledExecutorService newScheduler() {
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("employee-batch-");
+        threadFactory.setDaemon(true);
+        return Executors.newSingleThreadScheduledExecutor(threadFactory);
+    }
+
+    private static ExecutorService newSender(int maxInFlight) {
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("employee-batch-send-");
+        threadFactory.setDaemon(true);
+        return new ThreadPoolExecutor(
+                0,
+                Math.max(1, maxInFlight),
+                60,
+                TimeUnit.SECONDS,
+                new SynchronousQueue<>(),
+                threadFactory,
+                EmployeeBatchWriter::runOnCaller);
+    }
+
+    /**
+     * Like {@link ThreadPoolExecutor.CallerRunsPolicy}, but refuses instead of dropping the send once shut down.
+     */
+    private static void runOnCaller(Runnable send, ThreadPoolExecutor sender) {
+        if (sender.isShutdown()) {
+            throw new RejectedExecutionException("Bulk create sender is shut down");
+        }
+        send.run();
+    }
+
+    /**
+     * Refuses further saves, sends what is waiting and gives sends in flight up to {@link #SHUTDOWN_TIMEOUT} each.
+     */
+    @PreDestroy
+    void shutdown() throws InterruptedException {
+        if (scheduler == null) {
+            return;
+        }
+        List<Pending> batch;
+        lock.lock();
+        try {
+            closed = true;
+            batch = drain();
+        } finally {
+            lock.unlock();
+        }
+        scheduler.shutdown();
+        if (!batch.isEmpty()) {
+            send(batch);
+        }
+        // a flush already running hands its batch to the sender, so the sender is shut down after the scheduler
+        if (!scheduler.awaitTermination(SHUTDOWN_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS)) {
+            log.warn("Batch flush still running after {}", SHUTDOWN_TIMEOUT);
+        }
+        sender.shutdown();
+        if (!sender.awaitTermination(SHUTDOWN_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS)) {
+            log.warn("Bulk creates still in flight after {}, abandoning them", SHUTDOWN_TIMEOUT);
+        }
+    }
+
+    private record Pending(EmployeeDTO employee, CompletableFuture<Employee> result) {}
+}
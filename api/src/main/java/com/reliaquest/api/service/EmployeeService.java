@@ -1,88 +1,281 @@
 package com.reliaquest.api.service;
 
+import com.reliaquest.api.cache.Roster;
+import com.reliaquest.api.cache.RosterCache;
+import com.reliaquest.api.client.UpstreamUnavailableException;
 import com.reliaquest.api.dto.EmployeeDTO;
-import com.reliaquest.api.dto.ResponseDTO;
 import com.reliaquest.api.entity.Employee;
+import com.reliaquest.api.index.SalaryReducer;
 import com.reliaquest.api.util.ResponseUtil;
-import java.util.Comparator;
+import com.reliaquest.api.util.SingleFlight;
+import java.time.Duration;
 import java.util.List;
-import java.util.PriorityQueue;
-import lombok.RequiredArgsConstructor;
+import java.util.function.Function;
+import java.util.function.Supplier;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpMethod;
 import org.springframework.stereotype.Service;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.HttpStatusCodeException;
 import org.springframework.web.client.RestTemplate;
 
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class EmployeeService {
 
-    private static final String TEST_DATA_API_URL = "http://localhost:8112/api/v1/employee";
+    static final String TEST_DATA_API_URL = "http://localhost:8112/api/v1/employee";
     public static final String URL_SEPARATOR = "/";
+    static final String SEARCH_URL = TEST_DATA_API_URL + "/search?name={name}";
+    static final String HIGHEST_SALARY_URL = TEST_DATA_API_URL + "/salary/max";
+    static final String TOP_EARNERS_URL = TEST_DATA_API_URL + "/salary/top?limit={limit}";
+    private static final int TOP_EARNERS_LIMIT = 10;
     private final RestTemplate restTemplate;
+    private final RosterCache rosterCache;
+    private final RosterPager rosterPager;
+    private final EmployeeBatchWriter batchWriter;
+    private final boolean streamingAggregation;
+    private final boolean queryPushdown;
+    private final boolean servesLastKnownGood;
+    private volatile boolean queryEndpointsAvailable = true;
+    private final SingleFlight<String, Employee> employeeFetches = new SingleFlight<>();
+    private final SingleFlight<String, SalaryReducer> salaryStreams = new SingleFlight<>();
+
+    @Autowired
+    public EmployeeService(
+            RestTemplate restTemplate,
+            RosterCache rosterCache,
+            RosterPager rosterPager,
+            EmployeeBatchWriter batchWriter,
+            @Value("${employee.aggregation.streaming:false}") boolean streamingAggregation,
+            @Value("${employee.query.pushdown:false}") boolean queryPushdown,
+            @Value("${employee.circuit-breaker.serve-last-known-good:true}") boolean servesLastKnownGood) {
+        this.restTemplate = restTemplate;
+        this.rosterCache = rosterCache;
+        this.rosterPager = rosterPager;
+        this.batchWriter = batchWriter;
+        this.streamingAggregation = streamingAggregation;
+        this.queryPushdown = queryPushdown;
+        this.servesLastKnownGood = servesLastKnownGood;
+    }
+
+    EmployeeService(RestTemplate restTemplate, RosterCache rosterCache) {
+        this(
+                restTemplate,
+                rosterCache,
+                new RosterPager(restTemplate, 0, 1, true, Runnable::run),
+                new EmployeeBatchWriter(restTemplate, false, 1, Duration.ZERO, null, null),
+                false,
+                false,
+                true);
+    }
 
     public List<Employee> fetchAllEmployees() {
-        ResponseDTO<List<Employee>> response = restTemplate.getForObject(TEST_DATA_API_URL, ResponseDTO.class);
-        List<Employee> employees = ResponseUtil.extractListData(response, Employee.class);
+        List<Employee> employees = withFallback(() -> roster().employees(), Roster::employees);
         log.info("Total employees: {}", employees.size());
         return employees;
     }
 
+    private Roster roster() {
+        return rosterCache.sync(rosterPager::fetchSince);
+    }
+
+    /**
+     * Runs {@code upstream}, or while the upstream circuit is open answers from the last known good roster with
+     * {@code fromRoster}. Fails with the breaker's 503 when there is no such roster or serving it is switched off.
+     */
+    private <T> T withFallback(Supplier<T> upstream, Function<Roster, T> fromRoster) {
+        try {
+            return upstream.get();
+        } catch (UpstreamUnavailableException exception) {
+            return fromRoster.apply(lastKnownGood(exception));
+        }
+    }
+
+    private Roster lastKnownGood(UpstreamUnavailableException exception) {
+        if (!servesLastKnownGood) {
+            throw exception;
+        }
+        Roster roster = rosterCache.lastKnownGood().orElseThrow(() -> exception);
+        log.debug("{}, answering from the last known good roster", exception.getMessage());
+        return roster;
+    }
+
     public Employee fetchEmployeeById(String employeeId) {
-        String getEmployeeByIdUrl = TEST_DATA_API_URL + URL_SEPARATOR + employeeId;
-        ResponseDTO<Employee> response = restTemplate.getForObject(getEmployeeByIdUrl, ResponseDTO.class);
-        Employee employee = ResponseUtil.extractData(response, Employee.class);
+        Employee employee = rosterCache
+                .getIfCached(rosterPager::fetchSince)
+                .flatMap(roster -> roster.findById(employeeId))
+                .orElseGet(() -> loadEmployee(employeeId));
         log.info("Fetched employee: {}", employee);
         return employee;
     }
 
+    private Employee loadEmployee(String employeeId) {
+        try {
+            return fetchEmployee(employeeId);
+        } catch (UpstreamUnavailableException exception) {
+            return lastKnownGood(exception).findById(employeeId).orElseThrow(() -> exception);
+        }
+    }
+
+    private Employee fetchEmployee(String employeeId) {
+        String getEmployeeByIdUrl = TEST_DATA_API_URL + URL_SEPARATOR + employeeId;
+        return employeeFetches.execute(
+                getEmployeeByIdUrl,
+                () -> ResponseUtil.extractData(restTemplate.exchange(
+                        getEmployeeByIdUrl, HttpMethod.GET, null, ResponseUtil.EMPLOYEE_RESPONSE)));
+    }
+
     public List<Employee> findEmployeesByNameMatchesOrContains(String nameToSearch) {
-        List<Employee> employees = fetchAllEmployees();
-        List<Employee> matchedEmployees = employees.stream()
-                .filter(employee -> employee.getEmployee_name().toLowerCase().contains(nameToSearch.toLowerCase()))
-                .toList();
+        List<Employee> matchedEmployees = withFallback(
+                () -> shouldPushDown()
+                        ? pushDown(
+                                () -> ResponseUtil.extractListData(restTemplate.exchange(
+                                        SEARCH_URL,
+                                        HttpMethod.GET,
+                                        null,
+                                        ResponseUtil.EMPLOYEE_LIST_RESPONSE,
+                                        nameToSearch)),
+                                () -> roster().findByName(nameToSearch))
+                        : roster().findByName(nameToSearch),
+                roster -> roster.findByName(nameToSearch));
         log.info("Found {} employees matching name: {}", matchedEmployees.size(), nameToSearch);
         return matchedEmployees;
     }
 
     public Integer fetchHighestSalaryAmongAllEmployees() {
-        List<Employee> employees = fetchAllEmployees();
-        int highestSalary =
-                employees.stream().mapToInt(Employee::getEmployee_salary).max().orElse(0);
+        int highestSalary = withFallback(
+                () -> shouldPushDown()
+                        ? pushDown(this::queryHighestSalary, () -> roster().salaries()
+                                .highestSalary())
+                        : shouldStream()
+                                ? streamSalaries().highestSalary()
+                                : roster().salaries().highestSalary(),
+                roster -> roster.salaries().highestSalary());
         log.info("Highest salary: {}", highestSalary);
         return highestSalary;
     }
 
     public List<String> fetchTopTenHighestEarningEmployeeNames() {
-        List<Employee> employees = fetchAllEmployees();
-
-        PriorityQueue<Employee> priorityQueue =
-                new PriorityQueue<>(Comparator.comparingInt(Employee::getEmployee_salary));
-        for (Employee employee : employees) {
-            priorityQueue.offer(employee);
-            if (priorityQueue.size() > 10) {
-                priorityQueue.poll();
+        List<String> topTenEarners = withFallback(
+                () -> shouldPushDown()
+                        ? pushDown(this::queryTopEarnerNames, () -> roster().salaries()
+                                .topEarnerNames(TOP_EARNERS_LIMIT))
+                        : shouldStream()
+                                ? streamSalaries().topEarnerNames()
+                                : roster().salaries().topEarnerNames(TOP_EARNERS_LIMIT),
+                roster -> roster.salaries().topEarnerNames(TOP_EARNERS_LIMIT));
+        log.info("Top 10 earners: {}", topTenEarners);
+        return topTenEarners;
+    }
+
+    /**
+     * With query pushdown on, searches and salary queries that find no cached roster are answered by the upstream's
+     * query endpoints, which send back only the result instead of the whole roster. A cached roster answers them
+     * locally without a request.
+     */
+    private boolean shouldPushDown() {
+        return queryPushdown && queryEndpointsAvailable && rosterCache.peek().isEmpty();
+    }
+
+    /**
+     * Runs {@code query} against the upstream, or {@code fallback} from then on if the upstream has no query endpoints.
+     * A 500 is ambiguous, as a server without them routes {@code /search} to the lookup by id, so it is only taken to
+     * mean that once {@code /salary/max} answers 404 as well; otherwise it reaches the caller.
+     */
+    private <T> T pushDown(Supplier<T> query, Supplier<T> fallback) {
+        try {
+            return query.get();
+        } catch (HttpClientErrorException.NotFound
+                | HttpClientErrorException.MethodNotAllowed
+                | HttpServerErrorException.NotImplemented exception) {
+            return withoutPushDown(exception, fallback);
+        } catch (HttpServerErrorException.InternalServerError exception) {
+            if (!lacksQueryEndpoints()) {
+                throw exception;
             }
+            return withoutPushDown(exception, fallback);
         }
+    }
+
+    private boolean lacksQueryEndpoints() {
+        try {
+            queryHighestSalary();
+            return false;
+        } catch (HttpClientErrorException.NotFound | HttpClientErrorException.MethodNotAllowed exception) {
+            return true;
+        } catch (RuntimeException exception) {
+            return false;
+        }
+    }
 
-        List<String> topTenEarners = priorityQueue.stream()
-                .sorted(Comparator.comparingInt(Employee::getEmployee_salary).reversed())
+    private <T> T withoutPushDown(HttpStatusCodeException exception, Supplier<T> fallback) {
+        log.warn(
+                "Upstream answered a query endpoint with {}, answering queries from the roster instead",
+                exception.getStatusCode());
+        queryEndpointsAvailable = false;
+        return fallback.get();
+    }
+
+    private int queryHighestSalary() {
+        Integer highestSalary = ResponseUtil.extractData(
+                restTemplate.exchange(HIGHEST_SALARY_URL, HttpMethod.GET, null, ResponseUtil.INTEGER_RESPONSE));
+        return highestSalary == null ? 0 : highestSalary;
+    }
+
+    private List<String> queryTopEarnerNames() {
+        return ResponseUtil.extractListData(restTemplate.exchange(
+                        TOP_EARNERS_URL, HttpMethod.GET, null, ResponseUtil.EMPLOYEE_LIST_RESPONSE, TOP_EARNERS_LIMIT))
+                .stream()
                 .map(Employee::getEmployee_name)
                 .toList();
+    }
 
-        log.info("Top 10 earners: {}", topTenEarners);
-        return topTenEarners;
+    /**
+     * With streaming aggregation on, salary queries that find no cached roster reduce the upstream payload as it is
+     * parsed instead of loading, decoding and indexing the whole roster. A cached roster, even an expired one, answers
+     * them locally, and concurrent salary queries share one stream, so a burst of them costs a single upstream call.
+     */
+    private boolean shouldStream() {
+        return streamingAggregation && rosterCache.peek().isEmpty();
     }
 
+    private SalaryReducer streamSalaries() {
+        return salaryStreams.execute(TEST_DATA_API_URL, () -> {
+            SalaryReducer reducer = new SalaryReducer(TOP_EARNERS_LIMIT);
+            rosterPager.streamSalaries(reducer);
+            log.debug("Streamed salaries of {} employees", reducer.count());
+            return reducer;
+        });
+    }
+
+    /**
+     * With {@code employee.batch.enabled} on, concurrent saves are coalesced into upstream bulk creates by
+     * {@link EmployeeBatchWriter}.
+     */
     public Employee saveEmployee(EmployeeDTO employeeDTO) {
-        ResponseDTO<Employee> response = restTemplate.postForObject(TEST_DATA_API_URL, employeeDTO, ResponseDTO.class);
-        Employee employee = ResponseUtil.extractData(response, Employee.class);
+        Employee employee = batchWriter.isEnabled()
+                ? batchWriter.save(employeeDTO)
+                : ResponseUtil.extractData(restTemplate.exchange(
+                        TEST_DATA_API_URL,
+                        HttpMethod.POST,
+                        new HttpEntity<>(employeeDTO),
+                        ResponseUtil.EMPLOYEE_RESPONSE));
+        if (employee != null) {
+            rosterCache.add(employee);
+        } else {
+            rosterCache.invalidate();
+        }
         log.info("Saved employee: {}", employee);
         return employee;
     }
 
     public String deleteEmployeeById(String employeeId) {
         restTemplate.delete(TEST_DATA_API_URL + URL_SEPARATOR + employeeId);
+        rosterCache.remove(employeeId);
         log.info("Employee with ID: {} deleted successfully", employeeId);
         return "Employee deleted successfully";
     }
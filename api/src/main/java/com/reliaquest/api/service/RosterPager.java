@@ -0,0 +1,268 @@
+package com.reliaquest.api.service;
+
+import static com.reliaquest.api.service.EmployeeService.TEST_DATA_API_URL;
+
+import com.reliaquest.api.cache.Roster;
+import com.reliaquest.api.cache.RosterUpdate;
+import com.reliaquest.api.client.RequestPriority;
+import com.reliaquest.api.dto.EmployeeChangeDTO;
+import com.reliaquest.api.dto.EmployeeChangesDTO;
+import com.reliaquest.api.dto.ResponseDTO;
+import com.reliaquest.api.entity.Employee;
+import com.reliaquest.api.util.ResponseUtil;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.ObjIntConsumer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ETag;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestTemplate;
+import org.springframework.web.util.UriComponentsBuilder;
+
+/**
+ * Reads the upstream roster, in pages with {@code employee.paging.page-size} set, or catches up from the change feed.
+ */
+@Slf4j
+@Component
+public class RosterPager {
+
+    static final String CHANGES_PATH = "/changes";
+
+    private final RestTemplate restTemplate;
+    private final int pageSize;
+    private final int parallelism;
+    private final boolean changeFeed;
+    private final Executor executor;
+    private final ExecutorService ownedExecutor;
+    private volatile Fetched lastFetched;
+
+    @Autowired
+    public RosterPager(
+            RestTemplate restTemplate,
+            @Value("${employee.paging.page-size:0}") int pageSize,
+            @Value("${employee.paging.parallelism:1}") int parallelism,
+            @Value("${employee.sync.change-feed:true}") boolean changeFeed) {
+        this(restTemplate, pageSize, parallelism, changeFeed, slicePool(parallelism));
+    }
+
+    public RosterPager(
+            RestTemplate restTemplate, int pageSize, int parallelism, boolean changeFeed, Executor executor) {
+        this.restTemplate = restTemplate;
+        this.pageSize = pageSize;
+        this.parallelism = Math.max(1, parallelism);
+        this.changeFeed = changeFeed;
+        this.executor = executor;
+        this.ownedExecutor = executor instanceof SlicePool pool ? pool : null;
+    }
+
+    /**
+     * Bounded pool for the slices of concurrent fetches; a slice that finds it full runs on the calling thread.
+     */
+    private static Executor slicePool(int parallelism) {
+        if (parallelism <= 1) {
+            return Runnable::run;
+        }
+        SlicePool pool = new SlicePool(parallelism);
+        pool.allowCoreThreadTimeOut(true);
+        return pool;
+    }
+
+    @PreDestroy
+    void shutdown() {
+        if (ownedExecutor != null) {
+            ownedExecutor.shutdownNow();
+        }
+    }
+
+    public List<Employee> fetchAll() {
+        return fetchFull().employees();
+    }
+
+    /**
+     * Loads the changes since {@code base}'s version from the change feed when it can, otherwise the complete roster.
+     */
+    public RosterUpdate fetchSince(Roster base) {
+        if (!changeFeed || base == null || base.upstreamVersion() == null) {
+            Fetched fetched = fetchFull();
+            return RosterUpdate.full(fetched.employees(), fetched.version());
+        }
+        EmployeeChangesDTO changes = ResponseUtil.extractData(restTemplate.exchange(
+                changesUrl(base.upstreamVersion()), HttpMethod.GET, null, ResponseUtil.EMPLOYEE_CHANGES_RESPONSE));
+        if (changes == null || changes.isResync()) {
+            log.debug("Upstream no longer has changes since {}, resyncing", base.upstreamVersion());
+            Fetched fetched = fetchFull();
+            return RosterUpdate.full(fetched.employees(), fetched.version());
+        }
+        Fetched previous = lastFetched;
+        if (previous != null && !previous.version().equals(changes.getVersion())) {
+            // the deltas leave the last full list behind, and its tag could only ever miss
+            lastFetched = null;
+        }
+        return changesOf(base, changes);
+    }
+
+    static String changesUrl(String since) {
+        return UriComponentsBuilder.fromHttpUrl(TEST_DATA_API_URL + CHANGES_PATH)
+                .queryParam("since", since)
+                .toUriString();
+    }
+
+    static RosterUpdate changesOf(Roster base, EmployeeChangesDTO changes) {
+        List<RosterUpdate.Change> updates = new ArrayList<>();
+        for (EmployeeChangeDTO change :
+                changes.getChanges() == null ? List.<EmployeeChangeDTO>of() : changes.getChanges()) {
+            if (EmployeeChangeDTO.CREATED.equals(change.getType()) && change.getEmployee() != null) {
+                updates.add(RosterUpdate.Change.created(change.getEmployee()));
+            } else if (EmployeeChangeDTO.DELETED.equals(change.getType()) && change.getId() != null) {
+                updates.add(RosterUpdate.Change.deleted(change.getId()));
+            }
+        }
+        return RosterUpdate.changes(base, updates, changes.getVersion());
+    }
+
+    private Fetched fetchFull() {
+        Fetched previous = lastFetched;
+        ResponseEntity<ResponseDTO<List<Employee>>> response = restTemplate.exchange(
+                pageSize <= 0 ? TEST_DATA_API_URL : pageUrl(0, null),
+                HttpMethod.GET,
+                previous == null ? null : ifNoneMatch(previous.version()),
+                ResponseUtil.EMPLOYEE_LIST_RESPONSE);
+        if (previous != null && response != null && response.getStatusCode().isSameCodeAs(HttpStatus.NOT_MODIFIED)) {
+            log.debug(
+                    "Roster not modified upstream, reusing {} employees",
+                    previous.employees().size());
+            return previous;
+        }
+        ResponseDTO<List<Employee>> first = response == null ? null : response.getBody();
+        List<Employee> employees = new ArrayList<>(data(first));
+        Long nextCursor = first == null ? null : first.getNextCursor();
+        if (pageSize > 0 && nextCursor != null) {
+            if (parallelism == 1 || first.getLastCursor() == null) {
+                fetchRange(nextCursor, null, employees);
+            } else {
+                fetchRangesConcurrently(nextCursor, first.getLastCursor(), employees);
+            }
+            log.debug("Fetched {} employees in pages of {}", employees.size(), pageSize);
+        }
+        String version =
+                response == null ? null : versionOf(response.getHeaders().getETag());
+        Fetched fetched = new Fetched(version, employees);
+        lastFetched = version == null ? null : fetched;
+        return fetched;
+    }
+
+    /**
+     * Streams every employee's name and salary to {@code sink}, in roster order, one page at a time.
+     */
+    public void streamSalaries(ObjIntConsumer<String> sink) {
+        Long cursor = 0L;
+        do {
+            String url = pageSize <= 0 ? TEST_DATA_API_URL : pageUrl(cursor, null);
+            cursor = restTemplate.execute(
+                    url,
+                    HttpMethod.GET,
+                    request -> request.getHeaders().setAccept(List.of(MediaType.APPLICATION_JSON)),
+                    response -> ResponseUtil.streamSalaries(response.getBody(), sink));
+        } while (pageSize > 0 && cursor != null);
+    }
+
+    private void fetchRangesConcurrently(long after, long lastCursor, List<Employee> employees) {
+        int slices = (int) Math.max(1, Math.min(parallelism, lastCursor - after));
+        long width = Math.max(1, (lastCursor - after + slices - 1) / slices);
+        List<CompletableFuture<List<Employee>>> pages = new ArrayList<>(slices);
+        for (int slice = 0; slice < slices; slice++) {
+            long from = after + slice * width;
+            Long until = slice == slices - 1 ? null : from + width;
+            pages.add(CompletableFuture.supplyAsync(
+                    RequestPriority.inheritedBy(() -> fetchRange(from, until, new ArrayList<>())), executor));
+        }
+        try {
+            pages.forEach(page -> employees.addAll(page.join()));
+        } catch (CompletionException exception) {
+            if (exception.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw exception;
+        }
+    }
+
+    private List<Employee> fetchRange(long after, Long until, List<Employee> employees) {
+        Long cursor = after;
+        while (cursor != null) {
+            ResponseDTO<List<Employee>> page = fetchPage(cursor, until);
+            employees.addAll(data(page));
+            cursor = page == null ? null : page.getNextCursor();
+        }
+        return employees;
+    }
+
+    private ResponseDTO<List<Employee>> fetchPage(long cursor, Long until) {
+        return restTemplate
+                .exchange(pageUrl(cursor, until), HttpMethod.GET, null, ResponseUtil.EMPLOYEE_LIST_RESPONSE)
+                .getBody();
+    }
+
+    private String pageUrl(long cursor, Long until) {
+        UriComponentsBuilder url = UriComponentsBuilder.fromHttpUrl(TEST_DATA_API_URL)
+                .queryParam("limit", pageSize)
+                .queryParam("cursor", cursor);
+        if (until != null) {
+            url.queryParam("end_cursor", until);
+        }
+        return url.toUriString();
+    }
+
+    private static HttpEntity<Void> ifNoneMatch(String version) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setIfNoneMatch(new ETag(version, false).formattedTag());
+        return new HttpEntity<>(headers);
+    }
+
+    static String versionOf(String entityTag) {
+        if (entityTag == null) {
+            return null;
+        }
+        List<ETag> tags = ETag.parse(entityTag);
+        return tags.isEmpty() || tags.get(0).weak() ? null : tags.get(0).tag();
+    }
+
+    private static List<Employee> data(ResponseDTO<List<Employee>> page) {
+        return page == null || page.getData() == null ? List.of() : page.getData();
+    }
+
+    /**
+     * @param version the upstream version the employees were read at, the unquoted value of its ETag
+     */
+    private record Fetched(String version, List<Employee> employees) {}
+
+    private static final class SlicePool extends ThreadPoolExecutor {
+
+        SlicePool(int threads) {
+            super(
+                    threads,
+                    threads,
+                    60,
+                    TimeUnit.SECONDS,
+                    new ArrayBlockingQueue<>(threads),
+                    new CustomizableThreadFactory("roster-pager-"),
+                    new ThreadPoolExecutor.CallerRunsPolicy());
+        }
+    }
+}
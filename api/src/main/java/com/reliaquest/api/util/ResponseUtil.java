@@ -1,32 +1,111 @@
 package com.reliaquest.api.util;
 
-import com.fasterxml.jackson.databind.DeserializationFeature;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.type.TypeFactory;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.reliaquest.api.dto.BulkCreateResultDTO;
+import com.reliaquest.api.dto.EmployeeChangesDTO;
 import com.reliaquest.api.dto.ResponseDTO;
+import com.reliaquest.api.entity.Employee;
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.Collections;
 import java.util.List;
+import java.util.function.ObjIntConsumer;
 import lombok.experimental.UtilityClass;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.ResponseEntity;
 
+/**
+ * Response types of the mock employee API and helpers to unwrap them.
+ * <p>
+ * Responses are decoded straight into these parameterized types by the message converters, which share Spring's
+ * configured {@code ObjectMapper}, so {@code data} never goes through an intermediate {@code Map} representation.
+ * Aggregations that only need names and salaries can skip decoding altogether with
+ * {@link #streamSalaries(InputStream, ObjIntConsumer)}.
+ */
 @UtilityClass
 public class ResponseUtil {
 
-    private static final ObjectMapper OBJECT_MAPPER =
-            new ObjectMapper().configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+    public static final ParameterizedTypeReference<ResponseDTO<Employee>> EMPLOYEE_RESPONSE =
+            new ParameterizedTypeReference<>() {};
 
-    public static <T> T extractData(ResponseDTO<?> response, Class<T> targetClass) {
-        if (response == null || response.getData() == null) {
+    public static final ParameterizedTypeReference<ResponseDTO<List<Employee>>> EMPLOYEE_LIST_RESPONSE =
+            new ParameterizedTypeReference<>() {};
+
+    public static final ParameterizedTypeReference<ResponseDTO<Integer>> INTEGER_RESPONSE =
+            new ParameterizedTypeReference<>() {};
+
+    public static final ParameterizedTypeReference<ResponseDTO<EmployeeChangesDTO>> EMPLOYEE_CHANGES_RESPONSE =
+            new ParameterizedTypeReference<>() {};
+
+    public static final ParameterizedTypeReference<ResponseDTO<List<BulkCreateResultDTO>>> BULK_CREATE_RESPONSE =
+            new ParameterizedTypeReference<>() {};
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    public static <T> T extractData(ResponseEntity<ResponseDTO<T>> response) {
+        if (response == null || response.getBody() == null) {
             return null;
         }
-        return OBJECT_MAPPER.convertValue(response.getData(), targetClass);
+        return response.getBody().getData();
     }
 
-    public static <T> List<T> extractListData(ResponseDTO<?> response, Class<T> targetClass) {
-        if (response == null || response.getData() == null) {
+    public static <T> List<T> extractListData(ResponseEntity<ResponseDTO<List<T>>> response) {
+        if (response == null || response.getBody() == null || response.getBody().getData() == null) {
             return Collections.emptyList();
         }
-        TypeFactory typeFactory = OBJECT_MAPPER.getTypeFactory();
-        return OBJECT_MAPPER.convertValue(
-                response.getData(), typeFactory.constructCollectionType(List.class, targetClass));
+        return response.getBody().getData();
+    }
+
+    /**
+     * Walks an employee list response token by token and hands each employee's name and salary to {@code sink}, in
+     * roster order, without creating {@link Employee} objects. A missing or null salary is reported as 0. The stream is
+     * closed when done.
+     *
+     * @return the response's {@code next_cursor}, or {@code null} if it has none
+     */
+    public static Long streamSalaries(InputStream body, ObjIntConsumer<String> sink) throws IOException {
+        Long nextCursor = null;
+        try (JsonParser parser = JSON_FACTORY.createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                return null;
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken value = parser.nextToken();
+                if (value == JsonToken.START_ARRAY && "data".equals(field)) {
+                    streamEmployees(parser, sink);
+                } else if (value == JsonToken.VALUE_NUMBER_INT && "next_cursor".equals(field)) {
+                    nextCursor = parser.getLongValue();
+                } else {
+                    parser.skipChildren();
+                }
+            }
+        }
+        return nextCursor;
+    }
+
+    private static void streamEmployees(JsonParser parser, ObjIntConsumer<String> sink) throws IOException {
+        for (JsonToken token = parser.nextToken();
+                token != null && token != JsonToken.END_ARRAY;
+                token = parser.nextToken()) {
+            if (token != JsonToken.START_OBJECT) {
+                parser.skipChildren();
+                continue;
+            }
+            String name = null;
+            int salary = 0;
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken value = parser.nextToken();
+                switch (field) {
+                    case "employee_name" -> name = value == JsonToken.VALUE_NULL ? null : parser.getText();
+                    case "employee_salary" -> salary = value.isNumeric() ? parser.getValueAsInt() : 0;
+                    default -> parser.skipChildren();
+                }
+            }
+            sink.accept(name, salary);
+        }
     }
 }
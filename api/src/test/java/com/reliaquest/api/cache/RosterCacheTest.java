@@ -0,0 +1,203 @@
+package com.reliaquest.api.cache;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.api.entity.Employee;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+class RosterCacheTest {
+
+    private final Employee devki = new Employee("1", "Devki", 100, 30, "Engineer", "dev123@test.com");
+    private final Employee pooja = new Employee("2", "pooja", 200, 28, "Manager", "pooja123@test.com");
+
+    @Test
+    void testGet_LoadsOnceWithinTtl() {
+        RosterCache rosterCache = new RosterCache(Duration.ofMinutes(1), Runnable::run);
+        AtomicInteger loads = new AtomicInteger();
+
+        rosterCache.get(() -> {
+            loads.incrementAndGet();
+            return List.of(devki);
+        });
+        List<Employee> employees = rosterCache
+                .get(() -> {
+                    loads.incrementAndGet();
+                    return List.of(devki, pooja);
+                })
+                .employees();
+
+        assertEquals(1, loads.get());
+        assertEquals(List.of(devki), employees);
+    }
+
+    @Test
+    void testGet_ServesStaleWhileRefreshing() {
+        List<Runnable> pendingRefreshes = new ArrayList<>();
+        RosterCache rosterCache = new RosterCache(Duration.ZERO, pendingRefreshes::add);
+
+        rosterCache.get(() -> List.of(devki));
+        List<Employee> stale = rosterCache.get(() -> List.of(devki, pooja)).employees();
+        rosterCache.get(() -> List.of(devki, pooja));
+
+        assertEquals(List.of(devki), stale);
+        assertEquals(1, pendingRefreshes.size());
+
+        pendingRefreshes.get(0).run();
+        assertEquals(List.of(devki, pooja), rosterCache.get(List::of).employees());
+    }
+
+    @Test
+    void testGet_KeepsStaleSnapshotWhenRefreshFails() {
+        RosterCache rosterCache = new RosterCache(Duration.ZERO, Runnable::run);
+
+        rosterCache.get(() -> List.of(devki));
+        List<Employee> employees = rosterCache
+                .get(() -> {
+                    throw new IllegalStateException("Too Many Requests");
+                })
+                .employees();
+
+        assertEquals(List.of(devki), employees);
+    }
+
+    @Test
+    void testGetIfCached_RefreshesExpiredRosterWithoutLoadingMissing() {
+        List<Runnable> pendingRefreshes = new ArrayList<>();
+        RosterCache rosterCache = new RosterCache(Duration.ZERO, pendingRefreshes::add);
+
+        assertTrue(rosterCache
+                .getIfCached(base -> RosterUpdate.full(List.of(devki), null))
+                .isEmpty());
+        rosterCache.get(() -> List.of(devki));
+        Roster stale = rosterCache
+                .getIfCached(base -> RosterUpdate.full(List.of(devki, pooja), null))
+                .orElseThrow();
+
+        assertEquals(List.of(devki), stale.employees());
+        assertEquals(1, pendingRefreshes.size());
+        pendingRefreshes.get(0).run();
+        assertEquals(List.of(devki, pooja), rosterCache.peek().orElseThrow().employees());
+    }
+
+    @Test
+    void testGet_SameListKeepsRoster() {
+        RosterCache rosterCache = new RosterCache(Duration.ZERO, Runnable::run);
+        List<Employee> employees = List.of(devki, pooja);
+
+        Roster loaded = rosterCache.get(() -> employees);
+        rosterCache.get(() -> employees);
+
+        assertSame(loaded, rosterCache.peek().orElseThrow());
+
+        rosterCache.get(() -> List.of(devki));
+        assertNotSame(loaded, rosterCache.peek().orElseThrow());
+    }
+
+    @Test
+    void testSync_AppliesUpstreamChangesInPlace() {
+        RosterCache rosterCache = new RosterCache(Duration.ZERO, Runnable::run);
+        Roster loaded = rosterCache.sync(base -> RosterUpdate.full(List.of(devki), "e-1"));
+
+        rosterCache.sync(base -> RosterUpdate.changes(
+                base, List.of(RosterUpdate.Change.created(pooja), RosterUpdate.Change.deleted("1")), "e-3"));
+
+        Roster synced = rosterCache.peek().orElseThrow();
+        assertSame(loaded, synced);
+        assertEquals(List.of(pooja), synced.employees());
+        assertEquals(200, synced.salaries().highestSalary());
+        assertEquals("e-3", synced.upstreamVersion());
+    }
+
+    @Test
+    void testSync_DiscardsChangesForReplacedRoster() {
+        RosterCache rosterCache = new RosterCache(Duration.ZERO, Runnable::run);
+        rosterCache.sync(base -> RosterUpdate.full(List.of(devki), "e-1"));
+
+        rosterCache.sync(base -> {
+            rosterCache.remove("1");
+            return RosterUpdate.changes(base, List.of(RosterUpdate.Change.created(pooja)), "e-2");
+        });
+
+        assertTrue(rosterCache.peek().orElseThrow().employees().isEmpty());
+        assertEquals("e-1", rosterCache.peek().orElseThrow().upstreamVersion());
+    }
+
+    @Test
+    void testSyncAsync_KeepsVersionAndAppliesChangesInPlace() {
+        RosterCache rosterCache = new RosterCache(Duration.ZERO, Runnable::run);
+        Roster loaded = rosterCache
+                .syncAsync(base -> CompletableFuture.completedFuture(RosterUpdate.full(List.of(devki), "e-1")))
+                .join();
+        assertEquals("e-1", loaded.upstreamVersion());
+
+        rosterCache.syncAsync(base -> CompletableFuture.completedFuture(
+                RosterUpdate.changes(base, List.of(RosterUpdate.Change.created(pooja)), "e-2")));
+
+        Roster synced = rosterCache.peek().orElseThrow();
+        assertSame(loaded, synced);
+        assertEquals(List.of(devki, pooja), synced.employees());
+        assertEquals("e-2", synced.upstreamVersion());
+    }
+
+    @Test
+    void testInvalidate_ForcesReload() {
+        RosterCache rosterCache = new RosterCache(Duration.ofMinutes(1), Runnable::run);
+
+        rosterCache.get(() -> List.of(devki));
+        rosterCache.invalidate();
+
+        assertEquals(
+                List.of(devki, pooja),
+                rosterCache.get(() -> List.of(devki, pooja)).employees());
+    }
+
+    @Test
+    void testAddAndRemove_AppliedToCachedRoster() {
+        RosterCache rosterCache = new RosterCache(Duration.ofMinutes(1), Runnable::run);
+        Employee chauhan = new Employee("3", "Chauhan", 300, 40, "Director", "chauhan@test.com");
+
+        rosterCache.get(() -> List.of(devki, pooja));
+        rosterCache.add(chauhan);
+        rosterCache.remove("1");
+        Roster roster = rosterCache.get(List::of);
+
+        assertEquals(List.of(pooja, chauhan), roster.employees());
+        assertEquals(300, roster.salaries().highestSalary());
+    }
+
+    @Test
+    void testAdd_DiscardsRefreshStartedBeforeWrite() {
+        List<Runnable> pendingRefreshes = new ArrayList<>();
+        RosterCache rosterCache = new RosterCache(Duration.ZERO, pendingRefreshes::add);
+        Employee chauhan = new Employee("3", "Chauhan", 300, 40, "Director", "chauhan@test.com");
+
+        rosterCache.get(() -> List.of(devki));
+        rosterCache.get(() -> {
+            rosterCache.add(chauhan);
+            return List.of(devki);
+        });
+        pendingRefreshes.get(0).run();
+
+        assertEquals(List.of(devki, chauhan), rosterCache.get(List::of).employees());
+    }
+
+    @Test
+    void testInvalidate_DiscardsRefreshStartedBeforeWrite() {
+        List<Runnable> pendingRefreshes = new ArrayList<>();
+        RosterCache rosterCache = new RosterCache(Duration.ZERO, pendingRefreshes::add);
+
+        rosterCache.get(() -> List.of(devki));
+        rosterCache.get(() -> {
+            rosterCache.invalidate();
+            return List.of(devki);
+        });
+        pendingRefreshes.get(0).run();
+
+        assertEquals(-1, rosterCache.version());
+    }
+}
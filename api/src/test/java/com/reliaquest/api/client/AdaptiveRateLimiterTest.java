@@ -0,0 +1,89 @@
+package com.reliaquest.api.client;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.client.HttpClientErrorException;
+
+class AdaptiveRateLimiterTest {
+
+    private final AtomicLong clock = new AtomicLong();
+    private final AdaptiveRateLimiter rateLimiter =
+            new AdaptiveRateLimiter(4, 10, Duration.ofSeconds(60), Duration.ZERO, clock::get);
+
+    @Test
+    void testAcquire_ReadsLeavePermitsForWrites() {
+        rateLimiter.acquire(RequestPriority.READ);
+        rateLimiter.acquire(RequestPriority.READ);
+        rateLimiter.acquire(RequestPriority.READ);
+
+        assertThrows(HttpClientErrorException.TooManyRequests.class, () -> rateLimiter.acquire(RequestPriority.READ));
+        assertDoesNotThrow(() -> rateLimiter.acquire(RequestPriority.WRITE));
+    }
+
+    @Test
+    void testAcquire_BackgroundNeverTakesLastForegroundPermits() {
+        rateLimiter.acquire(RequestPriority.BACKGROUND);
+        rateLimiter.acquire(RequestPriority.BACKGROUND);
+
+        assertThrows(
+                HttpClientErrorException.TooManyRequests.class, () -> rateLimiter.acquire(RequestPriority.BACKGROUND));
+        assertDoesNotThrow(() -> rateLimiter.acquire(RequestPriority.READ));
+    }
+
+    @Test
+    void testAcquire_PermitsRefillOverWindow() {
+        for (int i = 0; i < 4; i++) {
+            rateLimiter.acquire(RequestPriority.WRITE);
+        }
+        assertThrows(HttpClientErrorException.TooManyRequests.class, () -> rateLimiter.acquire(RequestPriority.WRITE));
+
+        clock.addAndGet(Duration.ofSeconds(15).toNanos());
+
+        assertDoesNotThrow(() -> rateLimiter.acquire(RequestPriority.WRITE));
+    }
+
+    @Test
+    void testOnSuccess_WakesWaiterToRecomputeWait() throws Exception {
+        AdaptiveRateLimiter waitingLimiter =
+                new AdaptiveRateLimiter(1, 10, Duration.ofSeconds(60), Duration.ofMinutes(5), clock::get);
+        waitingLimiter.acquire(RequestPriority.WRITE);
+        CompletableFuture<Void> waiter =
+                CompletableFuture.runAsync(() -> waitingLimiter.acquire(RequestPriority.WRITE));
+        Thread.sleep(100);
+        assertFalse(waiter.isDone());
+
+        // half a window at the raised limit of 2 permits per window refills the one permit needed
+        clock.addAndGet(Duration.ofSeconds(30).toNanos());
+        waitingLimiter.onSuccess();
+
+        assertDoesNotThrow(() -> waiter.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void testOnThrottled_HalvesLimitAndBlocksUntilRetryAfter() {
+        rateLimiter.onThrottled(Duration.ofSeconds(30));
+
+        assertEquals(2, rateLimiter.limit());
+        clock.addAndGet(Duration.ofSeconds(29).toNanos());
+        assertThrows(HttpClientErrorException.TooManyRequests.class, () -> rateLimiter.acquire(RequestPriority.WRITE));
+
+        clock.addAndGet(Duration.ofSeconds(2).toNanos());
+        assertDoesNotThrow(() -> rateLimiter.acquire(RequestPriority.WRITE));
+    }
+
+    @Test
+    void testOnSuccess_AdditiveIncreaseUpToMax() {
+        rateLimiter.onSuccess();
+        assertEquals(4.25, rateLimiter.limit());
+
+        for (int i = 0; i < 1000; i++) {
+            rateLimiter.onSuccess();
+        }
+        assertEquals(10, rateLimiter.limit());
+    }
+}
@@ -0,0 +1,64 @@
+package com.reliaquest.api.client;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.net.URI;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.mock.http.client.MockClientHttpRequest;
+import org.springframework.mock.http.client.MockClientHttpResponse;
+
+class CircuitBreakerInterceptorTest {
+
+    private final AtomicLong clock = new AtomicLong();
+    private final UpstreamCircuitBreaker circuitBreaker =
+            new UpstreamCircuitBreaker(true, 3, Duration.ofSeconds(30), 2, Duration.ZERO, clock::get);
+    private final CircuitBreakerInterceptor interceptor = new CircuitBreakerInterceptor(circuitBreaker);
+    private final MockClientHttpRequest request =
+            new MockClientHttpRequest(HttpMethod.GET, URI.create("http://localhost:8112/api/v1/employee"));
+
+    @Test
+    void testIntercept_HoldsBulkheadSlotUntilResponseClosed() throws IOException {
+        MockClientHttpResponse upstream = new MockClientHttpResponse(new byte[] {'{', '}'}, HttpStatus.OK);
+
+        ClientHttpResponse response = interceptor.intercept(request, new byte[0], (r, body) -> upstream);
+
+        assertEquals(1, circuitBreaker.activeCalls());
+        assertEquals(2, response.getBody().readAllBytes().length);
+        response.close();
+        response.close();
+        assertEquals(0, circuitBreaker.activeCalls());
+        assertEquals(UpstreamCircuitBreaker.State.CLOSED, circuitBreaker.state());
+    }
+
+    @Test
+    void testIntercept_LockoutOpeningCircuitRefusedLikeOpenCircuit() {
+        MockClientHttpResponse upstream = new MockClientHttpResponse(new byte[0], HttpStatus.TOO_MANY_REQUESTS);
+        upstream.getHeaders().set(HttpHeaders.RETRY_AFTER, "60");
+
+        UpstreamUnavailableException exception = assertThrows(
+                UpstreamUnavailableException.class,
+                () -> interceptor.intercept(request, new byte[0], (r, body) -> upstream));
+
+        assertEquals("60", exception.getResponseHeaders().getFirst(HttpHeaders.RETRY_AFTER));
+        assertEquals(UpstreamCircuitBreaker.State.OPEN, circuitBreaker.state());
+        assertEquals(0, circuitBreaker.activeCalls());
+    }
+
+    @Test
+    void testIntercept_ThrottledWithoutOpeningCircuitPassedThrough() throws IOException {
+        MockClientHttpResponse upstream = new MockClientHttpResponse(new byte[0], HttpStatus.TOO_MANY_REQUESTS);
+
+        try (ClientHttpResponse response = interceptor.intercept(request, new byte[0], (r, body) -> upstream)) {
+            assertEquals(HttpStatus.TOO_MANY_REQUESTS, response.getStatusCode());
+        }
+        assertEquals(UpstreamCircuitBreaker.State.CLOSED, circuitBreaker.state());
+        assertEquals(0, circuitBreaker.activeCalls());
+    }
+}
@@ -0,0 +1,93 @@
+package com.reliaquest.api.client;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+
+class UpstreamCircuitBreakerTest {
+
+    private final AtomicLong clock = new AtomicLong();
+    private final UpstreamCircuitBreaker circuitBreaker =
+            new UpstreamCircuitBreaker(true, 3, Duration.ofSeconds(30), 2, Duration.ZERO, clock::get);
+
+    @Test
+    void testEnter_OpensAfterConsecutiveFailures() {
+        circuitBreaker.enter().complete(429, null);
+        circuitBreaker.enter().complete(500, null);
+        circuitBreaker.enter().complete(404, null);
+        circuitBreaker.enter().complete(503, null);
+        circuitBreaker.enter().complete(0, null);
+        assertEquals(UpstreamCircuitBreaker.State.CLOSED, circuitBreaker.state());
+
+        circuitBreaker.enter().complete(429, null);
+
+        assertEquals(UpstreamCircuitBreaker.State.OPEN, circuitBreaker.state());
+        UpstreamUnavailableException exception =
+                assertThrows(UpstreamUnavailableException.class, circuitBreaker::enter);
+        assertEquals("30", exception.getResponseHeaders().getFirst("Retry-After"));
+        assertEquals(1, circuitBreaker.openRejections());
+    }
+
+    @Test
+    void testEnter_OpensAtOnceForLockoutUntilRetryAfter() {
+        circuitBreaker.enter().complete(429, Duration.ofSeconds(1));
+        assertEquals(UpstreamCircuitBreaker.State.CLOSED, circuitBreaker.state());
+
+        circuitBreaker.enter().complete(429, Duration.ofSeconds(80));
+        assertEquals(UpstreamCircuitBreaker.State.OPEN, circuitBreaker.state());
+
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(31));
+        assertThrows(UpstreamUnavailableException.class, circuitBreaker::enter);
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(50));
+        assertEquals(UpstreamCircuitBreaker.State.HALF_OPEN, circuitBreaker.state());
+    }
+
+    @Test
+    void testEnter_HalfOpenLetsOneProbeThrough() {
+        for (int i = 0; i < 3; i++) {
+            circuitBreaker.enter().complete(500, null);
+        }
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(30));
+
+        UpstreamCircuitBreaker.Call probe = circuitBreaker.enter();
+        assertThrows(UpstreamUnavailableException.class, circuitBreaker::enter);
+        probe.complete(500, null);
+        assertEquals(UpstreamCircuitBreaker.State.OPEN, circuitBreaker.state());
+
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(30));
+        circuitBreaker.enter().complete(200, null);
+        assertEquals(UpstreamCircuitBreaker.State.CLOSED, circuitBreaker.state());
+        assertDoesNotThrow(() -> circuitBreaker.enter().complete(200, null));
+    }
+
+    @Test
+    void testEnter_AbandonedProbeFreesTheSlot() {
+        for (int i = 0; i < 3; i++) {
+            circuitBreaker.enter().complete(500, null);
+        }
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(30));
+
+        circuitBreaker.enter().abandon();
+
+        assertEquals(UpstreamCircuitBreaker.State.HALF_OPEN, circuitBreaker.state());
+        assertDoesNotThrow(() -> circuitBreaker.enter().complete(200, null));
+    }
+
+    @Test
+    void testEnter_BulkheadRefusesCallsBeyondLimit() {
+        UpstreamCircuitBreaker.Call first = circuitBreaker.enter();
+        UpstreamCircuitBreaker.Call second = circuitBreaker.enter();
+
+        assertThrows(UpstreamUnavailableException.class, circuitBreaker::enter);
+        assertEquals(2, circuitBreaker.activeCalls());
+        assertEquals(1, circuitBreaker.bulkheadRejections());
+
+        first.complete(200, null);
+        second.complete(200, null);
+        assertEquals(0, circuitBreaker.activeCalls());
+        assertEquals(UpstreamCircuitBreaker.State.CLOSED, circuitBreaker.state());
+    }
+}
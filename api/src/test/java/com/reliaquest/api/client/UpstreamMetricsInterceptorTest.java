@@ -0,0 +1,48 @@
+package com.reliaquest.api.client;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.net.URI;
+import org.junit.jupiter.api.Test;
+
+class UpstreamMetricsInterceptorTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final UpstreamMetricsInterceptor interceptor = new UpstreamMetricsInterceptor(meterRegistry);
+
+    @Test
+    void testRoute_FoldsIdsAndDropsQueries() {
+        assertEquals(
+                "/api/v1/employee",
+                UpstreamMetricsInterceptor.route(URI.create("http://localhost:8112/api/v1/employee?cursor=10")));
+        assertEquals(
+                "/api/v1/employee/salary/top",
+                UpstreamMetricsInterceptor.route(
+                        URI.create("http://localhost:8112/api/v1/employee/salary/top?limit=10")));
+        assertEquals(
+                "/api/v1/employee/{id}",
+                UpstreamMetricsInterceptor.route(
+                        URI.create("http://localhost:8112/api/v1/employee/4b0c2b1e-0f4e-4a53-9d52-1b4f8a7b6c55")));
+    }
+
+    @Test
+    void testRecord_TagsStatusAndOutcome() {
+        long started = System.nanoTime();
+        interceptor.record("GET", URI.create("http://localhost:8112/api/v1/employee/1"), 429, started);
+        interceptor.record("GET", URI.create("http://localhost:8112/api/v1/employee/2"), 429, started);
+        interceptor.record("GET", URI.create("http://localhost:8112/api/v1/employee"), 0, started);
+
+        Timer throttled = meterRegistry
+                .get(UpstreamMetricsInterceptor.METRIC)
+                .tags("route", "/api/v1/employee/{id}", "status", "429", "outcome", "CLIENT_ERROR")
+                .timer();
+        Timer failed = meterRegistry
+                .get(UpstreamMetricsInterceptor.METRIC)
+                .tags("status", "IO_ERROR", "outcome", "UNKNOWN")
+                .timer();
+        assertEquals(2, throttled.count());
+        assertEquals(1, failed.count());
+    }
+}
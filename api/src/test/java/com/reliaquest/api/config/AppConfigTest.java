@@ -0,0 +1,146 @@
+package com.reliaquest.api.config;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestTemplate;
+
+class AppConfigTest {
+
+    private final AppConfig appConfig = new AppConfig();
+    private final HttpClientProperties properties = new HttpClientProperties();
+    private PoolingHttpClientConnectionManager connectionManager;
+    private CloseableHttpClient httpClient;
+
+    @BeforeEach
+    void setUp() {
+        properties.setMaxConnections(7);
+        properties.setMaxConnectionsPerRoute(3);
+        properties.setConnectTimeout(Duration.ofMillis(300));
+        properties.setReadTimeout(Duration.ofMillis(400));
+        properties.setPoolAcquireTimeout(Duration.ofMillis(500));
+        properties.setConnectionTtl(Duration.ofSeconds(90));
+        properties.setIdleEviction(Duration.ofSeconds(10));
+        connectionManager = appConfig.employeeConnectionManager(properties);
+        httpClient = appConfig.employeeHttpClient(properties, connectionManager);
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        httpClient.close();
+        connectionManager.close();
+    }
+
+    @Test
+    void testConnectionManager_AppliesPoolLimits() {
+        assertEquals(7, connectionManager.getMaxTotal());
+        assertEquals(3, connectionManager.getDefaultMaxPerRoute());
+    }
+
+    @Test
+    void testConnectionConfig_AppliesTimeoutsAndTtl() {
+        ConnectionConfig connectionConfig = AppConfig.connectionConfig(properties);
+        RequestConfig requestConfig = AppConfig.requestConfig(properties);
+
+        assertEquals(Timeout.ofMilliseconds(300), connectionConfig.getConnectTimeout());
+        assertEquals(Timeout.ofMilliseconds(400), connectionConfig.getSocketTimeout());
+        assertEquals(TimeValue.ofSeconds(90), connectionConfig.getTimeToLive());
+        assertEquals(Timeout.ofMilliseconds(500), requestConfig.getConnectionRequestTimeout());
+        assertEquals(Timeout.ofMilliseconds(400), requestConfig.getResponseTimeout());
+    }
+
+    @Test
+    void testAsyncExecutor_ShutsDownThreadsOnClose() throws Exception {
+        properties.setAsyncThreads(2);
+        AppConfig.AsyncExecutor asyncExecutor = appConfig.employeeAsyncExecutor(properties, new MockEnvironment());
+        ThreadPoolTaskExecutor executor = assertInstanceOf(ThreadPoolTaskExecutor.class, asyncExecutor.executor());
+        CompletableFuture<String> thread =
+                CompletableFuture.supplyAsync(() -> Thread.currentThread().getName(), executor);
+
+        assertTrue(thread.get(5, TimeUnit.SECONDS).startsWith("employee-async-"));
+        assertEquals(2, executor.getMaxPoolSize());
+
+        asyncExecutor.close();
+
+        assertTrue(executor.getThreadPoolExecutor().isShutdown());
+    }
+
+    @Test
+    void testHttpClient_KeepsConnectionAliveBetweenRequests() throws IOException {
+        List<Integer> clientPorts = new CopyOnWriteArrayList<>();
+        HttpServer server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext("/", exchange -> {
+            clientPorts.add(exchange.getRemoteAddress().getPort());
+            byte[] body = "{}".getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(200, body.length);
+            exchange.getResponseBody().write(body);
+            exchange.close();
+        });
+        server.start();
+        try {
+            RestTemplate restTemplate = new RestTemplate(new HttpComponentsClientHttpRequestFactory(httpClient));
+            String url = "http://localhost:" + server.getAddress().getPort() + "/";
+
+            restTemplate.getForObject(url, String.class);
+            restTemplate.getForObject(url, String.class);
+
+            assertEquals(2, clientPorts.size());
+            assertEquals(clientPorts.get(0), clientPorts.get(1));
+            assertEquals(1, connectionManager.getTotalStats().getAvailable());
+        } finally {
+            server.stop(0);
+        }
+    }
+
+    @Test
+    void testHttpClient_TimesOutSilentUpstream() throws IOException {
+        try (ServerSocket silent = new ServerSocket(0, 1, InetAddress.getLoopbackAddress())) {
+            RestTemplate restTemplate = new RestTemplate(new HttpComponentsClientHttpRequestFactory(httpClient));
+            Thread acceptor = new Thread(() -> {
+                try {
+                    Socket accepted = silent.accept();
+                    try {
+                        Thread.sleep(5_000);
+                    } finally {
+                        accepted.close();
+                    }
+                } catch (IOException | InterruptedException exception) {
+                    // closed by the test
+                }
+            });
+            acceptor.start();
+
+            long started = System.nanoTime();
+            assertThrows(
+                    ResourceAccessException.class,
+                    () -> restTemplate.getForObject("http://localhost:" + silent.getLocalPort() + "/", String.class));
+
+            assertTrue(Duration.ofNanos(System.nanoTime() - started).compareTo(Duration.ofSeconds(3)) < 0);
+            acceptor.interrupt();
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.reliaquest.api.config;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.net.http.HttpClient;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
+
+@SpringBootTest(properties = "employee.api.mode=async")
+class AsyncModeContextTest {
+
+    @Autowired
+    private ApplicationContext context;
+
+    @Test
+    void testContext_KeepsApplicationTaskExecutorBesideAsyncExecutor() {
+        assertTrue(context.containsBean("applicationTaskExecutor"));
+        assertNotNull(context.getBean(AppConfig.AsyncExecutor.class));
+        assertTrue(context.getBean(HttpClient.class).executor().isPresent());
+    }
+}
@@ -0,0 +1,102 @@
+package com.reliaquest.api.controller;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.when;
+
+import com.reliaquest.api.dto.EmployeeDTO;
+import com.reliaquest.api.entity.Employee;
+import com.reliaquest.api.service.AsyncEmployeeService;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.client.HttpClientErrorException;
+
+class AsyncEmployeeControllerTest {
+
+    @Mock
+    private AsyncEmployeeService employeeService;
+
+    @InjectMocks
+    private AsyncEmployeeController employeeController;
+
+    private final List<Employee> employees =
+            List.of(new Employee("1", "Devki", 100, 30, "Engineer", "dev123@test.com"));
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+    }
+
+    @Test
+    void testGetAllEmployees_Success() throws Exception {
+        when(employeeService.fetchAllEmployees()).thenReturn(CompletableFuture.completedFuture(employees));
+
+        ResponseEntity<List<Employee>> response =
+                employeeController.getAllEmployees().get();
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(1, response.getBody().size());
+    }
+
+    @Test
+    void testGetAllEmployees_Empty() throws Exception {
+        when(employeeService.fetchAllEmployees())
+                .thenReturn(CompletableFuture.completedFuture(Collections.emptyList()));
+
+        ResponseEntity<List<Employee>> response =
+                employeeController.getAllEmployees().get();
+        assertEquals(HttpStatus.NO_CONTENT, response.getStatusCode());
+    }
+
+    @Test
+    void testGetAllEmployees_RateLimit() {
+        when(employeeService.fetchAllEmployees())
+                .thenReturn(CompletableFuture.failedFuture(
+                        new HttpClientErrorException(HttpStatus.TOO_MANY_REQUESTS, "Too Many Requests")));
+
+        ExecutionException exception = assertThrows(
+                ExecutionException.class,
+                () -> employeeController.getAllEmployees().get());
+        assertInstanceOf(HttpClientErrorException.class, exception.getCause());
+    }
+
+    @Test
+    void testGetHighestSalaryOfEmployees_Success() throws Exception {
+        when(employeeService.fetchHighestSalaryAmongAllEmployees()).thenReturn(CompletableFuture.completedFuture(100));
+
+        ResponseEntity<Integer> response =
+                employeeController.getHighestSalaryOfEmployees().get();
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(100, response.getBody());
+    }
+
+    @Test
+    void testCreateEmployee_Success() throws Exception {
+        EmployeeDTO employeeDTO = new EmployeeDTO("Devki", 5000, 35, "Staff Engg", "dev123@test.com");
+        when(employeeService.saveEmployee(employeeDTO)).thenReturn(CompletableFuture.completedFuture(employees.get(0)));
+
+        ResponseEntity<Employee> response =
+                employeeController.createEmployee(employeeDTO).get();
+        assertEquals(HttpStatus.CREATED, response.getStatusCode());
+        assertEquals("Devki", response.getBody().getEmployee_name());
+    }
+
+    @Test
+    void testDeleteEmployeeById_Success() throws Exception {
+        when(employeeService.deleteEmployeeById("1"))
+                .thenReturn(CompletableFuture.completedFuture("Employee deleted successfully"));
+
+        ResponseEntity<String> response =
+                employeeController.deleteEmployeeById("1").get();
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+    }
+}
@@ -0,0 +1,71 @@
+package com.reliaquest.api.index;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.api.entity.Employee;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class NameIndexTest {
+
+    private final NameIndex nameIndex = new NameIndex();
+
+    @BeforeEach
+    void setUp() {
+        nameIndex.add(0, employee("Devki Chauhan"));
+        nameIndex.add(1, employee("pooja"));
+        nameIndex.add(2, employee("CHAUHAN Pooja"));
+        nameIndex.add(3, employee(null));
+    }
+
+    @Test
+    void testSearch_CaseInsensitiveSubstring() {
+        assertEquals(List.of(0L, 2L), nameIndex.search("chauhan"));
+        assertEquals(List.of(1L, 2L), nameIndex.search("OOJ"));
+    }
+
+    @Test
+    void testSearch_RequiresContiguousMatch() {
+        assertTrue(nameIndex.search("auhand").isEmpty());
+        assertTrue(nameIndex.search("chapoo").isEmpty());
+    }
+
+    @Test
+    void testSearch_ShortQueriesScanFoldedNames() {
+        assertEquals(List.of(0L, 1L, 2L), nameIndex.search("A"));
+        assertEquals(List.of(0L, 1L, 2L), nameIndex.search(""));
+    }
+
+    @Test
+    void testRemove_DropsPostings() {
+        nameIndex.remove(2);
+
+        assertEquals(List.of(0L), nameIndex.search("chauhan"));
+        assertEquals(2, nameIndex.size());
+    }
+
+    @Test
+    void testAdd_RepeatedGramsInOneName() {
+        nameIndex.add(4, employee("Anana Banana"));
+        nameIndex.remove(4);
+
+        assertTrue(nameIndex.search("ana").isEmpty());
+    }
+
+    @Test
+    void testAdd_KeepsPostingsSortedAcrossGrowthAndRemoval() {
+        NameIndex index = new NameIndex();
+        for (int position = 20; position >= 0; position -= 2) {
+            index.add(position, employee("Kiran"));
+        }
+        index.add(7, employee("kiran"));
+        index.remove(10);
+
+        assertEquals(List.of(0L, 2L, 4L, 6L, 7L, 8L, 12L, 14L, 16L, 18L, 20L), index.search("kir"));
+    }
+
+    private static Employee employee(String name) {
+        return new Employee(null, name, 100, 30, "Engineer", "employee@test.com");
+    }
+}
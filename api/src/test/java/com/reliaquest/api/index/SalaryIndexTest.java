@@ -0,0 +1,71 @@
+package com.reliaquest.api.index;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.api.entity.Employee;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+class SalaryIndexTest {
+
+    private final SalaryIndex salaryIndex = new SalaryIndex();
+
+    @Test
+    void testHighestSalary_EmptyIndex() {
+        assertEquals(0, salaryIndex.highestSalary());
+        assertTrue(salaryIndex.topEarnerNames(10).isEmpty());
+    }
+
+    @Test
+    void testTopEarnerNames_OrderedBySalaryThenPosition() {
+        salaryIndex.add(0, employee("1", "Devki", 100));
+        salaryIndex.add(1, employee("2", "pooja", 300));
+        salaryIndex.add(2, employee("3", "Chauhan", 300));
+        salaryIndex.add(3, employee("4", "ABC", 50));
+
+        assertEquals(300, salaryIndex.highestSalary());
+        assertEquals(List.of("pooja", "Chauhan", "Devki"), salaryIndex.topEarnerNames(3));
+    }
+
+    @Test
+    void testRemove_UpdatesHighestSalary() {
+        Employee pooja = employee("2", "pooja", 300);
+        salaryIndex.add(0, employee("1", "Devki", 100));
+        salaryIndex.add(1, pooja);
+
+        salaryIndex.remove(1, pooja);
+
+        assertEquals(100, salaryIndex.highestSalary());
+        assertEquals(1, salaryIndex.size());
+    }
+
+    @Test
+    void testConcurrentUpdates_KeepIndexConsistent() throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        for (int thread = 0; thread < 4; thread++) {
+            int offset = thread * 1000;
+            executor.execute(() -> {
+                for (int i = offset; i < offset + 1000; i++) {
+                    Employee employee = employee(String.valueOf(i), "Employee" + i, i);
+                    salaryIndex.add(i, employee);
+                    if (i % 2 == 1) {
+                        salaryIndex.remove(i, employee);
+                    }
+                }
+            });
+        }
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+
+        assertEquals(2000, salaryIndex.size());
+        assertEquals(3998, salaryIndex.highestSalary());
+        assertEquals(List.of("Employee3998", "Employee3996"), salaryIndex.topEarnerNames(2));
+    }
+
+    private static Employee employee(String id, String name, int salary) {
+        return new Employee(id, name, salary, 30, "Engineer", name + "@test.com");
+    }
+}
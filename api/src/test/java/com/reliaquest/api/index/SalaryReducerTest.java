@@ -0,0 +1,46 @@
+package com.reliaquest.api.index;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.api.entity.Employee;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class SalaryReducerTest {
+
+    @Test
+    void testTopEarnerNames_HighestFirstTiesByArrival() {
+        SalaryReducer reducer = new SalaryReducer(3);
+        reducer.accept("Devki", 100);
+        reducer.accept("pooja", 300);
+        reducer.accept("Chauhan", 200);
+        reducer.accept("Tiger", 300);
+        reducer.accept("Bill", 50);
+
+        assertEquals(300, reducer.highestSalary());
+        assertEquals(List.of("pooja", "Tiger", "Chauhan"), reducer.topEarnerNames());
+        assertEquals(5, reducer.count());
+    }
+
+    @Test
+    void testTopEarnerNames_MatchesSalaryIndexOnLargeInput() {
+        SalaryReducer reducer = new SalaryReducer(10);
+        SalaryIndex index = new SalaryIndex();
+        for (int i = 0; i < 1000; i++) {
+            int salary = (i * 7919) % 500;
+            reducer.accept("Employee" + i, salary);
+            index.add(i, new Employee(null, "Employee" + i, salary, 30, null, null));
+        }
+
+        assertEquals(index.highestSalary(), reducer.highestSalary());
+        assertEquals(index.topEarnerNames(10), reducer.topEarnerNames());
+    }
+
+    @Test
+    void testEmpty() {
+        SalaryReducer reducer = new SalaryReducer(10);
+
+        assertEquals(0, reducer.highestSalary());
+        assertTrue(reducer.topEarnerNames().isEmpty());
+    }
+}
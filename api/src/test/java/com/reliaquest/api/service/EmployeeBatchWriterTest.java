@@ -0,0 +1,192 @@
+package com.reliaquest.api.service;
+
+import static com.reliaquest.api.util.ResponseUtil.BULK_CREATE_RESPONSE;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import com.reliaquest.api.dto.BulkCreateResultDTO;
+import com.reliaquest.api.dto.EmployeeDTO;
+import com.reliaquest.api.dto.ResponseDTO;
+import com.reliaquest.api.entity.Employee;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.RestTemplate;
+
+class EmployeeBatchWriterTest {
+
+    private static final String BULK_URL = "http://localhost:8112/api/v1/employee/bulk";
+
+    @Mock
+    private RestTemplate restTemplate;
+
+    private ScheduledExecutorService scheduler;
+
+    private ExecutorService sender;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        scheduler = Executors.newSingleThreadScheduledExecutor();
+        sender = Executors.newCachedThreadPool();
+    }
+
+    @AfterEach
+    void tearDown() {
+        scheduler.shutdownNow();
+        sender.shutdownNow();
+    }
+
+    @Test
+    void testSubmit_FullBatchMapsResultsBackToCallers() {
+        givenResults(
+                new BulkCreateResultDTO(employee("1", "Devki"), null),
+                new BulkCreateResultDTO(null, "salary: must be greater than 0"));
+        EmployeeBatchWriter writer =
+                new EmployeeBatchWriter(restTemplate, true, 2, Duration.ofMinutes(1), scheduler, sender);
+
+        CompletableFuture<Employee> first = writer.submit(dto("Devki"));
+        CompletableFuture<Employee> second = writer.submit(dto("Chauhan"));
+
+        assertEquals("1", first.join().getId());
+        CompletionException failure = assertThrows(CompletionException.class, second::join);
+        HttpClientErrorException rejected =
+                assertInstanceOf(HttpClientErrorException.BadRequest.class, failure.getCause());
+        assertEquals("salary: must be greater than 0", rejected.getResponseBodyAsString());
+        assertEquals(List.of("Devki", "Chauhan"), sentNames().get(0));
+    }
+
+    @Test
+    void testSubmit_WindowFlushesPartialBatch() throws Exception {
+        givenResults(new BulkCreateResultDTO(employee("1", "Devki"), null));
+        EmployeeBatchWriter writer =
+                new EmployeeBatchWriter(restTemplate, true, 100, Duration.ofMillis(20), scheduler, sender);
+
+        Employee employee = writer.submit(dto("Devki")).get(5, TimeUnit.SECONDS);
+
+        assertEquals("Devki", employee.getEmployee_name());
+        assertEquals(List.of(List.of("Devki")), sentNames());
+    }
+
+    @Test
+    void testSubmit_SlowBulkRequestDoesNotHoldBackNextWindow() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        when(restTemplate.exchange(eq(BULK_URL), eq(HttpMethod.POST), any(HttpEntity.class), eq(BULK_CREATE_RESPONSE)))
+                .thenAnswer(invocation -> {
+                    release.await(5, TimeUnit.SECONDS);
+                    return ResponseEntity.ok(new ResponseDTO<>(
+                            List.of(new BulkCreateResultDTO(employee("1", "Devki"), null)), "OK", null, null, null));
+                })
+                .thenReturn(ResponseEntity.ok(new ResponseDTO<>(
+                        List.of(new BulkCreateResultDTO(employee("2", "Chauhan"), null)), "OK", null, null, null)));
+        EmployeeBatchWriter writer =
+                new EmployeeBatchWriter(restTemplate, true, 100, Duration.ofMillis(20), scheduler, sender);
+
+        CompletableFuture<Employee> first = writer.submit(dto("Devki"));
+        verify(restTemplate, timeout(5_000))
+                .exchange(eq(BULK_URL), eq(HttpMethod.POST), any(HttpEntity.class), eq(BULK_CREATE_RESPONSE));
+        CompletableFuture<Employee> second = writer.submit(dto("Chauhan"));
+
+        assertEquals("2", second.get(5, TimeUnit.SECONDS).getId());
+        assertFalse(first.isDone());
+        release.countDown();
+        assertEquals("1", first.get(5, TimeUnit.SECONDS).getId());
+    }
+
+    @Test
+    void testShutdown_SendsWaitingBatch() throws Exception {
+        givenResults(new BulkCreateResultDTO(employee("1", "Devki"), null));
+        EmployeeBatchWriter writer =
+                new EmployeeBatchWriter(restTemplate, true, 100, Duration.ofMinutes(1), scheduler, sender);
+
+        CompletableFuture<Employee> pending = writer.submit(dto("Devki"));
+        writer.shutdown();
+
+        assertEquals("1", pending.getNow(null).getId());
+        assertTrue(sender.isShutdown());
+    }
+
+    @Test
+    void testSubmit_RefusedAfterShutdown() throws Exception {
+        EmployeeBatchWriter writer =
+                new EmployeeBatchWriter(restTemplate, true, 100, Duration.ofMillis(20), scheduler, sender);
+        writer.shutdown();
+
+        CompletableFuture<Employee> refused = writer.submit(dto("Devki"));
+
+        CompletionException failure = assertThrows(CompletionException.class, refused::join);
+        assertInstanceOf(IllegalStateException.class, failure.getCause());
+        verifyNoInteractions(restTemplate);
+    }
+
+    @Test
+    void testSubmit_WindowFlushSendsItselfWhenSenderShutDown() throws Exception {
+        givenResults(new BulkCreateResultDTO(employee("1", "Devki"), null));
+        EmployeeBatchWriter writer =
+                new EmployeeBatchWriter(restTemplate, true, 100, Duration.ofMillis(20), scheduler, sender);
+        sender.shutdown();
+
+        Employee employee = writer.submit(dto("Devki")).get(5, TimeUnit.SECONDS);
+
+        assertEquals("1", employee.getId());
+    }
+
+    @Test
+    void testSubmit_FailedBulkRequestFailsEveryCaller() {
+        when(restTemplate.exchange(eq(BULK_URL), eq(HttpMethod.POST), any(HttpEntity.class), eq(BULK_CREATE_RESPONSE)))
+                .thenThrow(HttpServerErrorException.InternalServerError.class);
+        EmployeeBatchWriter writer =
+                new EmployeeBatchWriter(restTemplate, true, 2, Duration.ofMinutes(1), scheduler, sender);
+
+        CompletableFuture<Employee> first = writer.submit(dto("Devki"));
+
+        assertThrows(HttpServerErrorException.class, () -> writer.save(dto("Chauhan")));
+        assertTrue(first.isCompletedExceptionally());
+        verify(restTemplate, times(1))
+                .exchange(eq(BULK_URL), eq(HttpMethod.POST), any(HttpEntity.class), eq(BULK_CREATE_RESPONSE));
+    }
+
+    private void givenResults(BulkCreateResultDTO... results) {
+        when(restTemplate.exchange(eq(BULK_URL), eq(HttpMethod.POST), any(HttpEntity.class), eq(BULK_CREATE_RESPONSE)))
+                .thenReturn(ResponseEntity.ok(new ResponseDTO<>(List.of(results), "OK", null, null, null)));
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<List<String>> sentNames() {
+        ArgumentCaptor<HttpEntity<List<EmployeeDTO>>> requests = ArgumentCaptor.forClass(HttpEntity.class);
+        verify(restTemplate, atLeastOnce())
+                .exchange(eq(BULK_URL), eq(HttpMethod.POST), requests.capture(), eq(BULK_CREATE_RESPONSE));
+        return requests.getAllValues().stream()
+                .map(request ->
+                        request.getBody().stream().map(EmployeeDTO::getName).toList())
+                .toList();
+    }
+
+    private static EmployeeDTO dto(String name) {
+        return new EmployeeDTO(name, 1000, 30, "Engineer", null);
+    }
+
+    private static Employee employee(String id, String name) {
+        Employee employee = new Employee();
+        employee.setId(id);
+        employee.setEmployee_name(name);
+        return employee;
+    }
+}
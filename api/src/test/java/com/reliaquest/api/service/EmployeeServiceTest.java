@@ -1,18 +1,49 @@
 package com.reliaquest.api.service;
 
+import static com.reliaquest.api.util.ResponseUtil.EMPLOYEE_LIST_RESPONSE;
+import static com.reliaquest.api.util.ResponseUtil.EMPLOYEE_RESPONSE;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
-
+import static org.springframework.test.web.client.ExpectedCount.once;
+import static org.springframework.test.web.client.ExpectedCount.twice;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withServerError;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withStatus;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.cache.RosterCache;
+import com.reliaquest.api.client.CircuitBreakerInterceptor;
+import com.reliaquest.api.client.UpstreamCircuitBreaker;
+import com.reliaquest.api.client.UpstreamUnavailableException;
 import com.reliaquest.api.dto.EmployeeDTO;
 import com.reliaquest.api.dto.ResponseDTO;
 import com.reliaquest.api.entity.Employee;
+import com.reliaquest.api.util.ResponseUtil;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.http.client.MockClientHttpResponse;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResponseExtractor;
 import org.springframework.web.client.RestTemplate;
 
 class EmployeeServiceTest {
@@ -21,26 +52,22 @@ class EmployeeServiceTest {
 
     private List<Employee> employees = new ArrayList<>();
 
-    private ResponseDTO mockResponse = new ResponseDTO();
-
     @Mock
     private RestTemplate restTemplate;
 
-    @InjectMocks
     private EmployeeService employeeService;
 
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
-        employeeService = new EmployeeService(restTemplate);
+        employeeService = new EmployeeService(restTemplate, new RosterCache(Duration.ofMinutes(1), Runnable::run));
         employees.add(new Employee("1", "Devki", 100, 30, "Engineer", "dev123@test.com"));
         employees.add(new Employee("2", "pooja", 200, 28, "Manager", "pooja123@test.com"));
     }
 
     @Test
     void testGetAllEmployees_Success() {
-        mockResponse.setData(employees);
-        when(restTemplate.getForObject(TEST_DATA_API_URL, ResponseDTO.class)).thenReturn(mockResponse);
+        givenRoster(employees);
 
         List<Employee> employees = employeeService.fetchAllEmployees();
         assertEquals(2, employees.size());
@@ -50,26 +77,66 @@ class EmployeeServiceTest {
 
     @Test
     void testGetAllEmployees_EmptyResponse() {
-        mockResponse.setData(null);
-        when(restTemplate.getForObject(TEST_DATA_API_URL, ResponseDTO.class)).thenReturn(mockResponse);
+        givenRoster(null);
 
         List<Employee> employees = employeeService.fetchAllEmployees();
         assertTrue(employees.isEmpty());
     }
 
+    @Test
+    void testGetAllEmployees_ServedFromCache() {
+        givenRoster(employees);
+
+        employeeService.fetchAllEmployees();
+        employeeService.fetchHighestSalaryAmongAllEmployees();
+        employeeService.fetchTopTenHighestEarningEmployeeNames();
+        employeeService.findEmployeesByNameMatchesOrContains("dev");
+
+        verify(restTemplate, times(1)).exchange(TEST_DATA_API_URL, HttpMethod.GET, null, EMPLOYEE_LIST_RESPONSE);
+    }
+
+    @Test
+    void testGetAllEmployees_WritesAppliedWithoutReload() {
+        givenRoster(employees);
+        EmployeeDTO employeeDTO = new EmployeeDTO("Chauhan", 300, 40, "Director", "chauhan@test.com");
+        when(restTemplate.exchange(
+                        TEST_DATA_API_URL, HttpMethod.POST, new HttpEntity<>(employeeDTO), EMPLOYEE_RESPONSE))
+                .thenReturn(ResponseEntity.ok(
+                        employeeResponse(new Employee("3", "Chauhan", 300, 40, "Director", "chauhan@test.com"))));
+
+        employeeService.fetchAllEmployees();
+        employeeService.saveEmployee(employeeDTO);
+        employeeService.deleteEmployeeById("2");
+
+        assertEquals(300, employeeService.fetchHighestSalaryAmongAllEmployees());
+        assertEquals(List.of("Chauhan", "Devki"), employeeService.fetchTopTenHighestEarningEmployeeNames());
+        assertEquals(2, employeeService.fetchAllEmployees().size());
+        verify(restTemplate, times(1)).exchange(TEST_DATA_API_URL, HttpMethod.GET, null, EMPLOYEE_LIST_RESPONSE);
+    }
+
     @Test
     void testGetEmployeeById_Success() {
-        mockResponse.setData(employees.get(0));
-        when(restTemplate.getForObject(TEST_DATA_API_URL + "/1", ResponseDTO.class))
-                .thenReturn(mockResponse);
+        when(restTemplate.exchange(TEST_DATA_API_URL + "/1", HttpMethod.GET, null, EMPLOYEE_RESPONSE))
+                .thenReturn(ResponseEntity.ok(employeeResponse(employees.get(0))));
 
         Employee employee = employeeService.fetchEmployeeById("1");
         assertNotNull(employee);
     }
 
+    @Test
+    void testGetEmployeeById_ServedFromCachedRoster() {
+        givenRoster(employees);
+
+        employeeService.fetchAllEmployees();
+        Employee employee = employeeService.fetchEmployeeById("2");
+
+        assertEquals("pooja", employee.getEmployee_name());
+        verify(restTemplate, never()).exchange(TEST_DATA_API_URL + "/2", HttpMethod.GET, null, EMPLOYEE_RESPONSE);
+    }
+
     @Test
     void testGetEmployeeById_Error() {
-        when(restTemplate.getForObject(TEST_DATA_API_URL + "/1", ResponseDTO.class))
+        when(restTemplate.exchange(TEST_DATA_API_URL + "/1", HttpMethod.GET, null, EMPLOYEE_RESPONSE))
                 .thenThrow(new RuntimeException("Service Unavailable"));
 
         Exception exception = assertThrows(RuntimeException.class, () -> employeeService.fetchEmployeeById("1"));
@@ -78,7 +145,7 @@ class EmployeeServiceTest {
 
     @Test
     void testGetEmployeeById_NotFound() {
-        when(restTemplate.getForObject(TEST_DATA_API_URL + "/2", ResponseDTO.class))
+        when(restTemplate.exchange(TEST_DATA_API_URL + "/2", HttpMethod.GET, null, EMPLOYEE_RESPONSE))
                 .thenReturn(null);
 
         Employee employee = employeeService.fetchEmployeeById("2");
@@ -87,8 +154,7 @@ class EmployeeServiceTest {
 
     @Test
     void testGetHighestSalary_Success() {
-        mockResponse.setData(employees);
-        when(restTemplate.getForObject(TEST_DATA_API_URL, ResponseDTO.class)).thenReturn(mockResponse);
+        givenRoster(employees);
 
         int highestSalary = employeeService.fetchHighestSalaryAmongAllEmployees();
         assertEquals(200, highestSalary);
@@ -96,8 +162,7 @@ class EmployeeServiceTest {
 
     @Test
     void testGetHighestSalary_NoEmployees() {
-        mockResponse.setData(new ArrayList<>());
-        when(restTemplate.getForObject(TEST_DATA_API_URL, ResponseDTO.class)).thenReturn(mockResponse);
+        givenRoster(new ArrayList<>());
 
         int highestSalary = employeeService.fetchHighestSalaryAmongAllEmployees();
         assertEquals(0, highestSalary);
@@ -105,8 +170,7 @@ class EmployeeServiceTest {
 
     @Test
     void testGetTopTenHighestEarningEmployeeNames_Success() {
-        mockResponse.setData(employees);
-        when(restTemplate.getForObject(TEST_DATA_API_URL, ResponseDTO.class)).thenReturn(mockResponse);
+        givenRoster(employees);
 
         List<String> topEmployees = employeeService.fetchTopTenHighestEarningEmployeeNames();
         assertEquals(2, topEmployees.size());
@@ -120,20 +184,221 @@ class EmployeeServiceTest {
             employeeList.add(
                     new Employee(String.valueOf(i), "Employee" + i, 100 + i, 30, "test", "employee" + i + "@test.com"));
         }
-        mockResponse.setData(employeeList);
-        when(restTemplate.getForObject(TEST_DATA_API_URL, ResponseDTO.class)).thenReturn(mockResponse);
+        givenRoster(employeeList);
 
         List<String> topEmployees = employeeService.fetchTopTenHighestEarningEmployeeNames();
         assertEquals(10, topEmployees.size());
     }
 
+    @Test
+    void testGetTopTenHighestEarningEmployees_StreamedWithoutCachedRoster() {
+        employeeService = streamingService();
+        byte[] payload = ("{\"data\":[{\"id\":\"1\",\"employee_name\":\"Devki\",\"employee_salary\":100},"
+                        + "{\"employee_salary\":300,\"employee_name\":\"Chauhan\",\"employee_age\":40},"
+                        + "{\"employee_name\":\"pooja\",\"employee_salary\":200,\"employee_title\":null}],"
+                        + "\"status\":\"Successfully processed request.\"}")
+                .getBytes(StandardCharsets.UTF_8);
+        when(restTemplate.execute(eq(TEST_DATA_API_URL), eq(HttpMethod.GET), any(), any()))
+                .thenAnswer(invocation -> invocation
+                        .<ResponseExtractor<?>>getArgument(3)
+                        .extractData(new MockClientHttpResponse(payload, HttpStatus.OK)));
+
+        assertEquals(300, employeeService.fetchHighestSalaryAmongAllEmployees());
+        assertEquals(List.of("Chauhan", "pooja", "Devki"), employeeService.fetchTopTenHighestEarningEmployeeNames());
+        verify(restTemplate, never()).exchange(TEST_DATA_API_URL, HttpMethod.GET, null, EMPLOYEE_LIST_RESPONSE);
+    }
+
+    @Test
+    void testGetHighestSalary_ConcurrentStreamsShareOneUpstreamCall() throws Exception {
+        employeeService = streamingService();
+        byte[] payload =
+                "{\"data\":[{\"employee_name\":\"Devki\",\"employee_salary\":100}]}".getBytes(StandardCharsets.UTF_8);
+        CountDownLatch streaming = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(restTemplate.execute(eq(TEST_DATA_API_URL), eq(HttpMethod.GET), any(), any()))
+                .thenAnswer(invocation -> {
+                    streaming.countDown();
+                    release.await(5, TimeUnit.SECONDS);
+                    return invocation
+                            .<ResponseExtractor<?>>getArgument(3)
+                            .extractData(new MockClientHttpResponse(payload, HttpStatus.OK));
+                });
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<Integer>> results = new ArrayList<>();
+            results.add(executor.submit(employeeService::fetchHighestSalaryAmongAllEmployees));
+            assertTrue(streaming.await(5, TimeUnit.SECONDS));
+            for (int i = 0; i < 3; i++) {
+                results.add(executor.submit(employeeService::fetchHighestSalaryAmongAllEmployees));
+            }
+            Thread.sleep(100);
+            release.countDown();
+
+            for (Future<Integer> result : results) {
+                assertEquals(100, result.get(5, TimeUnit.SECONDS));
+            }
+            verify(restTemplate, times(1)).execute(eq(TEST_DATA_API_URL), eq(HttpMethod.GET), any(), any());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void testGetHighestSalary_CachedRosterAnswersDespiteStreaming() {
+        employeeService = streamingService();
+        givenRoster(employees);
+
+        employeeService.fetchAllEmployees();
+        assertEquals(200, employeeService.fetchHighestSalaryAmongAllEmployees());
+
+        verify(restTemplate, never()).execute(eq(TEST_DATA_API_URL), eq(HttpMethod.GET), any(), any());
+    }
+
+    @Test
+    void testQueries_PushedDownWithoutCachedRoster() {
+        employeeService = pushdownService();
+        when(restTemplate.exchange(
+                        TEST_DATA_API_URL + "/salary/max", HttpMethod.GET, null, ResponseUtil.INTEGER_RESPONSE))
+                .thenReturn(ResponseEntity.ok(new ResponseDTO<>(200, null, null, null, null)));
+        when(restTemplate.exchange(
+                        TEST_DATA_API_URL + "/salary/top?limit={limit}",
+                        HttpMethod.GET,
+                        null,
+                        EMPLOYEE_LIST_RESPONSE,
+                        10))
+                .thenReturn(ResponseEntity.ok(
+                        new ResponseDTO<>(List.of(employees.get(1), employees.get(0)), null, null, null, null)));
+        when(restTemplate.exchange(
+                        TEST_DATA_API_URL + "/search?name={name}", HttpMethod.GET, null, EMPLOYEE_LIST_RESPONSE, "dev"))
+                .thenReturn(ResponseEntity.ok(new ResponseDTO<>(List.of(employees.get(0)), null, null, null, null)));
+
+        assertEquals(200, employeeService.fetchHighestSalaryAmongAllEmployees());
+        assertEquals(List.of("pooja", "Devki"), employeeService.fetchTopTenHighestEarningEmployeeNames());
+        assertEquals(List.of(employees.get(0)), employeeService.findEmployeesByNameMatchesOrContains("dev"));
+        verify(restTemplate, never()).exchange(TEST_DATA_API_URL, HttpMethod.GET, null, EMPLOYEE_LIST_RESPONSE);
+    }
+
+    @Test
+    void testQueries_AnsweredFromCachedRosterDespitePushdown() {
+        employeeService = pushdownService();
+        givenRoster(employees);
+
+        employeeService.fetchAllEmployees();
+        assertEquals(200, employeeService.fetchHighestSalaryAmongAllEmployees());
+
+        verify(restTemplate, never())
+                .exchange(TEST_DATA_API_URL + "/salary/max", HttpMethod.GET, null, ResponseUtil.INTEGER_RESPONSE);
+    }
+
+    @Test
+    void testQueries_FallBackWhenUpstreamHasNoQueryEndpoints() {
+        employeeService = pushdownService();
+        givenRoster(employees);
+        when(restTemplate.exchange(
+                        TEST_DATA_API_URL + "/salary/max", HttpMethod.GET, null, ResponseUtil.INTEGER_RESPONSE))
+                .thenThrow(HttpClientErrorException.create(HttpStatus.NOT_FOUND, "Not Found", null, null, null));
+
+        assertEquals(200, employeeService.fetchHighestSalaryAmongAllEmployees());
+        assertEquals(List.of(employees.get(0)), employeeService.findEmployeesByNameMatchesOrContains("dev"));
+
+        verify(restTemplate, times(1))
+                .exchange(TEST_DATA_API_URL + "/salary/max", HttpMethod.GET, null, ResponseUtil.INTEGER_RESPONSE);
+        verify(restTemplate, never())
+                .exchange(
+                        TEST_DATA_API_URL + "/search?name={name}", HttpMethod.GET, null, EMPLOYEE_LIST_RESPONSE, "dev");
+    }
+
+    @Test
+    void testQueries_FallBackWhenUpstreamRoutesSearchToIdLookup() throws Exception {
+        RestTemplate upstream = new RestTemplate();
+        MockRestServiceServer server = MockRestServiceServer.bindTo(upstream).build();
+        RosterCache rosterCache = new RosterCache(Duration.ofMinutes(1), Runnable::run);
+        employeeService = new EmployeeService(
+                upstream,
+                rosterCache,
+                new RosterPager(upstream, 0, 1, true, Runnable::run),
+                new EmployeeBatchWriter(upstream, false, 1, Duration.ZERO, null, null),
+                false,
+                true,
+                true);
+        String roster = new ObjectMapper().writeValueAsString(new ResponseDTO<>(employees, null, null, null, null));
+        // a server without the query endpoints fails to read "search" as an employee id
+        server.expect(once(), requestTo(TEST_DATA_API_URL + "/search?name=dev")).andRespond(withServerError());
+        server.expect(once(), requestTo(TEST_DATA_API_URL + "/salary/max"))
+                .andRespond(withStatus(HttpStatus.NOT_FOUND));
+        server.expect(twice(), requestTo(TEST_DATA_API_URL))
+                .andRespond(withSuccess(roster, MediaType.APPLICATION_JSON));
+
+        assertEquals(List.of(employees.get(0)), employeeService.findEmployeesByNameMatchesOrContains("dev"));
+        rosterCache.invalidate();
+        assertEquals(200, employeeService.fetchHighestSalaryAmongAllEmployees());
+
+        server.verify();
+    }
+
+    @Test
+    void testGetAllEmployees_LockoutOpeningCircuitServedFromLastKnownGoodRoster() throws Exception {
+        RestTemplate upstream = new RestTemplate();
+        upstream.getInterceptors()
+                .add(new CircuitBreakerInterceptor(
+                        new UpstreamCircuitBreaker(true, 3, Duration.ofSeconds(30), 25, Duration.ZERO)));
+        MockRestServiceServer server = MockRestServiceServer.bindTo(upstream).build();
+        RosterCache rosterCache = new RosterCache(Duration.ofMinutes(1), Runnable::run);
+        employeeService = new EmployeeService(upstream, rosterCache);
+        String roster = new ObjectMapper().writeValueAsString(new ResponseDTO<>(employees, null, null, null, null));
+        server.expect(once(), requestTo(TEST_DATA_API_URL)).andRespond(withSuccess(roster, MediaType.APPLICATION_JSON));
+        server.expect(once(), requestTo(TEST_DATA_API_URL))
+                .andRespond(withStatus(HttpStatus.TOO_MANY_REQUESTS).header(HttpHeaders.RETRY_AFTER, "60"));
+
+        employeeService.fetchAllEmployees();
+        rosterCache.invalidate();
+
+        assertEquals(employees, employeeService.fetchAllEmployees());
+        server.verify();
+    }
+
+    @Test
+    void testQueries_KeepPushingDownAfterTransientServerError() {
+        employeeService = pushdownService();
+        when(restTemplate.exchange(
+                        TEST_DATA_API_URL + "/search?name={name}", HttpMethod.GET, null, EMPLOYEE_LIST_RESPONSE, "dev"))
+                .thenThrow(HttpServerErrorException.create(
+                        HttpStatus.INTERNAL_SERVER_ERROR, "Internal Server Error", null, null, null))
+                .thenReturn(ResponseEntity.ok(new ResponseDTO<>(List.of(employees.get(0)), null, null, null, null)));
+        when(restTemplate.exchange(
+                        TEST_DATA_API_URL + "/salary/max", HttpMethod.GET, null, ResponseUtil.INTEGER_RESPONSE))
+                .thenReturn(ResponseEntity.ok(new ResponseDTO<>(200, null, null, null, null)));
+
+        assertThrows(
+                HttpServerErrorException.InternalServerError.class,
+                () -> employeeService.findEmployeesByNameMatchesOrContains("dev"));
+        assertEquals(List.of(employees.get(0)), employeeService.findEmployeesByNameMatchesOrContains("dev"));
+        verify(restTemplate, never()).exchange(TEST_DATA_API_URL, HttpMethod.GET, null, EMPLOYEE_LIST_RESPONSE);
+    }
+
+    @Test
+    void testQueries_KeepPushingDownAfterRateLimit() {
+        employeeService = pushdownService();
+        when(restTemplate.exchange(
+                        TEST_DATA_API_URL + "/salary/max", HttpMethod.GET, null, ResponseUtil.INTEGER_RESPONSE))
+                .thenThrow(HttpClientErrorException.create(
+                        HttpStatus.TOO_MANY_REQUESTS, "Too Many Requests", null, null, null))
+                .thenReturn(ResponseEntity.ok(new ResponseDTO<>(300, null, null, null, null)));
+
+        assertThrows(
+                HttpClientErrorException.TooManyRequests.class,
+                () -> employeeService.fetchHighestSalaryAmongAllEmployees());
+        assertEquals(300, employeeService.fetchHighestSalaryAmongAllEmployees());
+        verify(restTemplate, never()).exchange(TEST_DATA_API_URL, HttpMethod.GET, null, EMPLOYEE_LIST_RESPONSE);
+    }
+
     @Test
     void testCreateEmployee_Success() {
-        mockResponse.setData(employees.get(0));
         EmployeeDTO employeeDTO = new EmployeeDTO("Devki", 100, 30, "Engineer", "dev123@test.com");
 
-        when(restTemplate.postForObject(TEST_DATA_API_URL, employeeDTO, ResponseDTO.class))
-                .thenReturn(mockResponse);
+        when(restTemplate.exchange(
+                        TEST_DATA_API_URL, HttpMethod.POST, new HttpEntity<>(employeeDTO), EMPLOYEE_RESPONSE))
+                .thenReturn(ResponseEntity.ok(employeeResponse(employees.get(0))));
 
         Employee createdEmployee = employeeService.saveEmployee(employeeDTO);
         assertNotNull(createdEmployee);
@@ -145,7 +410,8 @@ class EmployeeServiceTest {
     void testCreateEmployee_Failure() {
         EmployeeDTO employeeDTO = new EmployeeDTO("Devki", 100, 30, "Engineer", "dev123@test.com");
 
-        when(restTemplate.postForObject(TEST_DATA_API_URL, employeeDTO, ResponseDTO.class))
+        when(restTemplate.exchange(
+                        TEST_DATA_API_URL, HttpMethod.POST, new HttpEntity<>(employeeDTO), EMPLOYEE_RESPONSE))
                 .thenReturn(null);
 
         Employee createdEmployee = employeeService.saveEmployee(employeeDTO);
@@ -168,4 +434,67 @@ class EmployeeServiceTest {
         Exception exception = assertThrows(RuntimeException.class, () -> employeeService.deleteEmployeeById("2"));
         assertEquals("Delete failed", exception.getMessage());
     }
+
+    @Test
+    void testQueries_ServedFromLastKnownGoodRosterWhileCircuitOpen() {
+        when(restTemplate.exchange(TEST_DATA_API_URL, HttpMethod.GET, null, EMPLOYEE_LIST_RESPONSE))
+                .thenReturn(ResponseEntity.ok(new ResponseDTO<>(employees, null, null, null, null)))
+                .thenThrow(new UpstreamUnavailableException("Upstream circuit open", Duration.ofSeconds(30)));
+        when(restTemplate.exchange(anyString(), eq(HttpMethod.GET), isNull(), eq(EMPLOYEE_RESPONSE)))
+                .thenThrow(new UpstreamUnavailableException("Upstream circuit open", Duration.ofSeconds(30)));
+        employeeService.fetchAllEmployees();
+        EmployeeDTO employeeDTO = new EmployeeDTO("Devki", 100, 30, "Engineer", "dev123@test.com");
+        when(restTemplate.exchange(
+                        TEST_DATA_API_URL, HttpMethod.POST, new HttpEntity<>(employeeDTO), EMPLOYEE_RESPONSE))
+                .thenReturn(null);
+        employeeService.saveEmployee(employeeDTO);
+
+        assertEquals(2, employeeService.fetchAllEmployees().size());
+        assertEquals(200, employeeService.fetchHighestSalaryAmongAllEmployees());
+        assertEquals("Devki", employeeService.fetchEmployeeById("1").getEmployee_name());
+        assertThrows(UpstreamUnavailableException.class, () -> employeeService.fetchEmployeeById("9"));
+        verify(restTemplate, times(3)).exchange(TEST_DATA_API_URL, HttpMethod.GET, null, EMPLOYEE_LIST_RESPONSE);
+    }
+
+    @Test
+    void testQueries_FailFastWhileCircuitOpenWithoutRoster() {
+        when(restTemplate.exchange(TEST_DATA_API_URL, HttpMethod.GET, null, EMPLOYEE_LIST_RESPONSE))
+                .thenThrow(new UpstreamUnavailableException("Upstream circuit open", Duration.ofSeconds(30)));
+
+        UpstreamUnavailableException exception =
+                assertThrows(UpstreamUnavailableException.class, () -> employeeService.fetchAllEmployees());
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, exception.getStatusCode());
+        assertEquals("30", exception.getResponseHeaders().getFirst("Retry-After"));
+    }
+
+    private EmployeeService streamingService() {
+        return new EmployeeService(
+                restTemplate,
+                new RosterCache(Duration.ofMinutes(1), Runnable::run),
+                new RosterPager(restTemplate, 0, 1, true, Runnable::run),
+                new EmployeeBatchWriter(restTemplate, false, 1, Duration.ZERO, null, null),
+                true,
+                false,
+                true);
+    }
+
+    private EmployeeService pushdownService() {
+        return new EmployeeService(
+                restTemplate,
+                new RosterCache(Duration.ofMinutes(1), Runnable::run),
+                new RosterPager(restTemplate, 0, 1, true, Runnable::run),
+                new EmployeeBatchWriter(restTemplate, false, 1, Duration.ZERO, null, null),
+                false,
+                true,
+                true);
+    }
+
+    private void givenRoster(List<Employee> data) {
+        when(restTemplate.exchange(TEST_DATA_API_URL, HttpMethod.GET, null, EMPLOYEE_LIST_RESPONSE))
+                .thenReturn(ResponseEntity.ok(new ResponseDTO<>(data, null, null, null, null)));
+    }
+
+    private static ResponseDTO<Employee> employeeResponse(Employee employee) {
+        return new ResponseDTO<>(employee, null, null, null, null);
+    }
 }
@@ -0,0 +1,207 @@
+package com.reliaquest.api.service;
+
+import static com.reliaquest.api.util.ResponseUtil.EMPLOYEE_CHANGES_RESPONSE;
+import static com.reliaquest.api.util.ResponseUtil.EMPLOYEE_LIST_RESPONSE;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import com.reliaquest.api.cache.Roster;
+import com.reliaquest.api.cache.RosterCache;
+import com.reliaquest.api.cache.RosterUpdate;
+import com.reliaquest.api.dto.EmployeeChangeDTO;
+import com.reliaquest.api.dto.EmployeeChangesDTO;
+import com.reliaquest.api.dto.ResponseDTO;
+import com.reliaquest.api.entity.Employee;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.client.RestTemplate;
+
+class RosterPagerTest {
+
+    private static final String TEST_DATA_API_URL = "http://localhost:8112/api/v1/employee";
+
+    @Mock
+    private RestTemplate restTemplate;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+    }
+
+    @Test
+    void testFetchAll_FollowsNextCursor() {
+        givenPage("?limit=2&cursor=0", page(2L, 5L, "A", "B"));
+        givenPage("?limit=2&cursor=2", page(4L, 5L, "C", "D"));
+        givenPage("?limit=2&cursor=4", page(null, 5L, "E"));
+
+        List<Employee> employees = new RosterPager(restTemplate, 2, 1, true, Runnable::run).fetchAll();
+
+        assertEquals(List.of("A", "B", "C", "D", "E"), names(employees));
+    }
+
+    @Test
+    void testFetchAll_ParallelSlicesKeepRosterOrder() {
+        givenPage("?limit=2&cursor=0", page(2L, 10L, "A", "B"));
+        givenPage("?limit=2&cursor=2&end_cursor=6", page(4L, 10L, "C", "D"));
+        givenPage("?limit=2&cursor=4&end_cursor=6", page(null, 10L, "E"));
+        givenPage("?limit=2&cursor=6", page(9L, 10L, "G", "H"));
+        givenPage("?limit=2&cursor=9", page(null, 11L, "I", "J"));
+
+        List<Employee> employees = new RosterPager(restTemplate, 2, 2, true, Runnable::run).fetchAll();
+
+        assertEquals(List.of("A", "B", "C", "D", "E", "G", "H", "I", "J"), names(employees));
+    }
+
+    @Test
+    void testFetchAll_ParallelSlicesRunOnOwnPoolUnderConcurrentCallers() throws Exception {
+        givenPage("?limit=2&cursor=0", page(2L, 10L, "A", "B"));
+        givenPage("?limit=2&cursor=2&end_cursor=6", page(4L, 10L, "C", "D"));
+        givenPage("?limit=2&cursor=4&end_cursor=6", page(null, 10L, "E"));
+        givenPage("?limit=2&cursor=6", page(9L, 10L, "G", "H"));
+        givenPage("?limit=2&cursor=9", page(null, 11L, "I", "J"));
+        Set<String> threads = ConcurrentHashMap.newKeySet();
+        when(restTemplate.exchange(
+                        TEST_DATA_API_URL + "?limit=2&cursor=6", HttpMethod.GET, null, EMPLOYEE_LIST_RESPONSE))
+                .thenAnswer(invocation -> {
+                    threads.add(Thread.currentThread().getName());
+                    return ResponseEntity.ok(page(9L, 10L, "G", "H"));
+                });
+        RosterPager rosterPager = new RosterPager(restTemplate, 2, 2, true);
+        // callers on a single thread pool, as they were on the shared executor the slices used to be queued on
+        ExecutorService callers = Executors.newFixedThreadPool(1);
+        try {
+            List<Future<List<Employee>>> fetches = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                fetches.add(callers.submit(rosterPager::fetchAll));
+            }
+            for (Future<List<Employee>> fetch : fetches) {
+                assertEquals(
+                        List.of("A", "B", "C", "D", "E", "G", "H", "I", "J"), names(fetch.get(10, TimeUnit.SECONDS)));
+            }
+        } finally {
+            callers.shutdownNow();
+            rosterPager.shutdown();
+        }
+        assertTrue(threads.stream().allMatch(thread -> thread.startsWith("roster-pager-")), threads::toString);
+    }
+
+    @Test
+    void testFetchAll_UnpagedByDefault() {
+        givenPage("", page(null, null, "A"));
+
+        assertEquals(List.of("A"), names(new RosterPager(restTemplate, 0, 4, true, Runnable::run).fetchAll()));
+        verify(restTemplate, times(1)).exchange(anyString(), eq(HttpMethod.GET), isNull(), eq(EMPLOYEE_LIST_RESPONSE));
+    }
+
+    @Test
+    void testFetchAll_NotModifiedReusesPreviousList() {
+        ResponseDTO<List<Employee>> roster = page(null, null, "A", "B");
+        when(restTemplate.exchange(TEST_DATA_API_URL, HttpMethod.GET, null, EMPLOYEE_LIST_RESPONSE))
+                .thenReturn(ResponseEntity.ok().eTag("\"e-1\"").body(roster));
+        HttpHeaders conditional = new HttpHeaders();
+        conditional.setIfNoneMatch("\"e-1\"");
+        when(restTemplate.exchange(
+                        TEST_DATA_API_URL, HttpMethod.GET, new HttpEntity<>(conditional), EMPLOYEE_LIST_RESPONSE))
+                .thenReturn(ResponseEntity.status(HttpStatus.NOT_MODIFIED).build());
+        RosterPager rosterPager = new RosterPager(restTemplate, 0, 1, true, Runnable::run);
+
+        List<Employee> fetched = rosterPager.fetchAll();
+
+        assertSame(fetched, rosterPager.fetchAll());
+        assertEquals(List.of("A", "B"), names(fetched));
+    }
+
+    @Test
+    void testFetchSince_ChangesFromFeed() {
+        Roster base = new RosterCache(Duration.ofMinutes(1), Runnable::run)
+                .sync(ignored -> RosterUpdate.full(List.of(), "e-1"));
+        Employee created = new Employee("C", "C", 100, 30, "Engineer", "c@test.com");
+        EmployeeChangesDTO changes = new EmployeeChangesDTO(
+                "e-3",
+                false,
+                List.of(
+                        new EmployeeChangeDTO(2, EmployeeChangeDTO.CREATED, "C", created),
+                        new EmployeeChangeDTO(3, EmployeeChangeDTO.DELETED, "A", null)));
+        when(restTemplate.exchange(
+                        TEST_DATA_API_URL + "/changes?since=e-1", HttpMethod.GET, null, EMPLOYEE_CHANGES_RESPONSE))
+                .thenReturn(ResponseEntity.ok(new ResponseDTO<>(changes, null, null, null, null)));
+
+        RosterUpdate update = new RosterPager(restTemplate, 0, 1, true, Runnable::run).fetchSince(base);
+
+        assertEquals(
+                RosterUpdate.changes(
+                        base, List.of(RosterUpdate.Change.created(created), RosterUpdate.Change.deleted("A")), "e-3"),
+                update);
+    }
+
+    @Test
+    void testFetchSince_ResyncReloadsRosterInPages() {
+        Roster base = new RosterCache(Duration.ofMinutes(1), Runnable::run)
+                .sync(ignored -> RosterUpdate.full(List.of(), "e-1"));
+        givenChanges("e-1", new EmployeeChangesDTO("e-9", true, null));
+        when(restTemplate.exchange(
+                        TEST_DATA_API_URL + "?limit=2&cursor=0", HttpMethod.GET, null, EMPLOYEE_LIST_RESPONSE))
+                .thenReturn(ResponseEntity.ok().eTag("\"e-9\"").body(page(2L, 3L, "A", "B")));
+        givenPage("?limit=2&cursor=2", page(null, 3L, "C"));
+
+        RosterUpdate update = new RosterPager(restTemplate, 2, 1, true, Runnable::run).fetchSince(base);
+
+        assertEquals(RosterUpdate.full(page(null, null, "A", "B", "C").getData(), "e-9"), update);
+    }
+
+    @Test
+    void testFetchSince_ChangesDropTagOfLastFullFetch() {
+        when(restTemplate.exchange(TEST_DATA_API_URL, HttpMethod.GET, null, EMPLOYEE_LIST_RESPONSE))
+                .thenReturn(ResponseEntity.ok().eTag("\"e-1\"").body(page(null, null, "A")));
+        RosterPager rosterPager = new RosterPager(restTemplate, 0, 1, true, Runnable::run);
+        Roster base = new RosterCache(Duration.ofMinutes(1), Runnable::run)
+                .sync(ignored -> RosterUpdate.full(rosterPager.fetchAll(), "e-1"));
+        givenChanges("e-1", new EmployeeChangesDTO("e-2", false, List.of()));
+
+        rosterPager.fetchSince(base);
+        rosterPager.fetchAll();
+
+        verify(restTemplate, times(2)).exchange(TEST_DATA_API_URL, HttpMethod.GET, null, EMPLOYEE_LIST_RESPONSE);
+        verify(restTemplate, never())
+                .exchange(eq(TEST_DATA_API_URL), eq(HttpMethod.GET), notNull(), eq(EMPLOYEE_LIST_RESPONSE));
+    }
+
+    private void givenChanges(String since, EmployeeChangesDTO changes) {
+        when(restTemplate.exchange(
+                        TEST_DATA_API_URL + "/changes?since=" + since, HttpMethod.GET, null, EMPLOYEE_CHANGES_RESPONSE))
+                .thenReturn(ResponseEntity.ok(new ResponseDTO<>(changes, null, null, null, null)));
+    }
+
+    private void givenPage(String query, ResponseDTO<List<Employee>> page) {
+        when(restTemplate.exchange(TEST_DATA_API_URL + query, HttpMethod.GET, null, EMPLOYEE_LIST_RESPONSE))
+                .thenReturn(ResponseEntity.ok(page));
+    }
+
+    private static ResponseDTO<List<Employee>> page(Long nextCursor, Long lastCursor, String... names) {
+        List<Employee> employees = Arrays.stream(names)
+                .map(name -> new Employee(name, name, 100, 30, "Engineer", name + "@test.com"))
+                .toList();
+        return new ResponseDTO<>(employees, null, null, nextCursor, lastCursor);
+    }
+
+    private static List<String> names(List<Employee> employees) {
+        return employees.stream().map(Employee::getEmployee_name).toList();
+    }
+}
@@ -0,0 +1,93 @@
+package com.reliaquest.api.util;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+class SingleFlightTest {
+
+    private final SingleFlight<String, String> singleFlight = new SingleFlight<>();
+
+    @Test
+    void testExecute_ConcurrentCallersShareOneCall() throws Exception {
+        int callers = 8;
+        AtomicInteger calls = new AtomicInteger();
+        CountDownLatch arrived = new CountDownLatch(callers);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(callers);
+        try {
+            List<Future<String>> results = new ArrayList<>();
+            for (int i = 0; i < callers; i++) {
+                results.add(executor.submit(() -> {
+                    arrived.countDown();
+                    return singleFlight.execute("employees", () -> {
+                        calls.incrementAndGet();
+                        await(release);
+                        return "roster";
+                    });
+                }));
+            }
+            arrived.await(5, TimeUnit.SECONDS);
+            Thread.sleep(100);
+            release.countDown();
+
+            for (Future<String> result : results) {
+                assertEquals("roster", result.get(5, TimeUnit.SECONDS));
+            }
+            assertEquals(1, calls.get());
+            assertEquals(0, singleFlight.inFlightCount());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void testExecute_DifferentKeysDoNotCoalesce() {
+        AtomicInteger calls = new AtomicInteger();
+
+        singleFlight.execute("1", () -> "employee" + calls.incrementAndGet());
+        singleFlight.execute("2", () -> "employee" + calls.incrementAndGet());
+
+        assertEquals(2, calls.get());
+    }
+
+    @Test
+    void testExecute_CompletedCallIsNotCached() {
+        AtomicInteger calls = new AtomicInteger();
+
+        singleFlight.execute("1", () -> "employee" + calls.incrementAndGet());
+        String second = singleFlight.execute("1", () -> "employee" + calls.incrementAndGet());
+
+        assertEquals("employee2", second);
+    }
+
+    @Test
+    void testExecute_FailureIsRethrownAndCleared() {
+        IllegalStateException failure = new IllegalStateException("Service Unavailable");
+
+        IllegalStateException exception = assertThrows(
+                IllegalStateException.class,
+                () -> singleFlight.execute("1", () -> {
+                    throw failure;
+                }));
+
+        assertSame(failure, exception);
+        assertEquals(0, singleFlight.inFlightCount());
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
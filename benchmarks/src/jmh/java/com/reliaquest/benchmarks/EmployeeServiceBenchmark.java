@@ -0,0 +1,68 @@
+package com.reliaquest.benchmarks;
+
+import com.reliaquest.api.cache.RosterCache;
+import com.reliaquest.api.entity.Employee;
+import com.reliaquest.api.service.EmployeeBatchWriter;
+import com.reliaquest.api.service.EmployeeService;
+import com.reliaquest.api.service.RosterPager;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.web.client.RestTemplate;
+
+/**
+ * The api's roster queries answered from a cached roster, the path every request takes once the roster is loaded.
+ * The upstream is never called; only the service and the cached roster's indexes are measured.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class EmployeeServiceBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    private int rosterSize;
+
+    @Param({"chauhan", "zzq"})
+    private String query;
+
+    private EmployeeService employeeService;
+
+    @Setup
+    public void setUp() {
+        RestTemplate restTemplate = new RestTemplate();
+        RosterCache rosterCache = new RosterCache(Duration.ofDays(1), Runnable::run);
+        employeeService = new EmployeeService(
+                restTemplate,
+                rosterCache,
+                new RosterPager(restTemplate, 0, 1, false, Runnable::run),
+                new EmployeeBatchWriter(restTemplate, false, 1, Duration.ZERO, 1),
+                false,
+                false,
+                true);
+        List<Employee> roster = Rosters.synthetic(rosterSize);
+        rosterCache.get(() -> roster);
+    }
+
+    @Benchmark
+    public Integer highestSalary() {
+        return employeeService.fetchHighestSalaryAmongAllEmployees();
+    }
+
+    @Benchmark
+    public List<String> topTenEarners() {
+        return employeeService.fetchTopTenHighestEarningEmployeeNames();
+    }
+
+    @Benchmark
+    public List<Employee> searchByName() {
+        return employeeService.findEmployeesByNameMatchesOrContains(query);
+    }
+}
@@ -0,0 +1,66 @@
+package com.reliaquest.benchmarks;
+
+import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.store.MockEmployeeJournal;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+
+/**
+ * Acknowledged creates per second through the server's journal in each durability mode. Group commit only pays off
+ * with concurrent writers, so compare with {@code -t 1} as well as the default 8 threads.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Threads(8)
+public class JournalBenchmark {
+
+    @Param({"NONE", "BATCHED", "PER_WRITE"})
+    private MockEmployeeJournal.Durability durability;
+
+    private final AtomicLong versions = new AtomicLong();
+    private final List<MockEmployee> employee =
+            List.of(new MockEmployee(UUID.randomUUID(), "Devki Chauhan", 120_000, 30, "Engineer", "devki@company.com"));
+    private Path directory;
+    private MockEmployeeJournal journal;
+
+    @Setup
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory(Path.of(System.getProperty("java.io.tmpdir")), "journal-benchmark");
+        journal = new MockEmployeeJournal(directory.resolve("roster.journal").toString(), durability);
+        journal.open(0);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        journal.close();
+        try (Stream<Path> files = Files.walk(directory)) {
+            for (Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(file);
+            }
+        }
+    }
+
+    @Benchmark
+    public void create() {
+        long version = versions.incrementAndGet();
+        journal.awaitDurable(journal.created(version, version, employee));
+    }
+}
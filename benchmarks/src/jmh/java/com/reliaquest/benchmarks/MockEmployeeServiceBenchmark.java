@@ -0,0 +1,95 @@
+package com.reliaquest.benchmarks;
+
+import com.reliaquest.server.model.CreateMockEmployeeInput;
+import com.reliaquest.server.model.DeleteMockEmployeeInput;
+import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.service.MockEmployeeService;
+import com.reliaquest.server.store.MockEmployeeImageFile;
+import com.reliaquest.server.store.MockEmployeeJournal;
+import com.reliaquest.server.store.MockEmployeeStore;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import net.datafaker.Faker;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+
+/**
+ * The mock server's lookups and writes in each row layout, without HTTP. {@code deleteAndCreate} deletes an employee
+ * by name and creates it again, so the roster keeps its size; deletes copy the store's arrays, so expect it to scale
+ * with the roster.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MockEmployeeServiceBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    private int rosterSize;
+
+    @Param({"OBJECTS", "COLUMNAR"})
+    private MockEmployeeStore.Layout layout;
+
+    private MockEmployeeService mockEmployeeService;
+    private UUID[] ids;
+    private int next;
+
+    @Setup
+    @SuppressWarnings("unchecked")
+    public void setUp() {
+        List<MockEmployee> roster = Rosters.syntheticMock(rosterSize);
+        DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+        beanFactory.registerSingleton("mockEmployees", roster);
+        ObjectProvider<List<MockEmployee>> seed =
+                (ObjectProvider<List<MockEmployee>>) (ObjectProvider<?>) beanFactory.getBeanProvider(List.class);
+        MockEmployeeStore store = new MockEmployeeStore(
+                seed,
+                new MockEmployeeImageFile("", false),
+                new MockEmployeeJournal("", MockEmployeeJournal.Durability.NONE),
+                4096,
+                layout);
+        mockEmployeeService = new MockEmployeeService(new Faker(Locale.getDefault()), store, new SimpleMeterRegistry());
+        ids = roster.stream().map(MockEmployee::getId).toArray(UUID[]::new);
+    }
+
+    @Benchmark
+    public Optional<MockEmployee> findById() {
+        next = next + 1 == ids.length ? 0 : next + 1;
+        return mockEmployeeService.findById(ids[next]);
+    }
+
+    @Benchmark
+    public MockEmployee deleteAndCreate() {
+        MockEmployee employee = mockEmployeeService.getMockEmployees().get(0);
+        DeleteMockEmployeeInput delete = new DeleteMockEmployeeInput();
+        delete.setName(employee.getName());
+        mockEmployeeService.delete(delete);
+        CreateMockEmployeeInput create = new CreateMockEmployeeInput();
+        create.setName(employee.getName());
+        create.setSalary(employee.getSalary());
+        create.setAge(employee.getAge());
+        create.setTitle(employee.getTitle());
+        return mockEmployeeService.create(create);
+    }
+
+    @Benchmark
+    public List<MockEmployee> topTenEarners() {
+        return mockEmployeeService.findTopEarners(10);
+    }
+
+    @Benchmark
+    public List<MockEmployee> searchByName() {
+        return mockEmployeeService.findByNameContaining("chauhan");
+    }
+}
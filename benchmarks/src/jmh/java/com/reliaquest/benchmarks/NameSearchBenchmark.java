@@ -0,0 +1,68 @@
+package com.reliaquest.benchmarks;
+
+import com.reliaquest.api.entity.Employee;
+import com.reliaquest.api.index.NameIndex;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Compares the trigram {@link NameIndex} with the linear {@code toLowerCase().contains} scan it replaced. Both return
+ * the matched employees: the index's positions are resolved against the roster as {@code Roster.findByName} does, and
+ * setup checks that both find the same employees before anything is measured.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class NameSearchBenchmark {
+
+    @Param({"100000", "1000000"})
+    private int rosterSize;
+
+    @Param({"chauhan", "Devki Cha", "zzq"})
+    private String query;
+
+    private List<Employee> employees;
+    private NameIndex nameIndex;
+
+    @Setup
+    public void setUp() {
+        employees = Rosters.synthetic(rosterSize);
+        nameIndex = new NameIndex();
+        for (int position = 0; position < employees.size(); position++) {
+            nameIndex.add(position, employees.get(position));
+        }
+        if (!trigramIndex().equals(linearScan())) {
+            throw new IllegalStateException("Trigram index and linear scan disagree on the matches for " + query);
+        }
+    }
+
+    @Benchmark
+    public List<Employee> linearScan() {
+        List<Employee> matches = new ArrayList<>();
+        for (Employee employee : employees) {
+            if (employee.getEmployee_name().toLowerCase().contains(query.toLowerCase())) {
+                matches.add(employee);
+            }
+        }
+        return matches;
+    }
+
+    @Benchmark
+    public List<Employee> trigramIndex() {
+        List<Long> positions = nameIndex.search(query);
+        List<Employee> matches = new ArrayList<>(positions.size());
+        for (Long position : positions) {
+            matches.add(employees.get(position.intValue()));
+        }
+        return matches;
+    }
+}
@@ -0,0 +1,63 @@
+package com.reliaquest.benchmarks;
+
+import com.reliaquest.server.web.RequestLimitInterceptor;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+/**
+ * {@link RequestLimitInterceptor#preHandle} with 8 threads, as one client or spread over 64 by the client header. In
+ * random mode nearly every request is rejected after the first few, which is what a client hammering the mock server
+ * sees; the gcra limits are generous enough to admit nearly every request. Complements
+ * {@link RequestLimiterBenchmark}, which measures the limiters alone.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Threads(8)
+public class RequestLimitInterceptorBenchmark {
+
+    @Param({"RANDOM", "GCRA"})
+    private RequestLimitInterceptor.Mode mode;
+
+    @Param({"1", "64"})
+    private int clients;
+
+    private RequestLimitInterceptor interceptor;
+    private final AtomicInteger threads = new AtomicInteger();
+
+    @Setup
+    public void setUp() {
+        interceptor = new RequestLimitInterceptor(
+                mode, "X-Client-Id", 1_000_000_000, Duration.ofSeconds(1), 1_000, 1024, new SimpleMeterRegistry());
+    }
+
+    @State(Scope.Thread)
+    public static class Exchange {
+
+        private final MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/employee");
+        private final MockHttpServletResponse response = new MockHttpServletResponse();
+
+        @Setup
+        public void setUp(RequestLimitInterceptorBenchmark benchmark) {
+            request.addHeader("X-Client-Id", "client-" + benchmark.threads.getAndIncrement() % benchmark.clients);
+        }
+    }
+
+    @Benchmark
+    public boolean preHandle(Exchange exchange) {
+        return interceptor.preHandle(exchange.request, exchange.response, null);
+    }
+}
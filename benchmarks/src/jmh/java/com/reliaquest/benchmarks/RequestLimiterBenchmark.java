@@ -0,0 +1,104 @@
+package com.reliaquest.benchmarks;
+
+import com.reliaquest.server.web.GcraRequestLimiter;
+import com.reliaquest.server.web.RandomRequestLimiter;
+import com.reliaquest.server.web.RequestLimiter;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+/**
+ * Admission decisions per second with 8 threads hammering the limiter, either all as one client or spread over 64,
+ * compared with the global {@code AtomicReference} check-then-act limiter the server used before. Limits are set so
+ * that nearly every request is admitted, which is the contended path. Run with {@code -prof gc} to see the legacy
+ * limiter's allocation per request.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Threads(8)
+public class RequestLimiterBenchmark {
+
+    @Param({"legacy", "random", "gcra"})
+    private String limiter;
+
+    @Param({"1", "64"})
+    private int clients;
+
+    private RequestLimiter requestLimiter;
+    private String[] clientIds;
+    private final AtomicInteger threads = new AtomicInteger();
+
+    @Setup
+    public void setUp() {
+        requestLimiter = switch (limiter) {
+            case "legacy" -> new LegacyRequestLimiter(5, Duration.ZERO);
+            case "random" -> new RandomRequestLimiter(5, Duration.ZERO, 1024);
+            case "gcra" -> new GcraRequestLimiter(1_000_000_000, Duration.ofSeconds(1), 1_000, 1024);
+            default -> throw new IllegalArgumentException(limiter);};
+        clientIds = new String[clients];
+        for (int i = 0; i < clients; i++) {
+            clientIds[i] = "10.0.0." + i;
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Client {
+
+        private String id;
+
+        @Setup
+        public void setUp(RequestLimiterBenchmark benchmark) {
+            id = benchmark.clientIds[benchmark.threads.getAndIncrement() % benchmark.clientIds.length];
+        }
+    }
+
+    @Benchmark
+    public long acquire(Client client) {
+        return requestLimiter.acquire(client.id, System.nanoTime());
+    }
+
+    /**
+     * The limiter the interceptor had before, one bucket for all clients.
+     */
+    private static final class LegacyRequestLimiter implements RequestLimiter {
+
+        private final int limit;
+        private final Duration backoff;
+        private final AtomicReference<RequestLimit> requestLimit =
+                new AtomicReference<>(new RequestLimit(0, Instant.now()));
+
+        LegacyRequestLimiter(int limit, Duration backoff) {
+            this.limit = limit;
+            this.backoff = backoff;
+        }
+
+        @Override
+        public long acquire(String client, long nowNanos) {
+            if (requestLimit.get().count() >= limit) {
+                if (Instant.now().minus(backoff).isBefore(requestLimit.get().lastRequested())) {
+                    return 1;
+                }
+                if (Instant.now().minus(backoff).isAfter(requestLimit.get().lastRequested())) {
+                    requestLimit.set(new RequestLimit(0, Instant.now()));
+                }
+            } else {
+                requestLimit.getAndUpdate(current -> new RequestLimit(current.count() + 1, Instant.now()));
+            }
+            return 0;
+        }
+
+        private record RequestLimit(int count, Instant lastRequested) {}
+    }
+}
@@ -0,0 +1,66 @@
+package com.reliaquest.benchmarks;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.dto.ResponseDTO;
+import com.reliaquest.api.entity.Employee;
+import com.reliaquest.api.index.SalaryReducer;
+import com.reliaquest.api.util.ResponseUtil;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Decoding the full roster payload: the former raw {@code ResponseDTO} read followed by {@code convertValue} against a
+ * single read into the parameterized response type, and against streaming the salaries straight into the top-N reducer
+ * without decoding employees. Run with {@code -prof gc} to compare allocation per operation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ResponseDecodingBenchmark {
+
+    @Param({"1000", "100000"})
+    int rosterSize;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private JavaType employeeListType;
+    private JavaType employeeListResponseType;
+    private byte[] payload;
+
+    @Setup
+    public void setUp() throws IOException {
+        employeeListType = objectMapper.getTypeFactory().constructCollectionType(List.class, Employee.class);
+        employeeListResponseType = objectMapper.constructType(ResponseUtil.EMPLOYEE_LIST_RESPONSE.getType());
+        payload = objectMapper.writeValueAsBytes(
+                new ResponseDTO<>(Rosters.synthetic(rosterSize), "Successfully processed request.", null, null, null));
+    }
+
+    @Benchmark
+    public List<Employee> untypedThenConvert() throws IOException {
+        ResponseDTO<?> response = objectMapper.readValue(payload, ResponseDTO.class);
+        return objectMapper.convertValue(response.getData(), employeeListType);
+    }
+
+    @Benchmark
+    public List<Employee> typed() throws IOException {
+        ResponseDTO<List<Employee>> response = objectMapper.readValue(payload, employeeListResponseType);
+        return response.getData();
+    }
+
+    @Benchmark
+    public List<String> streamedTopEarners() throws IOException {
+        SalaryReducer reducer = new SalaryReducer(10);
+        ResponseUtil.streamSalaries(new ByteArrayInputStream(payload), reducer);
+        return reducer.topEarnerNames();
+    }
+}
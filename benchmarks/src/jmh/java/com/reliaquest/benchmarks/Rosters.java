@@ -0,0 +1,62 @@
+package com.reliaquest.benchmarks;
+
+import com.reliaquest.api.entity.Employee;
+import com.reliaquest.server.model.MockEmployee;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.UUID;
+
+/**
+ * Deterministic synthetic rosters shared by the benchmarks.
+ */
+final class Rosters {
+
+    private static final String[] FIRST_NAMES = {
+        "Devki", "Pooja", "Tiger", "Bill", "Jill", "Ravi", "Anita", "Marco", "Elena", "Kenji", "Amara", "Lucas",
+        "Sofia", "Omar", "Priya", "Noah", "Mei", "Ivan", "Zara", "Hugo"
+    };
+    private static final String[] LAST_NAMES = {
+        "Chauhan", "Nixon", "Bob", "Jenkins", "Sharma", "Rossi", "Ivanova", "Tanaka", "Okafor", "Silva", "Garcia",
+        "Haddad", "Patel", "Smith", "Wong", "Petrov", "Khan", "Dubois", "Schmidt", "Moreau"
+    };
+    private static final String[] TITLES = {
+        "Engineer", "Manager", "Director", "Analyst", "Designer", "Architect", "Consultant", "Administrator"
+    };
+
+    private Rosters() {}
+
+    static List<Employee> synthetic(int size) {
+        SplittableRandom random = new SplittableRandom(42);
+        List<Employee> employees = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            String name = FIRST_NAMES[random.nextInt(FIRST_NAMES.length)] + " "
+                    + LAST_NAMES[random.nextInt(LAST_NAMES.length)] + " " + Integer.toString(i, 36);
+            employees.add(new Employee(
+                    new UUID(random.nextLong(), random.nextLong()).toString(),
+                    name,
+                    random.nextInt(30000, 500000),
+                    random.nextInt(16, 70),
+                    TITLES[random.nextInt(TITLES.length)],
+                    "employee" + i + "@company.com"));
+        }
+        return employees;
+    }
+
+    /**
+     * The same roster as {@link #synthetic(int)}, as the server stores it.
+     */
+    static List<MockEmployee> syntheticMock(int size) {
+        List<MockEmployee> employees = new ArrayList<>(size);
+        for (Employee employee : synthetic(size)) {
+            employees.add(new MockEmployee(
+                    UUID.fromString(employee.getId()),
+                    employee.getEmployee_name(),
+                    employee.getEmployee_salary(),
+                    employee.getEmployee_age(),
+                    employee.getEmployee_title(),
+                    employee.getEmployee_email()));
+        }
+        return employees;
+    }
+}
@@ -0,0 +1,62 @@
+package com.reliaquest.loaddriver;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Drives an open-loop request mix through the api and its mock server and writes a JSON report of throughput,
+ * latency percentiles and error and 429 rates. See {@link LoadOptions} for the command line; {@code gradle
+ * load-driver:loadTest -PloadArgs="..."} builds both boot jars and runs it against them.
+ */
+@Slf4j
+public final class LoadDriver {
+
+    private LoadDriver() {}
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        LoadOptions options = LoadOptions.parse(args);
+        ObjectMapper mapper = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+        LoadReport report;
+        LocalApps apps = options.start() ? LocalApps.start(options) : null;
+        try {
+            report = run(options, mapper);
+        } finally {
+            if (apps != null) {
+                apps.close();
+            }
+        }
+        mapper.writeValue(options.report().toFile(), report);
+        LoadReport.RouteReport total = report.total();
+        log.info(
+                "{} requests at {} per second, p50 {} ms, p99 {} ms, p99.9 {} ms, 429 ratio {}, error ratio {}",
+                total.requests(),
+                String.format("%.1f", total.throughput()),
+                total.latencyMillis().p50(),
+                total.latencyMillis().p99(),
+                total.latencyMillis().p999(),
+                String.format("%.3f", total.rateLimitedRatio()),
+                String.format("%.3f", total.errorRatio()));
+        log.info("Wrote {}", options.report().toAbsolutePath());
+    }
+
+    private static LoadReport run(LoadOptions options, ObjectMapper mapper) throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            HttpClient client = HttpClient.newBuilder()
+                    .version(HttpClient.Version.HTTP_1_1)
+                    .connectTimeout(options.timeout())
+                    .executor(executor)
+                    .build();
+            LoadRun run = new LoadRun(options, client, mapper);
+            run.seed();
+            return run.run();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package com.reliaquest.loaddriver;
+
+import java.net.URI;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import org.springframework.boot.convert.DurationStyle;
+
+/**
+ * Command line of the load driver, every option written as {@code --name=value}.
+ *
+ * @param rate         requests started per second, on a fixed schedule whatever the responses do
+ * @param duration     measured part of the run
+ * @param warmup       unmeasured run before it, which also lets the api fill its roster cache
+ * @param mix          relative weight of every route
+ * @param timeout      per request timeout, a timed out request counts as a failure
+ * @param maxInFlight  outstanding requests above which scheduled requests are dropped and counted
+ * @param apiUrl       base url of the employee controller
+ * @param start        whether to start the server and api jars, otherwise they must already be running
+ * @param serverJar    server boot jar, used when starting the apps
+ * @param apiJar       api boot jar, used when starting the apps
+ * @param serverArgs   extra arguments for the server, one {@code --server-arg} each
+ * @param apiArgs      extra arguments for the api, one {@code --api-arg} each
+ * @param report       file the JSON report is written to
+ */
+public record LoadOptions(
+        int rate,
+        Duration duration,
+        Duration warmup,
+        RouteMix mix,
+        Duration timeout,
+        int maxInFlight,
+        URI apiUrl,
+        boolean start,
+        Path serverJar,
+        Path apiJar,
+        List<String> serverArgs,
+        List<String> apiArgs,
+        Path report) {
+
+    static final String DEFAULT_MIX = "all=1,search=2,byId=4,highestSalary=1,topEarners=1,create=1,delete=1";
+
+    public static LoadOptions parse(String... args) {
+        int rate = 50;
+        Duration duration = Duration.ofSeconds(30);
+        Duration warmup = Duration.ofSeconds(5);
+        RouteMix mix = RouteMix.parse(DEFAULT_MIX);
+        Duration timeout = Duration.ofSeconds(10);
+        int maxInFlight = 256;
+        URI apiUrl = URI.create("http://localhost:8111/api/v1/employee");
+        boolean start = true;
+        Path serverJar = pathProperty("load.server-jar");
+        Path apiJar = pathProperty("load.api-jar");
+        List<String> serverArgs = new ArrayList<>();
+        List<String> apiArgs = new ArrayList<>();
+        Path report = Path.of("load-report.json");
+        for (String arg : args) {
+            if (arg.isBlank()) {
+                continue;
+            }
+            int separator = arg.indexOf('=');
+            if (!arg.startsWith("--") || separator < 0) {
+                throw new IllegalArgumentException("Expected --name=value but got '" + arg + "'");
+            }
+            String value = arg.substring(separator + 1);
+            switch (arg.substring(2, separator)) {
+                case "rate" -> rate = Integer.parseInt(value);
+                case "duration" -> duration = DurationStyle.detectAndParse(value);
+                case "warmup" -> warmup = DurationStyle.detectAndParse(value);
+                case "mix" -> mix = RouteMix.parse(value);
+                case "timeout" -> timeout = DurationStyle.detectAndParse(value);
+                case "max-in-flight" -> maxInFlight = Integer.parseInt(value);
+                case "api-url" -> apiUrl = URI.create(value);
+                case "start" -> start = Boolean.parseBoolean(value);
+                case "server-jar" -> serverJar = Path.of(value);
+                case "api-jar" -> apiJar = Path.of(value);
+                case "server-arg" -> serverArgs.add(value);
+                case "api-arg" -> apiArgs.add(value);
+                case "report" -> report = Path.of(value);
+                default -> throw new IllegalArgumentException("Unknown option '" + arg + "'");
+            }
+        }
+        if (rate <= 0 || maxInFlight <= 0) {
+            throw new IllegalArgumentException("--rate and --max-in-flight must be positive");
+        }
+        if (duration.isNegative() || duration.isZero() || warmup.isNegative()) {
+            throw new IllegalArgumentException("--duration must be positive and --warmup not negative");
+        }
+        if (start && (serverJar == null || apiJar == null)) {
+            throw new IllegalArgumentException("--server-jar and --api-jar are required unless --start=false");
+        }
+        return new LoadOptions(
+                rate,
+                duration,
+                warmup,
+                mix,
+                timeout,
+                maxInFlight,
+                apiUrl,
+                start,
+                serverJar,
+                apiJar,
+                List.copyOf(serverArgs),
+                List.copyOf(apiArgs),
+                report);
+    }
+
+    private static Path pathProperty(String name) {
+        String value = System.getProperty(name);
+        return value == null || value.isBlank() ? null : Path.of(value);
+    }
+}
@@ -0,0 +1,123 @@
+package com.reliaquest.loaddriver;
+
+import java.util.List;
+import java.util.Map;
+import org.HdrHistogram.Histogram;
+
+/**
+ * Machine readable result of a run, written as JSON. Counts, rates and latencies cover the measured part only.
+ *
+ * @param scheduledRate requests per second the driver was asked to start
+ * @param mix           route weights of the run
+ * @param routes        one entry per route in the mix
+ * @param total         all routes together
+ */
+public record LoadReport(
+        String startedAt,
+        int scheduledRate,
+        double durationSeconds,
+        double warmupSeconds,
+        Map<String, Integer> mix,
+        List<RouteReport> routes,
+        RouteReport total) {
+
+    /**
+     * Outcomes of one route.
+     *
+     * @param requests         requests sent and answered or failed
+     * @param ok               responses below 400
+     * @param rateLimited      429 responses
+     * @param clientErrors     other 4xx responses
+     * @param serverErrors     5xx responses
+     * @param failures         requests without a response, such as timeouts and refused connections
+     * @param dropped          scheduled requests not sent because too many were outstanding
+     * @param skipped          scheduled requests not sent for lack of a target, such as an employee to delete
+     * @param throughput       requests per second
+     * @param rateLimitedRatio share of requests answered 429
+     * @param errorRatio       share of requests that were client errors, server errors or failures
+     */
+    public record RouteReport(
+            String route,
+            long requests,
+            long ok,
+            long rateLimited,
+            long clientErrors,
+            long serverErrors,
+            long failures,
+            long dropped,
+            long skipped,
+            double throughput,
+            double rateLimitedRatio,
+            double errorRatio,
+            Latency latencyMillis) {
+
+        static RouteReport of(
+                String route,
+                long ok,
+                long rateLimited,
+                long clientErrors,
+                long serverErrors,
+                long failures,
+                long dropped,
+                long skipped,
+                Histogram histogram,
+                double seconds) {
+            long requests = ok + rateLimited + clientErrors + serverErrors + failures;
+            return new RouteReport(
+                    route,
+                    requests,
+                    ok,
+                    rateLimited,
+                    clientErrors,
+                    serverErrors,
+                    failures,
+                    dropped,
+                    skipped,
+                    requests / seconds,
+                    ratio(rateLimited, requests),
+                    ratio(clientErrors + serverErrors + failures, requests),
+                    Latency.of(histogram));
+        }
+
+        static RouteReport total(List<RouteReport> routes, Histogram histogram, double seconds) {
+            return of(
+                    "total",
+                    routes.stream().mapToLong(RouteReport::ok).sum(),
+                    routes.stream().mapToLong(RouteReport::rateLimited).sum(),
+                    routes.stream().mapToLong(RouteReport::clientErrors).sum(),
+                    routes.stream().mapToLong(RouteReport::serverErrors).sum(),
+                    routes.stream().mapToLong(RouteReport::failures).sum(),
+                    routes.stream().mapToLong(RouteReport::dropped).sum(),
+                    routes.stream().mapToLong(RouteReport::skipped).sum(),
+                    histogram,
+                    seconds);
+        }
+
+        private static double ratio(long part, long whole) {
+            return whole == 0 ? 0 : (double) part / whole;
+        }
+    }
+
+    /**
+     * Latency distribution in milliseconds, from the scheduled start of each request to its response or failure.
+     */
+    public record Latency(double mean, double p50, double p90, double p99, double p999, double max) {
+
+        static Latency of(Histogram micros) {
+            if (micros.getTotalCount() == 0) {
+                return new Latency(0, 0, 0, 0, 0, 0);
+            }
+            return new Latency(
+                    micros.getMean() / 1_000,
+                    millis(micros, 50),
+                    millis(micros, 90),
+                    millis(micros, 99),
+                    millis(micros, 99.9),
+                    micros.getMaxValue() / 1_000.0);
+        }
+
+        private static double millis(Histogram micros, double percentile) {
+            return micros.getValueAtPercentile(percentile) / 1_000.0;
+        }
+    }
+}
@@ -0,0 +1,253 @@
+package com.reliaquest.loaddriver;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import lombok.extern.slf4j.Slf4j;
+import org.HdrHistogram.Histogram;
+
+/**
+ * One open-loop run against the employee controller.
+ * <p>
+ * Requests are started on a fixed schedule of {@code rate} per second from a single thread and sent asynchronously,
+ * so a slow or rate limited api does not hold back the next request the way a closed loop of waiting clients would.
+ * Latency is taken from each request's scheduled start, which keeps the queueing delay of a stalled api in the
+ * percentiles. Lookups target employees read from the roster before the run; deletes only remove employees this run
+ * created.
+ */
+@Slf4j
+final class LoadRun {
+
+    static final int MAX_SEEDED = 10_000;
+    static final int SEED_ATTEMPTS = 5;
+
+    private final LoadOptions options;
+    private final HttpClient client;
+    private final ObjectMapper mapper;
+    private final Map<Route, RouteStats> stats = new EnumMap<>(Route.class);
+    /** Shared sink for warmup requests, whose outcomes are never reported. */
+    private final RouteStats warmupStats = new RouteStats();
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final Queue<String> created = new ConcurrentLinkedQueue<>();
+    private final SplittableRandom random = new SplittableRandom();
+    private final AtomicLong createdCount = new AtomicLong();
+    private List<String> ids = List.of();
+    private List<String> searchTerms = List.of();
+
+    LoadRun(LoadOptions options, HttpClient client, ObjectMapper mapper) {
+        this.options = options;
+        this.client = client;
+        this.mapper = mapper;
+        options.mix().getWeights().keySet().forEach(route -> stats.put(route, new RouteStats()));
+    }
+
+    /**
+     * Reads the roster once for ids to look up and names to search for, retrying while the api is rate limited.
+     */
+    void seed() throws InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(options.apiUrl())
+                .timeout(options.timeout())
+                .build();
+        for (int attempt = 1; attempt <= SEED_ATTEMPTS; attempt++) {
+            try {
+                HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+                if (response.statusCode() == 200) {
+                    seed(mapper.readTree(response.body()));
+                    return;
+                }
+                log.warn(
+                        "Reading the roster returned {}, attempt {} of {}",
+                        response.statusCode(),
+                        attempt,
+                        SEED_ATTEMPTS);
+            } catch (IOException exception) {
+                log.warn(
+                        "Reading the roster failed, attempt {} of {}: {}",
+                        attempt,
+                        SEED_ATTEMPTS,
+                        exception.toString());
+            }
+            TimeUnit.SECONDS.sleep(5);
+        }
+        log.warn("Running without a roster, lookups will target unknown ids");
+    }
+
+    private void seed(JsonNode roster) {
+        List<String> seededIds = new ArrayList<>();
+        List<String> terms = new ArrayList<>();
+        for (JsonNode employee : roster) {
+            if (seededIds.size() == MAX_SEEDED) {
+                break;
+            }
+            seededIds.add(employee.path("id").asText());
+            String name = employee.path("employee_name").asText("");
+            int space = name.indexOf(' ');
+            terms.add(space > 0 ? name.substring(0, space) : name);
+        }
+        ids = List.copyOf(seededIds);
+        searchTerms = terms.stream().filter(term -> !term.isBlank()).toList();
+        log.info("Seeded {} ids and {} search terms", ids.size(), searchTerms.size());
+    }
+
+    LoadReport run() throws InterruptedException {
+        final String startedAt = Instant.now().toString();
+        final long intervalNanos = TimeUnit.SECONDS.toNanos(1) / options.rate();
+        final long start = System.nanoTime();
+        final long measuredFrom = start + options.warmup().toNanos();
+        final long end = measuredFrom + options.duration().toNanos();
+        log.info(
+                "Running {} requests per second for {} after {} of warmup",
+                options.rate(),
+                options.duration(),
+                options.warmup());
+        for (long i = 0; ; i++) {
+            long scheduled = start + i * intervalNanos;
+            if (scheduled >= end) {
+                break;
+            }
+            long wait = scheduled - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            send(options.mix().pick(random.nextDouble()), scheduled, scheduled >= measuredFrom);
+        }
+        awaitInFlight();
+        double seconds = options.duration().toNanos() / 1e9;
+        Histogram total = new Histogram(RouteStats.HIGHEST_TRACKABLE_MICROS, RouteStats.SIGNIFICANT_DIGITS);
+        List<LoadReport.RouteReport> routes = new ArrayList<>();
+        stats.forEach((route, routeStats) -> routes.add(routeStats.report(route.getKey(), seconds, total)));
+        Map<String, Integer> mix = new LinkedHashMap<>();
+        options.mix().getWeights().forEach((route, weight) -> mix.put(route.getKey(), weight));
+        log.info("Created {} employees, {} left undeleted", createdCount.get(), created.size());
+        return new LoadReport(
+                startedAt,
+                options.rate(),
+                seconds,
+                options.warmup().toNanos() / 1e9,
+                mix,
+                routes,
+                LoadReport.RouteReport.total(routes, total, seconds));
+    }
+
+    private void send(Route route, long scheduled, boolean measured) {
+        RouteStats routeStats = measured ? stats.get(route) : warmupStats;
+        HttpRequest request = request(route);
+        if (request == null) {
+            routeStats.recordSkipped();
+            return;
+        }
+        if (inFlight.get() >= options.maxInFlight()) {
+            routeStats.recordDropped();
+            return;
+        }
+        inFlight.incrementAndGet();
+        client.sendAsync(request, HttpResponse.BodyHandlers.ofString()).whenComplete((response, failure) -> {
+            long latency = System.nanoTime() - scheduled;
+            try {
+                if (failure != null) {
+                    routeStats.recordFailure(latency);
+                    return;
+                }
+                routeStats.recordResponse(response.statusCode(), latency);
+                if (route == Route.CREATE && response.statusCode() == 201) {
+                    remember(response.body());
+                }
+            } finally {
+                inFlight.decrementAndGet();
+            }
+        });
+    }
+
+    private HttpRequest request(Route route) {
+        URI base = options.apiUrl();
+        return switch (route) {
+            case ALL -> get(base);
+            case SEARCH -> get(child(child(base, "search"), pick(searchTerms, "a")));
+            case BY_ID -> get(child(base, pick(ids, UUID.randomUUID().toString())));
+            case HIGHEST_SALARY -> get(child(base, "highestSalary"));
+            case TOP_EARNERS -> get(child(base, "topTenHighestEarningEmployeeNames"));
+            case CREATE -> builder(base)
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(newEmployee()))
+                    .build();
+            case DELETE -> {
+                String id = created.poll();
+                yield id == null ? null : builder(child(base, id)).DELETE().build();
+            }
+        };
+    }
+
+    private HttpRequest get(URI uri) {
+        return builder(uri).GET().build();
+    }
+
+    private HttpRequest.Builder builder(URI uri) {
+        return HttpRequest.newBuilder(uri).timeout(options.timeout());
+    }
+
+    private String pick(List<String> values, String fallback) {
+        return values.isEmpty() ? fallback : values.get(random.nextInt(values.size()));
+    }
+
+    private String newEmployee() {
+        Map<String, Object> employee = new LinkedHashMap<>();
+        employee.put("name", "Load Driver " + random.nextInt(1_000_000));
+        employee.put("salary", random.nextInt(30_000, 500_000));
+        employee.put("age", random.nextInt(16, 76));
+        employee.put("title", "Load Tester");
+        try {
+            return mapper.writeValueAsString(employee);
+        } catch (IOException exception) {
+            throw new IllegalStateException(exception);
+        }
+    }
+
+    private void remember(String body) {
+        try {
+            String id = mapper.readTree(body).path("id").asText(null);
+            if (id != null) {
+                created.add(id);
+                createdCount.incrementAndGet();
+            }
+        } catch (IOException exception) {
+            log.debug("Could not read the created employee: {}", exception.getMessage());
+        }
+    }
+
+    private void awaitInFlight() throws InterruptedException {
+        long deadline = System.nanoTime() + options.timeout().toNanos() + TimeUnit.SECONDS.toNanos(1);
+        while (inFlight.get() > 0 && System.nanoTime() < deadline) {
+            TimeUnit.MILLISECONDS.sleep(10);
+        }
+        if (inFlight.get() > 0) {
+            log.warn("{} requests still outstanding at the end of the run", inFlight.get());
+        }
+    }
+
+    private static URI child(URI base, String segment) {
+        String path = base.toString();
+        return URI.create((path.endsWith("/") ? path : path + "/")
+                + URLEncoder.encode(segment, StandardCharsets.UTF_8).replace("+", "%20"));
+    }
+}
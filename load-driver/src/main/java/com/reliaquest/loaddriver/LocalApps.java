@@ -0,0 +1,127 @@
+package com.reliaquest.loaddriver;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * The server and api boot jars running as child processes on localhost, each logging to a file in the working
+ * directory. Closing stops both, api first.
+ */
+@Slf4j
+final class LocalApps implements AutoCloseable {
+
+    static final int SERVER_PORT = 8112;
+    static final Duration STARTUP_TIMEOUT = Duration.ofMinutes(3);
+
+    private final List<Process> processes = new ArrayList<>();
+
+    static LocalApps start(LoadOptions options) throws IOException, InterruptedException {
+        LocalApps apps = new LocalApps();
+        try {
+            apps.launch("server", options.serverJar(), options.serverArgs());
+            apps.await("server", () -> serverAccepts());
+            apps.launch("api", options.apiJar(), options.apiArgs());
+            URI health = options.apiUrl().resolve("/actuator/health");
+            HttpClient client = HttpClient.newHttpClient();
+            apps.await("api", () -> healthy(client, health));
+            return apps;
+        } catch (IOException | InterruptedException | RuntimeException exception) {
+            apps.close();
+            throw exception;
+        }
+    }
+
+    private void launch(String name, Path jar, List<String> args) throws IOException {
+        List<String> command = new ArrayList<>();
+        command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+        command.add("-jar");
+        command.add(jar.toAbsolutePath().toString());
+        command.addAll(args);
+        Path logFile = Path.of(name + ".log").toAbsolutePath();
+        log.info("Starting {} from {}, logging to {}", name, jar, logFile);
+        processes.add(new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(logFile.toFile())
+                .start());
+    }
+
+    private void await(String name, Probe probe) throws InterruptedException {
+        Process process = processes.get(processes.size() - 1);
+        long deadline = System.nanoTime() + STARTUP_TIMEOUT.toNanos();
+        while (!probe.ready()) {
+            if (!process.isAlive()) {
+                throw new IllegalStateException(
+                        name + " exited with " + process.exitValue() + ", see " + name + ".log");
+            }
+            if (System.nanoTime() > deadline) {
+                throw new IllegalStateException(name + " did not start within " + STARTUP_TIMEOUT);
+            }
+            TimeUnit.MILLISECONDS.sleep(250);
+        }
+        log.info("{} is up", name);
+    }
+
+    private static boolean serverAccepts() {
+        try (Socket socket = new Socket()) {
+            socket.connect(new InetSocketAddress("localhost", SERVER_PORT), 500);
+            return true;
+        } catch (IOException exception) {
+            return false;
+        }
+    }
+
+    private static boolean healthy(HttpClient client, URI health) throws InterruptedException {
+        try {
+            HttpRequest request = HttpRequest.newBuilder(health)
+                    .timeout(Duration.ofSeconds(2))
+                    .build();
+            return client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() == 200;
+        } catch (IOException exception) {
+            return false;
+        }
+    }
+
+    /**
+     * Stops both applications; if interrupted while waiting, kills the rest at once and keeps the interrupt flag set.
+     */
+    @Override
+    public void close() {
+        boolean interrupted = false;
+        for (int i = processes.size() - 1; i >= 0; i--) {
+            Process process = processes.get(i);
+            if (interrupted) {
+                process.destroyForcibly();
+                continue;
+            }
+            process.destroy();
+            try {
+                if (!process.waitFor(30, TimeUnit.SECONDS)) {
+                    process.destroyForcibly().waitFor();
+                }
+            } catch (InterruptedException exception) {
+                interrupted = true;
+                process.destroyForcibly();
+            }
+        }
+        processes.clear();
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @FunctionalInterface
+    private interface Probe {
+        boolean ready() throws InterruptedException;
+    }
+}
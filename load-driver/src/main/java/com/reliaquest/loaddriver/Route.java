@@ -0,0 +1,40 @@
+package com.reliaquest.loaddriver;
+
+import java.util.Arrays;
+
+/**
+ * The routes of {@code IEmployeeController}, named by the key used in {@code --mix}.
+ */
+public enum Route {
+    ALL("all", "GET /"),
+    SEARCH("search", "GET /search/{searchString}"),
+    BY_ID("byId", "GET /{id}"),
+    HIGHEST_SALARY("highestSalary", "GET /highestSalary"),
+    TOP_EARNERS("topEarners", "GET /topTenHighestEarningEmployeeNames"),
+    CREATE("create", "POST /"),
+    DELETE("delete", "DELETE /{id}");
+
+    private final String key;
+    private final String description;
+
+    Route(String key, String description) {
+        this.key = key;
+        this.description = description;
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public static Route fromKey(String key) {
+        return Arrays.stream(values())
+                .filter(route -> route.key.equalsIgnoreCase(key))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Unknown route '" + key + "', expected one of "
+                        + Arrays.stream(values()).map(Route::getKey).toList()));
+    }
+}
@@ -0,0 +1,68 @@
+package com.reliaquest.loaddriver;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Weighted choice of the next route, parsed from {@code key=weight} pairs such as {@code byId=4,create=1}.
+ */
+public final class RouteMix {
+
+    private final Map<Route, Integer> weights;
+    private final Route[] routes;
+    private final int[] cumulative;
+
+    RouteMix(Map<Route, Integer> weights) {
+        this.weights = Collections.unmodifiableMap(new EnumMap<>(weights));
+        this.routes = this.weights.keySet().toArray(Route[]::new);
+        this.cumulative = new int[routes.length];
+        int total = 0;
+        for (int i = 0; i < routes.length; i++) {
+            total += this.weights.get(routes[i]);
+            cumulative[i] = total;
+        }
+        if (total <= 0) {
+            throw new IllegalArgumentException("Request mix has no positive weight");
+        }
+    }
+
+    public static RouteMix parse(String spec) {
+        Map<Route, Integer> weights = new EnumMap<>(Route.class);
+        for (String pair : spec.split(",")) {
+            if (pair.isBlank()) {
+                continue;
+            }
+            int separator = pair.indexOf('=');
+            Route route = Route.fromKey(
+                    separator < 0 ? pair.strip() : pair.substring(0, separator).strip());
+            int weight = separator < 0
+                    ? 1
+                    : Integer.parseInt(pair.substring(separator + 1).strip());
+            if (weight < 0) {
+                throw new IllegalArgumentException("Negative weight for route " + route.getKey());
+            }
+            if (weight > 0) {
+                weights.merge(route, weight, Integer::sum);
+            }
+        }
+        return new RouteMix(weights);
+    }
+
+    public Map<Route, Integer> getWeights() {
+        return weights;
+    }
+
+    /**
+     * Route for a uniformly drawn {@code sample} in {@code [0, 1)}.
+     */
+    public Route pick(double sample) {
+        int target = (int) (sample * cumulative[cumulative.length - 1]);
+        for (int i = 0; i < cumulative.length; i++) {
+            if (target < cumulative[i]) {
+                return routes[i];
+            }
+        }
+        return routes[routes.length - 1];
+    }
+}
@@ -0,0 +1,81 @@
+package com.reliaquest.loaddriver;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+/**
+ * Outcomes and latencies of one route. Latency runs from the time a request was scheduled to start, not the time it
+ * was sent, so a stalled api shows up in the percentiles instead of silently lowering the request rate.
+ */
+final class RouteStats {
+
+    static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(2);
+    static final int SIGNIFICANT_DIGITS = 3;
+
+    private final Recorder latencies = new Recorder(HIGHEST_TRACKABLE_MICROS, SIGNIFICANT_DIGITS);
+    private final LongAdder ok = new LongAdder();
+    private final LongAdder rateLimited = new LongAdder();
+    private final LongAdder clientErrors = new LongAdder();
+    private final LongAdder serverErrors = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder skipped = new LongAdder();
+
+    void recordResponse(int status, long latencyNanos) {
+        recordLatency(latencyNanos);
+        if (status == 429) {
+            rateLimited.increment();
+        } else if (status >= 500) {
+            serverErrors.increment();
+        } else if (status >= 400) {
+            clientErrors.increment();
+        } else {
+            ok.increment();
+        }
+    }
+
+    void recordFailure(long latencyNanos) {
+        recordLatency(latencyNanos);
+        failures.increment();
+    }
+
+    /**
+     * A scheduled request not sent because {@code --max-in-flight} requests were outstanding.
+     */
+    void recordDropped() {
+        dropped.increment();
+    }
+
+    /**
+     * A scheduled request not sent because there was nothing to send it for, such as a delete with no employee
+     * created by this run left.
+     */
+    void recordSkipped() {
+        skipped.increment();
+    }
+
+    private void recordLatency(long latencyNanos) {
+        latencies.recordValue(Math.min(HIGHEST_TRACKABLE_MICROS, Math.max(0, latencyNanos / 1_000)));
+    }
+
+    /**
+     * Report of everything recorded so far, whose latencies are also added to {@code total}.
+     */
+    LoadReport.RouteReport report(String route, double seconds, Histogram total) {
+        Histogram histogram = latencies.getIntervalHistogram();
+        total.add(histogram);
+        return LoadReport.RouteReport.of(
+                route,
+                ok.sum(),
+                rateLimited.sum(),
+                clientErrors.sum(),
+                serverErrors.sum(),
+                failures.sum(),
+                dropped.sum(),
+                skipped.sum(),
+                histogram,
+                seconds);
+    }
+}
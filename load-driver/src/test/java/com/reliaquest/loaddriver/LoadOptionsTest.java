@@ -0,0 +1,50 @@
+package com.reliaquest.loaddriver;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+class LoadOptionsTest {
+
+    @Test
+    void testParse_ReadsEveryOption() {
+        LoadOptions options = LoadOptions.parse(
+                "--rate=200",
+                "--duration=2m",
+                "--warmup=0s",
+                "--mix=byId=3,create=1",
+                "--start=false",
+                "--server-arg=--mock.rate-limit.mode=off",
+                "--server-arg=--mock.employees.count=1000");
+
+        assertEquals(200, options.rate());
+        assertEquals(Duration.ofMinutes(2), options.duration());
+        assertEquals(Duration.ZERO, options.warmup());
+        assertEquals(Map.of(Route.BY_ID, 3, Route.CREATE, 1), options.mix().getWeights());
+        assertFalse(options.start());
+        assertEquals(List.of("--mock.rate-limit.mode=off", "--mock.employees.count=1000"), options.serverArgs());
+    }
+
+    @Test
+    void testParse_RequiresJarsWhenStartingApps() {
+        assertThrows(IllegalArgumentException.class, () -> LoadOptions.parse("--rate=10"));
+        assertThrows(IllegalArgumentException.class, () -> LoadOptions.parse("--start=false", "--rate=0"));
+        assertThrows(IllegalArgumentException.class, () -> LoadOptions.parse("--start=false", "--rates=10"));
+    }
+
+    @Test
+    void testMix_PicksRoutesByWeight() {
+        RouteMix mix = RouteMix.parse("search=1,delete=0,byId=3");
+
+        assertFalse(mix.getWeights().containsKey(Route.DELETE));
+        assertEquals(Route.SEARCH, mix.pick(0.0));
+        assertEquals(Route.SEARCH, mix.pick(0.24));
+        assertEquals(Route.BY_ID, mix.pick(0.25));
+        assertEquals(Route.BY_ID, mix.pick(0.999));
+        assertThrows(IllegalArgumentException.class, () -> RouteMix.parse("nope=1"));
+        assertThrows(IllegalArgumentException.class, () -> RouteMix.parse("all=0"));
+    }
+}
@@ -0,0 +1,108 @@
+package com.reliaquest.server.config;
+
+import com.reliaquest.server.model.MockEmployee;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+import lombok.extern.slf4j.Slf4j;
+import net.datafaker.Faker;
+
+/**
+ * Builds the seed roster in parallel and reproducibly.
+ * <p>
+ * Rows are generated in fixed-size chunks on a fork-join pool. Every worker thread owns one {@link Faker}, whose
+ * {@link Random} is reseeded from the roster seed and the chunk number before each chunk, so a chunk's rows, ids
+ * included, depend only on the seed, the locale and the chunk, not on which thread ran it or how many there were.
+ * Employees are built with their constructor rather than datafaker's reflective transformer.
+ */
+@Slf4j
+public final class MockEmployeeGenerator {
+
+    static final int CHUNK_SIZE = 1024;
+    private static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+
+    private final Locale locale;
+    private final long seed;
+    private final int parallelism;
+    private final ThreadLocal<SeededFaker> fakers;
+
+    public MockEmployeeGenerator(Locale locale, long seed, int parallelism) {
+        this.locale = locale;
+        this.seed = seed;
+        this.parallelism = Math.max(1, parallelism);
+        this.fakers = ThreadLocal.withInitial(() -> {
+            Random random = new Random();
+            return new SeededFaker(new Faker(this.locale, random), random);
+        });
+    }
+
+    public List<MockEmployee> generate(int count) {
+        final var employees = new MockEmployee[Math.max(0, count)];
+        final int chunks = (employees.length + CHUNK_SIZE - 1) / CHUNK_SIZE;
+        final long started = System.nanoTime();
+        final var pool = new ForkJoinPool(parallelism);
+        try {
+            pool.submit(() -> IntStream.range(0, chunks).parallel().forEach(chunk -> fill(employees, chunk)))
+                    .join();
+        } finally {
+            pool.shutdown();
+        }
+        final long elapsedMillis = (System.nanoTime() - started) / 1_000_000;
+        log.info(
+                "Generated {} employees with seed {} on {} threads in {} ms ({} ms per 100k)",
+                employees.length,
+                seed,
+                parallelism,
+                elapsedMillis,
+                employees.length == 0 ? 0 : elapsedMillis * 100_000 / employees.length);
+        return Arrays.asList(employees);
+    }
+
+    private void fill(MockEmployee[] employees, int chunk) {
+        final var seeded = fakers.get();
+        seeded.random().setSeed(mix(seed + chunk * GOLDEN_GAMMA));
+        final int from = chunk * CHUNK_SIZE;
+        final int to = Math.min(employees.length, from + CHUNK_SIZE);
+        for (int i = from; i < to; i++) {
+            employees[i] = employee(seeded.faker(), seeded.random());
+            if (log.isTraceEnabled()) {
+                log.trace("Created employee: {}", employees[i]);
+            }
+        }
+    }
+
+    private static MockEmployee employee(Faker faker, Random random) {
+        return new MockEmployee(
+                uuid(random),
+                faker.name().fullName(),
+                faker.number().numberBetween(30000, 500000),
+                faker.number().numberBetween(16, 70),
+                faker.job().title(),
+                ServerConfiguration.EMAIL_TEMPLATE.formatted(
+                        faker.twitter().userName().toLowerCase()));
+    }
+
+    /**
+     * Random (version 4) UUID drawn from {@code random} instead of the shared secure generator, so it is reproducible.
+     */
+    private static UUID uuid(Random random) {
+        long most = (random.nextLong() & ~0xf000L) | 0x4000L;
+        long least = (random.nextLong() & 0x3fffffffffffffffL) | 0x8000000000000000L;
+        return new UUID(most, least);
+    }
+
+    /**
+     * SplitMix64 finalizer, so neighbouring chunks start from unrelated seeds.
+     */
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+
+    private record SeededFaker(Faker faker, Random random) {}
+}
@@ -1,13 +1,25 @@
 package com.reliaquest.server.controller;
 
+import com.reliaquest.server.model.BulkCreateResult;
 import com.reliaquest.server.model.CreateMockEmployeeInput;
 import com.reliaquest.server.model.DeleteMockEmployeeInput;
 import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.model.MockEmployeeChanges;
 import com.reliaquest.server.model.Response;
 import com.reliaquest.server.service.MockEmployeeService;
+import jakarta.validation.ConstraintViolation;
 import jakarta.validation.Valid;
+import jakarta.validation.Validator;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 import java.util.UUID;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -17,18 +29,92 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 @RestController
 @RequestMapping("/api/v1/employee")
 @RequiredArgsConstructor
 public class MockEmployeeController {
 
+    static final int MAX_PAGE_SIZE = 10_000;
+    static final int MAX_BULK_SIZE = 10_000;
+
     private final MockEmployeeService mockEmployeeService;
 
+    private final Validator validator;
+
+    /*
+     * Without paging parameters the whole roster is returned. With a limit, employees come in insertion order after
+     * the given cursor, up to and including end_cursor; follow next_cursor until it is absent.
+     * Responses carry a strong ETag of the store version; a matching If-None-Match is answered with 304 and no body.
+     */
     @GetMapping()
-    public Response<List<MockEmployee>> getEmployees() {
-        return Response.handledWith(mockEmployeeService.getMockEmployees());
+    public Response<List<MockEmployee>> getEmployees(
+            @RequestParam(name = "limit", required = false) @Min(1) @Max(MAX_PAGE_SIZE) Integer limit,
+            @RequestParam(name = "cursor", required = false) @Min(0) Long cursor,
+            @RequestParam(name = "end_cursor", required = false) @Min(0) Long endCursor,
+            WebRequest request) {
+        if (limit == null && cursor == null && endCursor == null) {
+            final var snapshot = mockEmployeeService.getMockEmployees();
+            if (request.checkNotModified(snapshot.entityTag())) {
+                return null;
+            }
+            return Response.handledWith(snapshot);
+        }
+        final var page = mockEmployeeService.getMockEmployees(
+                cursor == null ? 0 : cursor,
+                endCursor == null ? Long.MAX_VALUE : endCursor,
+                limit == null ? MAX_PAGE_SIZE : limit);
+        if (request.checkNotModified(page.entityTag())) {
+            return null;
+        }
+        return Response.handledWithPage(page.employees(), page.nextCursor(), page.lastCursor());
+    }
+
+    /*
+     * Creates and deletes since the given version (an ETag value of this endpoint, without quotes), or the full roster
+     * when that version is unknown or no longer retained. Without a version the full roster is returned.
+     */
+    @GetMapping("/changes")
+    public Response<MockEmployeeChanges> getEmployeeChanges(
+            @RequestParam(name = "since", required = false) String version) {
+        return Response.handledWith(mockEmployeeService.getChangesSince(version));
+    }
+
+    /*
+     * Writes the roster to mock.employees.snapshot.path now rather than only at shutdown. The data is the version
+     * written, in the same form as the ETag values.
+     */
+    @PostMapping("/snapshot")
+    public ResponseEntity<Response<String>> writeSnapshot() {
+        if (!mockEmployeeService.isSnapshotEnabled()) {
+            return ResponseEntity.status(HttpStatus.CONFLICT)
+                    .body(Response.error("Snapshots are disabled, set mock.employees.snapshot.path"));
+        }
+        return ResponseEntity.ok(Response.handledWith(mockEmployeeService.writeSnapshot()));
+    }
+
+    /*
+     * Query endpoints answered by the server's indexes, so clients need not load the roster for one value.
+     * Search matches names containing the text ignoring case, in insertion order. Top earners are ranked by salary,
+     * highest first, ties in insertion order; the highest salary is null when there are no employees.
+     */
+    @GetMapping("/search")
+    public Response<List<MockEmployee>> searchEmployees(@RequestParam("name") @NotBlank String name) {
+        return Response.handledWith(mockEmployeeService.findByNameContaining(name));
+    }
+
+    @GetMapping("/salary/max")
+    public Response<Integer> getHighestSalary() {
+        return Response.handledWith(mockEmployeeService.findHighestSalary());
+    }
+
+    @GetMapping("/salary/top")
+    public Response<List<MockEmployee>> getTopEarners(
+            @RequestParam(name = "limit", defaultValue = "10") @Min(1) @Max(MAX_PAGE_SIZE) int limit) {
+        return Response.handledWith(mockEmployeeService.findTopEarners(limit));
     }
 
     @GetMapping("/{id}")
@@ -44,6 +130,49 @@ public class MockEmployeeController {
         return Response.handledWith(mockEmployeeService.create(input));
     }
 
+    /*
+     * Creates many employees in one request. Items are validated one by one: invalid ones are reported in their slot
+     * of the result list and do not prevent the valid ones from being created.
+     */
+    @PostMapping("/bulk")
+    public Response<List<BulkCreateResult>> createEmployees(
+            @RequestBody @NotEmpty @Size(max = MAX_BULK_SIZE) List<CreateMockEmployeeInput> inputs) {
+        final var errors = new ArrayList<String>(inputs.size());
+        final var valid = new ArrayList<CreateMockEmployeeInput>(inputs.size());
+        for (CreateMockEmployeeInput input : inputs) {
+            final var error = validate(input);
+            errors.add(error);
+            if (error == null) {
+                valid.add(input);
+            }
+        }
+        final var created = mockEmployeeService.createAll(valid).iterator();
+        final var results = new ArrayList<BulkCreateResult>(inputs.size());
+        for (String error : errors) {
+            results.add(error == null ? BulkCreateResult.created(created.next()) : BulkCreateResult.rejected(error));
+        }
+        return Response.handledWith(results);
+    }
+
+    private String validate(CreateMockEmployeeInput input) {
+        if (input == null) {
+            return "employee: must not be null";
+        }
+        final var violations = validator.validate(input);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return violations.stream()
+                .sorted(Comparator.comparing(
+                        violation -> violation.getPropertyPath().toString()))
+                .map(MockEmployeeController::describe)
+                .collect(Collectors.joining(", "));
+    }
+
+    private static String describe(ConstraintViolation<?> violation) {
+        return violation.getPropertyPath() + ": " + violation.getMessage();
+    }
+
     @DeleteMapping()
     public Response<Boolean> deleteEmployee(@Valid @RequestBody DeleteMockEmployeeInput input) {
         return Response.handledWith(mockEmployeeService.delete(input));
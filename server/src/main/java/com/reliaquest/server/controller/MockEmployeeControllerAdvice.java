@@ -1,15 +1,30 @@
 package com.reliaquest.server.controller;
 
 import com.reliaquest.server.model.Response;
+import java.util.stream.Collectors;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.method.annotation.HandlerMethodValidationException;
 
 @Slf4j
 @ControllerAdvice
 public class MockEmployeeControllerAdvice {
 
+    /*
+     * Constraint violations of request parameters, such as a blank search or an out of range limit.
+     */
+    @ExceptionHandler
+    protected ResponseEntity<?> handleInvalidParameters(HandlerMethodValidationException ex) {
+        final var error = ex.getAllValidationResults().stream()
+                .flatMap(result -> result.getResolvableErrors().stream()
+                        .map(violation ->
+                                result.getMethodParameter().getParameterName() + ": " + violation.getDefaultMessage()))
+                .collect(Collectors.joining(", "));
+        return ResponseEntity.badRequest().body(Response.error(error));
+    }
+
     @ExceptionHandler
     protected ResponseEntity<?> handleException(Throwable ex) {
         log.error("Error handling web request.", ex);
@@ -0,0 +1,18 @@
+package com.reliaquest.server.model;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * Outcome of one item of a bulk create: the created employee, or why the item was rejected.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record BulkCreateResult(MockEmployee employee, String error) {
+
+    public static BulkCreateResult created(MockEmployee employee) {
+        return new BulkCreateResult(employee, null);
+    }
+
+    public static BulkCreateResult rejected(String error) {
+        return new BulkCreateResult(null, error);
+    }
+}
@@ -0,0 +1,24 @@
+package com.reliaquest.server.model;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import java.util.UUID;
+
+/**
+ * One write to the employee store. {@code employee} is only set for {@link Type#CREATED}.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record MockEmployeeChange(long version, Type type, UUID id, MockEmployee employee) {
+
+    public static MockEmployeeChange created(long version, MockEmployee employee) {
+        return new MockEmployeeChange(version, Type.CREATED, employee.getId(), employee);
+    }
+
+    public static MockEmployeeChange deleted(long version, MockEmployee employee) {
+        return new MockEmployeeChange(version, Type.DELETED, employee.getId(), null);
+    }
+
+    public enum Type {
+        CREATED,
+        DELETED
+    }
+}
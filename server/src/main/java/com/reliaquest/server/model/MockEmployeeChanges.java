@@ -0,0 +1,20 @@
+package com.reliaquest.server.model;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import java.util.List;
+
+/**
+ * Answer to a change feed request: either the changes since the requested version, in order, or, when those are no
+ * longer retained, {@code resync} set to ask the client to reload the roster from the list endpoint.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record MockEmployeeChanges(String version, boolean resync, List<MockEmployeeChange> changes) {
+
+    public static MockEmployeeChanges since(String version, List<MockEmployeeChange> changes) {
+        return new MockEmployeeChanges(version, false, changes);
+    }
+
+    public static MockEmployeeChanges resync(String version) {
+        return new MockEmployeeChanges(version, true, null);
+    }
+}
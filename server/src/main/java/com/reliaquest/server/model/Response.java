@@ -1,22 +1,32 @@
 package com.reliaquest.server.model;
 
 import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonValue;
 import lombok.Getter;
 
 @JsonInclude(JsonInclude.Include.NON_NULL)
-public record Response<T>(T data, Status status, String error) {
+public record Response<T>(
+        T data,
+        Status status,
+        String error,
+        @JsonProperty("next_cursor") Long nextCursor,
+        @JsonProperty("last_cursor") Long lastCursor) {
 
     public static <T> Response<T> handled() {
-        return new Response<>(null, Status.HANDLED, null);
+        return new Response<>(null, Status.HANDLED, null, null, null);
     }
 
     public static <T> Response<T> handledWith(T data) {
-        return new Response<>(data, Status.HANDLED, null);
+        return new Response<>(data, Status.HANDLED, null, null, null);
+    }
+
+    public static <T> Response<T> handledWithPage(T data, Long nextCursor, long lastCursor) {
+        return new Response<>(data, Status.HANDLED, null, nextCursor, lastCursor);
     }
 
     public static <T> Response<T> error(String error) {
-        return new Response<>(null, Status.ERROR, error);
+        return new Response<>(null, Status.ERROR, error, null, null);
     }
 
     public enum Status {
@@ -4,55 +4,140 @@ import com.reliaquest.server.config.ServerConfiguration;
 import com.reliaquest.server.model.CreateMockEmployeeInput;
 import com.reliaquest.server.model.DeleteMockEmployeeInput;
 import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.model.MockEmployeeChanges;
+import com.reliaquest.server.store.MockEmployeeStore;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import java.util.List;
-import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
-import lombok.Getter;
 import lombok.NonNull;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import net.datafaker.Faker;
 import org.springframework.stereotype.Service;
 
+/*
+ * Store operations are timed as mock.employees.operations, tagged with the operation, and the store size is published
+ * as the mock.employees.size gauge.
+ */
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class MockEmployeeService {
 
     private final Faker faker;
 
-    @Getter
-    private final List<MockEmployee> mockEmployees;
+    private final MockEmployeeStore mockEmployeeStore;
+
+    private final Timer pageTimer;
+    private final Timer changesTimer;
+    private final Timer findByIdTimer;
+    private final Timer searchTimer;
+    private final Timer topBySalaryTimer;
+    private final Timer createTimer;
+    private final Timer deleteTimer;
+
+    public MockEmployeeService(Faker faker, MockEmployeeStore mockEmployeeStore, MeterRegistry meterRegistry) {
+        this.faker = faker;
+        this.mockEmployeeStore = mockEmployeeStore;
+        this.pageTimer = operationTimer(meterRegistry, "page");
+        this.changesTimer = operationTimer(meterRegistry, "changes");
+        this.findByIdTimer = operationTimer(meterRegistry, "find_by_id");
+        this.searchTimer = operationTimer(meterRegistry, "search");
+        this.topBySalaryTimer = operationTimer(meterRegistry, "top_by_salary");
+        this.createTimer = operationTimer(meterRegistry, "create");
+        this.deleteTimer = operationTimer(meterRegistry, "delete");
+        Gauge.builder("mock.employees.size", mockEmployeeStore, MockEmployeeStore::size)
+                .description("Employees in the store")
+                .register(meterRegistry);
+    }
+
+    private static Timer operationTimer(MeterRegistry meterRegistry, String operation) {
+        return Timer.builder("mock.employees.operations")
+                .description("Employee store operations")
+                .tag("operation", operation)
+                .register(meterRegistry);
+    }
+
+    /*
+     * Point-in-time snapshot, safe to serialize while employees are being created and deleted.
+     */
+    public MockEmployeeStore.Snapshot getMockEmployees() {
+        return mockEmployeeStore.snapshot();
+    }
+
+    public MockEmployeeStore.Page getMockEmployees(long cursor, long endCursor, int limit) {
+        return pageTimer.record(() -> mockEmployeeStore.page(cursor, endCursor, limit));
+    }
+
+    public MockEmployeeChanges getChangesSince(String version) {
+        return changesTimer.record(() -> mockEmployeeStore.changesSince(version));
+    }
+
+    public boolean isSnapshotEnabled() {
+        return mockEmployeeStore.isImageEnabled();
+    }
+
+    /*
+     * Writes the current roster to the snapshot file, returning the version written.
+     */
+    public String writeSnapshot() {
+        return mockEmployeeStore.writeImage();
+    }
 
     public Optional<MockEmployee> findById(@NonNull UUID uuid) {
-        return mockEmployees.stream()
-                .filter(mockEmployee -> Objects.nonNull(mockEmployee.getId())
-                        && mockEmployee.getId().equals(uuid))
-                .findFirst();
+        return findByIdTimer.record(() -> mockEmployeeStore.findById(uuid));
+    }
+
+    public List<MockEmployee> findByNameContaining(@NonNull String text) {
+        return searchTimer.record(() -> mockEmployeeStore.findByNameContaining(text));
+    }
+
+    /*
+     * Highest salary in the roster, or null when it is empty.
+     */
+    public Integer findHighestSalary() {
+        final var top = topBySalaryTimer.record(() -> mockEmployeeStore.findTopBySalary(1));
+        return top.isEmpty() ? null : top.get(0).getSalary();
+    }
+
+    public List<MockEmployee> findTopEarners(int limit) {
+        return topBySalaryTimer.record(() -> mockEmployeeStore.findTopBySalary(limit));
     }
 
     public MockEmployee create(@NonNull CreateMockEmployeeInput input) {
-        final var mockEmployee = MockEmployee.from(
+        final var mockEmployee = toMockEmployee(input);
+        createTimer.record(() -> mockEmployeeStore.add(mockEmployee));
+        log.debug("Added employee: {}", mockEmployee);
+        return mockEmployee;
+    }
+
+    /*
+     * Creates the employees in order and publishes them to readers together.
+     */
+    public List<MockEmployee> createAll(@NonNull List<CreateMockEmployeeInput> inputs) {
+        final var mockEmployees = inputs.stream().map(this::toMockEmployee).toList();
+        createTimer.record(() -> mockEmployeeStore.addAll(mockEmployees));
+        log.debug("Added {} employees", mockEmployees.size());
+        return mockEmployees;
+    }
+
+    private MockEmployee toMockEmployee(CreateMockEmployeeInput input) {
+        return MockEmployee.from(
                 ServerConfiguration.EMAIL_TEMPLATE.formatted(
                         faker.twitter().userName().toLowerCase()),
                 input);
-        mockEmployees.add(mockEmployee);
-        log.debug("Added employee: {}", mockEmployee);
-        return mockEmployee;
     }
 
     public boolean delete(@NonNull DeleteMockEmployeeInput input) {
-        final var mockEmployee = mockEmployees.stream()
-                .filter(employee -> Objects.nonNull(employee.getName())
-                        && employee.getName().equalsIgnoreCase(input.getName()))
-                .findFirst();
-        if (mockEmployee.isPresent()) {
-            mockEmployees.remove(mockEmployee.get());
-            log.debug("Removed employee: {}", mockEmployee.get());
-            return true;
-        }
-
-        return false;
+        return deleteTimer.record(() -> {
+            final var mockEmployee = mockEmployeeStore.findFirstByName(input.getName());
+            if (mockEmployee.isPresent() && mockEmployeeStore.remove(mockEmployee.get())) {
+                log.debug("Removed employee: {}", mockEmployee.get());
+                return true;
+            }
+
+            return false;
+        });
     }
 }
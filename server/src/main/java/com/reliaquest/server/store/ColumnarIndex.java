@@ -0,0 +1,98 @@
+package com.reliaquest.server.store;
+
+import com.reliaquest.server.model.MockEmployee;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.ToLongFunction;
+
+/**
+ * Index for {@link ColumnarRows}, whose employees only exist while read, so it maps to insertion sequences instead:
+ * ids by their two halves, names by a 64-bit hash of the folded name. A name hit is confirmed against the row, since
+ * different names can share a hash.
+ */
+final class ColumnarIndex implements EmployeeIndex {
+
+    private final SequenceTable ids = new SequenceTable();
+    private final SequenceTable names = new SequenceTable();
+    private final ToLongFunction<String> nameHash;
+
+    ColumnarIndex() {
+        this(ColumnarIndex::hash);
+    }
+
+    ColumnarIndex(ToLongFunction<String> nameHash) {
+        this.nameHash = nameHash;
+    }
+
+    @Override
+    public void add(MockEmployee employee, long sequence) {
+        UUID id = employee.getId();
+        if (id != null) {
+            ids.putIfAbsent(id.getMostSignificantBits(), id.getLeastSignificantBits(), sequence);
+        }
+        if (employee.getName() != null) {
+            names.put(
+                    nameHash.applyAsLong(employee.getName()), employee.getName().length(), sequence);
+        }
+    }
+
+    @Override
+    public void remove(MockEmployee employee, long sequence) {
+        UUID id = employee.getId();
+        if (id != null) {
+            ids.remove(id.getMostSignificantBits(), id.getLeastSignificantBits(), sequence);
+        }
+        if (employee.getName() != null) {
+            names.remove(
+                    nameHash.applyAsLong(employee.getName()), employee.getName().length(), sequence);
+        }
+    }
+
+    @Override
+    public Optional<MockEmployee> findById(UUID id, MockEmployeeStore.Snapshot snapshot) {
+        int position = positionOf(id, snapshot);
+        return position < 0 ? Optional.empty() : Optional.of(snapshot.get(position));
+    }
+
+    @Override
+    public Optional<MockEmployee> findFirstByName(String name, MockEmployeeStore.Snapshot snapshot) {
+        int first = -1;
+        for (long sequence : names.getAll(nameHash.applyAsLong(name), name.length())) {
+            int position = snapshot.positionOfSequence(sequence);
+            if (position >= 0 && (first < 0 || position < first) && name.equalsIgnoreCase(snapshot.nameAt(position))) {
+                first = position;
+            }
+        }
+        return first < 0 ? Optional.empty() : Optional.of(snapshot.get(first));
+    }
+
+    @Override
+    public int positionOf(MockEmployee employee, MockEmployeeStore.Snapshot snapshot) {
+        if (employee.getId() != null) {
+            return positionOf(employee.getId(), snapshot);
+        }
+        for (int i = 0; i < snapshot.size(); i++) {
+            if (employee.equals(snapshot.get(i))) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private int positionOf(UUID id, MockEmployeeStore.Snapshot snapshot) {
+        long sequence = ids.get(id.getMostSignificantBits(), id.getLeastSignificantBits());
+        return sequence == 0 ? -1 : snapshot.positionOfSequence(sequence);
+    }
+
+    /**
+     * FNV-1a over the folded characters, without building the folded string.
+     */
+    private static long hash(String name) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < name.length(); i++) {
+            hash ^= EmployeeIndex.fold(name.charAt(i));
+            hash *= 0x100000001b3L;
+        }
+        return hash;
+    }
+}
@@ -0,0 +1,176 @@
+package com.reliaquest.server.store;
+
+import com.reliaquest.server.model.MockEmployee;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Employees kept column by column: ids as two {@code long} halves, salary and age as {@code int}s, titles as codes into
+ * a dictionary shared by all copies, and only names and emails as strings. {@link #get(int)} builds a new
+ * {@link MockEmployee} on every call, so row objects only exist while a response is being serialized.
+ */
+final class ColumnarRows implements EmployeeRows {
+
+    private static final byte NULL_ID = 1;
+    private static final byte NULL_SALARY = 1 << 1;
+    private static final byte NULL_AGE = 1 << 2;
+    private static final int NULL_TITLE = -1;
+
+    private final TitleDictionary titles;
+    private final long[] idHigh;
+    private final long[] idLow;
+    private final int[] salaries;
+    private final int[] ages;
+    private final int[] titleCodes;
+    private final byte[] nulls;
+    private final String[] names;
+    private final String[] emails;
+
+    ColumnarRows(int capacity) {
+        this(
+                new TitleDictionary(),
+                new long[capacity],
+                new long[capacity],
+                new int[capacity],
+                new int[capacity],
+                new int[capacity],
+                new byte[capacity],
+                new String[capacity],
+                new String[capacity]);
+    }
+
+    private ColumnarRows(
+            TitleDictionary titles,
+            long[] idHigh,
+            long[] idLow,
+            int[] salaries,
+            int[] ages,
+            int[] titleCodes,
+            byte[] nulls,
+            String[] names,
+            String[] emails) {
+        this.titles = titles;
+        this.idHigh = idHigh;
+        this.idLow = idLow;
+        this.salaries = salaries;
+        this.ages = ages;
+        this.titleCodes = titleCodes;
+        this.nulls = nulls;
+        this.names = names;
+        this.emails = emails;
+    }
+
+    @Override
+    public int capacity() {
+        return names.length;
+    }
+
+    @Override
+    public MockEmployee get(int row) {
+        byte absent = nulls[row];
+        return new MockEmployee(
+                (absent & NULL_ID) != 0 ? null : new UUID(idHigh[row], idLow[row]),
+                names[row],
+                (absent & NULL_SALARY) != 0 ? null : salaries[row],
+                (absent & NULL_AGE) != 0 ? null : ages[row],
+                titles.title(titleCodes[row]),
+                emails[row]);
+    }
+
+    @Override
+    public String name(int row) {
+        return names[row];
+    }
+
+    @Override
+    public void set(int row, MockEmployee employee) {
+        UUID id = employee.getId();
+        idHigh[row] = id == null ? 0 : id.getMostSignificantBits();
+        idLow[row] = id == null ? 0 : id.getLeastSignificantBits();
+        salaries[row] = employee.getSalary() == null ? 0 : employee.getSalary();
+        ages[row] = employee.getAge() == null ? 0 : employee.getAge();
+        titleCodes[row] = titles.code(employee.getTitle());
+        nulls[row] = (byte) ((id == null ? NULL_ID : 0)
+                | (employee.getSalary() == null ? NULL_SALARY : 0)
+                | (employee.getAge() == null ? NULL_AGE : 0));
+        names[row] = employee.getName();
+        emails[row] = employee.getEmail();
+    }
+
+    @Override
+    public EmployeeRows grow(int capacity, int size) {
+        return new ColumnarRows(
+                titles,
+                Arrays.copyOf(idHigh, capacity),
+                Arrays.copyOf(idLow, capacity),
+                Arrays.copyOf(salaries, capacity),
+                Arrays.copyOf(ages, capacity),
+                Arrays.copyOf(titleCodes, capacity),
+                Arrays.copyOf(nulls, capacity),
+                Arrays.copyOf(names, capacity),
+                Arrays.copyOf(emails, capacity));
+    }
+
+    @Override
+    public EmployeeRows without(int row, int size) {
+        ColumnarRows remaining = new ColumnarRows(
+                titles,
+                new long[idHigh.length],
+                new long[idHigh.length],
+                new int[idHigh.length],
+                new int[idHigh.length],
+                new int[idHigh.length],
+                new byte[idHigh.length],
+                new String[idHigh.length],
+                new String[idHigh.length]);
+        copyWithout(idHigh, remaining.idHigh, row, size);
+        copyWithout(idLow, remaining.idLow, row, size);
+        copyWithout(salaries, remaining.salaries, row, size);
+        copyWithout(ages, remaining.ages, row, size);
+        copyWithout(titleCodes, remaining.titleCodes, row, size);
+        copyWithout(nulls, remaining.nulls, row, size);
+        copyWithout(names, remaining.names, row, size);
+        copyWithout(emails, remaining.emails, row, size);
+        return remaining;
+    }
+
+    private static void copyWithout(Object source, Object target, int row, int size) {
+        System.arraycopy(source, 0, target, 0, row);
+        System.arraycopy(source, row + 1, target, row, size - row - 1);
+    }
+
+    /**
+     * Append-only title dictionary. Codes are assigned by writers under the store's write lock; a reader only resolves
+     * codes of rows in a snapshot it obtained after they were assigned.
+     */
+    private static final class TitleDictionary {
+
+        private final Map<String, Integer> codes = new HashMap<>();
+        private volatile String[] titles = new String[16];
+
+        int code(String title) {
+            if (title == null) {
+                return NULL_TITLE;
+            }
+            Integer code = codes.get(title);
+            if (code != null) {
+                return code;
+            }
+            int next = codes.size();
+            String[] current = titles;
+            if (next == current.length) {
+                current = Arrays.copyOf(current, next * 2);
+            }
+            current[next] = title;
+            titles = current;
+            codes.put(title, next);
+            return next;
+        }
+
+        String title(int code) {
+            return code == NULL_TITLE ? null : titles[code];
+        }
+    }
+}
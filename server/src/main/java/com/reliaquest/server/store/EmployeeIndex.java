@@ -0,0 +1,36 @@
+package com.reliaquest.server.store;
+
+import com.reliaquest.server.model.MockEmployee;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Lookups by id and by case-insensitive name for one {@link EmployeeRows} layout. Updated under the store's write lock,
+ * read without one.
+ */
+interface EmployeeIndex {
+
+    void add(MockEmployee employee, long sequence);
+
+    void remove(MockEmployee employee, long sequence);
+
+    Optional<MockEmployee> findById(UUID id, MockEmployeeStore.Snapshot snapshot);
+
+    /**
+     * Returns the earliest added employee in {@code snapshot} whose name equals {@code name} ignoring case.
+     */
+    Optional<MockEmployee> findFirstByName(String name, MockEmployeeStore.Snapshot snapshot);
+
+    /**
+     * Position of {@code employee}, as returned by this index, in {@code snapshot}, or -1 if it is not there.
+     */
+    int positionOf(MockEmployee employee, MockEmployeeStore.Snapshot snapshot);
+
+    /**
+     * Folds case the way {@link String#equalsIgnoreCase} compares characters, so index hits and the previous linear
+     * {@code equalsIgnoreCase} scan agree.
+     */
+    static char fold(char c) {
+        return Character.toLowerCase(Character.toUpperCase(c));
+    }
+}
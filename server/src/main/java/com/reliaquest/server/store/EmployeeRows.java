@@ -0,0 +1,28 @@
+package com.reliaquest.server.store;
+
+import com.reliaquest.server.model.MockEmployee;
+
+/**
+ * Row storage behind a {@link MockEmployeeStore.Snapshot}. Rows below a published snapshot's size are never written
+ * again; {@link #set} only fills spare capacity beyond it, so readers never need a lock.
+ */
+interface EmployeeRows {
+
+    int capacity();
+
+    MockEmployee get(int row);
+
+    String name(int row);
+
+    void set(int row, MockEmployee employee);
+
+    /**
+     * Copy of the first {@code size} rows with room for {@code capacity}.
+     */
+    EmployeeRows grow(int capacity, int size);
+
+    /**
+     * Copy of the first {@code size} rows without {@code row}, at the same capacity.
+     */
+    EmployeeRows without(int row, int size);
+}
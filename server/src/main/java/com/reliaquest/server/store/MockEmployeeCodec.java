@@ -0,0 +1,87 @@
+package com.reliaquest.server.store;
+
+import com.reliaquest.server.model.MockEmployee;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+/**
+ * Binary form of one employee shared by the snapshot file and the journal, big-endian:
+ * <pre>
+ * id (2 longs), null mask (byte), salary (int), age (int),
+ * name, title, email (each an int byte length followed by UTF-8 bytes)
+ * </pre>
+ */
+final class MockEmployeeCodec {
+
+    private static final int NULL_ID = 1;
+    private static final int NULL_SALARY = 1 << 1;
+    private static final int NULL_AGE = 1 << 2;
+    private static final int NULL_NAME = 1 << 3;
+    private static final int NULL_TITLE = 1 << 4;
+    private static final int NULL_EMAIL = 1 << 5;
+
+    private MockEmployeeCodec() {}
+
+    static void write(DataOutput out, MockEmployee employee) throws IOException {
+        UUID id = employee.getId();
+        int nulls = (id == null ? NULL_ID : 0)
+                | (employee.getSalary() == null ? NULL_SALARY : 0)
+                | (employee.getAge() == null ? NULL_AGE : 0)
+                | (employee.getName() == null ? NULL_NAME : 0)
+                | (employee.getTitle() == null ? NULL_TITLE : 0)
+                | (employee.getEmail() == null ? NULL_EMAIL : 0);
+        writeId(out, id);
+        out.writeByte(nulls);
+        out.writeInt(employee.getSalary() == null ? 0 : employee.getSalary());
+        out.writeInt(employee.getAge() == null ? 0 : employee.getAge());
+        writeString(out, employee.getName());
+        writeString(out, employee.getTitle());
+        writeString(out, employee.getEmail());
+    }
+
+    static MockEmployee read(ByteBuffer buffer) {
+        UUID id = readId(buffer);
+        int nulls = buffer.get();
+        int salary = buffer.getInt();
+        int age = buffer.getInt();
+        return new MockEmployee(
+                (nulls & NULL_ID) != 0 ? null : id,
+                readString(buffer, nulls, NULL_NAME),
+                (nulls & NULL_SALARY) != 0 ? null : salary,
+                (nulls & NULL_AGE) != 0 ? null : age,
+                readString(buffer, nulls, NULL_TITLE),
+                readString(buffer, nulls, NULL_EMAIL));
+    }
+
+    static void writeId(DataOutput out, UUID id) throws IOException {
+        out.writeLong(id == null ? 0 : id.getMostSignificantBits());
+        out.writeLong(id == null ? 0 : id.getLeastSignificantBits());
+    }
+
+    static UUID readId(ByteBuffer buffer) {
+        return new UUID(buffer.getLong(), buffer.getLong());
+    }
+
+    private static void writeString(DataOutput out, String value) throws IOException {
+        if (value == null) {
+            out.writeInt(0);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(ByteBuffer buffer, int nulls, int nullFlag) {
+        int length = buffer.getInt();
+        if ((nulls & nullFlag) != 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,226 @@
+package com.reliaquest.server.store;
+
+import com.reliaquest.server.model.MockEmployee;
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Optional;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedOutputStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Binary snapshot of the employee store at {@code mock.employees.snapshot.path}, so a restarted server comes back with
+ * the same roster instead of generating a new one. Disabled while the path is empty.
+ * <p>
+ * The file is a fixed header followed by one record per employee in insertion order, all big-endian:
+ * <pre>
+ * header: magic "MEMP" (int), format version (short), flags (short), epoch (long), store version (long),
+ *         last sequence (long), employee count (int), body CRC-32 (int), body length (long)
+ * record: sequence (long), then the employee as encoded by {@link MockEmployeeCodec}
+ * </pre>
+ * A reader rejects any other magic or format version, so the layout can change by bumping {@link #FORMAT_VERSION}.
+ * Files are read through a read-only memory mapping and written to a temporary file that atomically replaces the
+ * previous one. The {@link #CLEAN} flag marks a file written at shutdown, after the last write to the store; only then
+ * can the restored store keep the epoch, and with it the entity tags clients already hold. The store clears the flag
+ * with {@link #markDirty()} as soon as it has restored such a file, since its next writes make the file stale again.
+ */
+@Slf4j
+@Component
+public class MockEmployeeImageFile {
+
+    static final int MAGIC = 0x4d454d50;
+    static final short FORMAT_VERSION = 1;
+    static final short CLEAN = 1;
+    static final int HEADER_SIZE = 48;
+    static final int FLAGS_OFFSET = Integer.BYTES + Short.BYTES;
+
+    private final Path path;
+    private final boolean writeOnShutdown;
+
+    public MockEmployeeImageFile(
+            @Value("${mock.employees.snapshot.path:}") String path,
+            @Value("${mock.employees.snapshot.write-on-shutdown:true}") boolean writeOnShutdown) {
+        this.path = path == null || path.isBlank() ? null : Path.of(path);
+        this.writeOnShutdown = writeOnShutdown;
+    }
+
+    public boolean isEnabled() {
+        return path != null;
+    }
+
+    public boolean isWrittenOnShutdown() {
+        return path != null && writeOnShutdown;
+    }
+
+    /**
+     * Reads the snapshot file, or returns empty if snapshots are disabled, there is no file yet, or it is not a
+     * readable snapshot of the current format, in which case the store starts from a generated roster.
+     */
+    public Optional<Image> read() {
+        if (path == null || !Files.isRegularFile(path)) {
+            return Optional.empty();
+        }
+        final long started = System.nanoTime();
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            if (channel.size() < HEADER_SIZE || channel.size() > Integer.MAX_VALUE) {
+                log.warn("Ignoring snapshot {} of unsupported size {}", path, channel.size());
+                return Optional.empty();
+            }
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            Optional<Image> image;
+            try {
+                image = decode(buffer);
+            } catch (BufferUnderflowException | IllegalArgumentException exception) {
+                log.warn("Ignoring malformed snapshot {}", path);
+                return Optional.empty();
+            }
+            image.ifPresent(read -> log.info(
+                    "Loaded {} employees from snapshot {} in {} ms",
+                    read.employees().length,
+                    path,
+                    (System.nanoTime() - started) / 1_000_000));
+            return image;
+        } catch (IOException exception) {
+            log.warn("Could not read snapshot {}: {}", path, exception.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Clears the {@link #CLEAN} flag of the snapshot file in place, so that if the server dies before it writes a new
+     * one, the next start treats this one as stale and picks a new epoch instead of reusing entity tags for different
+     * contents. The flag is outside the checksummed body, so the rest of the file stays valid.
+     */
+    public void markDirty() {
+        if (path == null || !Files.isRegularFile(path)) {
+            return;
+        }
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE)) {
+            ByteBuffer flags =
+                    ByteBuffer.allocate(Short.BYTES).putShort((short) 0).flip();
+            while (flags.hasRemaining()) {
+                channel.write(flags, FLAGS_OFFSET + flags.position());
+            }
+            channel.force(false);
+        } catch (IOException exception) {
+            throw new UncheckedIOException("Could not clear the clean flag of snapshot " + path, exception);
+        }
+    }
+
+    private Optional<Image> decode(ByteBuffer buffer) {
+        if (buffer.getInt() != MAGIC) {
+            log.warn("Ignoring {}, not an employee snapshot", path);
+            return Optional.empty();
+        }
+        short formatVersion = buffer.getShort();
+        if (formatVersion != FORMAT_VERSION) {
+            log.warn("Ignoring snapshot {} of format version {}, expected {}", path, formatVersion, FORMAT_VERSION);
+            return Optional.empty();
+        }
+        short flags = buffer.getShort();
+        long epoch = buffer.getLong();
+        long version = buffer.getLong();
+        long lastSequence = buffer.getLong();
+        int count = buffer.getInt();
+        int checksum = buffer.getInt();
+        long bodyLength = buffer.getLong();
+        if (count < 0 || bodyLength != buffer.remaining()) {
+            log.warn("Ignoring truncated snapshot {}", path);
+            return Optional.empty();
+        }
+        CRC32 crc = new CRC32();
+        crc.update(buffer.slice());
+        if ((int) crc.getValue() != checksum) {
+            log.warn("Ignoring corrupt snapshot {}", path);
+            return Optional.empty();
+        }
+        MockEmployee[] employees = new MockEmployee[count];
+        long[] sequences = new long[count];
+        for (int i = 0; i < count; i++) {
+            sequences[i] = buffer.getLong();
+            employees[i] = MockEmployeeCodec.read(buffer);
+        }
+        return Optional.of(
+                new Image(Long.toHexString(epoch), version, lastSequence, (flags & CLEAN) != 0, employees, sequences));
+    }
+
+    /**
+     * Replaces the snapshot file with {@code image}.
+     */
+    public void write(Image image) {
+        if (path == null) {
+            throw new IllegalStateException("Snapshots are disabled, set mock.employees.snapshot.path");
+        }
+        final long started = System.nanoTime();
+        try {
+            Path directory = path.toAbsolutePath().getParent();
+            Files.createDirectories(directory);
+            Path temporary = Files.createTempFile(directory, path.getFileName().toString(), ".tmp");
+            try {
+                writeTo(temporary, image);
+                Files.move(temporary, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } finally {
+                Files.deleteIfExists(temporary);
+            }
+        } catch (IOException exception) {
+            throw new UncheckedIOException("Could not write snapshot " + path, exception);
+        }
+        log.info(
+                "Wrote {} employees to snapshot {} in {} ms",
+                image.employees().length,
+                path,
+                (System.nanoTime() - started) / 1_000_000);
+    }
+
+    private static void writeTo(Path file, Image image) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.position(HEADER_SIZE);
+            CRC32 crc = new CRC32();
+            DataOutputStream body = new DataOutputStream(
+                    new BufferedOutputStream(new CheckedOutputStream(Channels.newOutputStream(channel), crc), 1 << 16));
+            MockEmployee[] employees = image.employees();
+            for (int i = 0; i < employees.length; i++) {
+                body.writeLong(image.sequences()[i]);
+                MockEmployeeCodec.write(body, employees[i]);
+            }
+            body.flush();
+            long bodyLength = channel.position() - HEADER_SIZE;
+            ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE)
+                    .putInt(MAGIC)
+                    .putShort(FORMAT_VERSION)
+                    .putShort(image.clean() ? CLEAN : 0)
+                    .putLong(Long.parseUnsignedLong(image.epoch(), 16))
+                    .putLong(image.version())
+                    .putLong(image.lastSequence())
+                    .putInt(employees.length)
+                    .putInt((int) crc.getValue())
+                    .putLong(bodyLength)
+                    .flip();
+            while (header.hasRemaining()) {
+                channel.write(header, header.position());
+            }
+            channel.force(true);
+        }
+    }
+
+    /**
+     * Store contents in insertion order, with the state needed to continue versions and sequences where they were.
+     *
+     * @param clean whether the image was taken at shutdown, after the last write
+     */
+    public record Image(
+            String epoch, long version, long lastSequence, boolean clean, MockEmployee[] employees, long[] sequences) {}
+}
@@ -0,0 +1,431 @@
+package com.reliaquest.server.store;
+
+import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.model.MockEmployeeChange;
+import jakarta.annotation.PreDestroy;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.zip.CRC32;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Append-only journal of the store's creates and deletes at {@code mock.employees.journal.path}, replayed at startup
+ * on top of the snapshot file or the seed roster. Disabled while the path is empty.
+ * <p>
+ * The file starts with magic "MEMJ" (int) and a format version (short, then a reserved short). Each entry is its
+ * payload length (int) and CRC-32 (int) followed by the payload: store version (long), type (byte), then for a create
+ * the sequence (long) and the employee as encoded by {@link MockEmployeeCodec}, for a delete the id (2 longs). Replay
+ * stops at the first torn or corrupt entry and cuts the file there. An append that fails part way is cut off again
+ * before the write is rejected, so later entries never end up behind a torn one.
+ * <p>
+ * Entries are appended by the store while it holds its write lock, so they are in version order. How a write is made
+ * durable before it is acknowledged depends on {@code mock.employees.journal.durability}:
+ * <ul>
+ *   <li>{@code none}: appended to the file only, so it survives a crash of the server but not of the machine</li>
+ *   <li>{@code per-write}: forced to disk by every write while it still holds the store's write lock</li>
+ *   <li>{@code batched}: group commit, a writer waits outside the store lock until one force covers its entry, and
+ *       whichever waiter finds no force in progress issues the next one for everything appended so far</li>
+ * </ul>
+ * Writing a snapshot rotates the journal to a {@code .prev} file that is deleted once the snapshot is on disk. Replay
+ * skips entries the snapshot already contains, so a crash at any point of that sequence loses nothing.
+ */
+@Slf4j
+@Component
+public class MockEmployeeJournal {
+
+    static final int MAGIC = 0x4d454d4a;
+    static final short FORMAT_VERSION = 1;
+    static final int HEADER_SIZE = 8;
+    private static final int ENTRY_HEADER_SIZE = 8;
+    private static final byte CREATED = 1;
+    private static final byte DELETED = 2;
+
+    public enum Durability {
+        NONE,
+        BATCHED,
+        PER_WRITE
+    }
+
+    private final Path path;
+    private final Path rotatedPath;
+    private final Durability durability;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition synced = lock.newCondition();
+    private FileChannel channel;
+    private long appended;
+    private long length;
+    private long durable;
+    private boolean syncing;
+    private IOException failure;
+
+    public MockEmployeeJournal(
+            @Value("${mock.employees.journal.path:}") String path,
+            @Value("${mock.employees.journal.durability:batched}") Durability durability) {
+        this.path = path == null || path.isBlank() ? null : Path.of(path);
+        this.rotatedPath = this.path == null ? null : this.path.resolveSibling(this.path.getFileName() + ".prev");
+        this.durability = durability;
+    }
+
+    public boolean isEnabled() {
+        return path != null;
+    }
+
+    /**
+     * Reads the entries after store version {@code afterVersion}, from the rotated file and then the current one, and
+     * opens the current file for appending.
+     */
+    public List<Entry> open(long afterVersion) {
+        if (path == null) {
+            return List.of();
+        }
+        final long started = System.nanoTime();
+        List<Entry> entries = new ArrayList<>();
+        try {
+            if (Files.isRegularFile(rotatedPath)) {
+                read(rotatedPath, afterVersion, entries);
+            }
+            long validLength = Files.isRegularFile(path) ? read(path, afterVersion, entries) : 0;
+            Files.createDirectories(path.toAbsolutePath().getParent());
+            lock.lock();
+            try {
+                channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+                if (validLength < HEADER_SIZE) {
+                    channel.truncate(0);
+                    writeHeader(channel);
+                } else if (validLength < channel.size()) {
+                    log.warn("Cutting torn journal {} from {} to {} bytes", path, channel.size(), validLength);
+                    channel.truncate(validLength);
+                }
+                length = channel.size();
+                channel.position(length);
+            } finally {
+                lock.unlock();
+            }
+        } catch (IOException exception) {
+            throw new UncheckedIOException("Could not open journal " + path, exception);
+        }
+        log.info(
+                "Replaying {} journal entries after version {} from {}, read in {} ms, durability {}",
+                entries.size(),
+                afterVersion,
+                path,
+                (System.nanoTime() - started) / 1_000_000,
+                durability);
+        return entries;
+    }
+
+    /**
+     * @return the length of the valid prefix of {@code file}, 0 if it has no valid header
+     */
+    private static long read(Path file, long afterVersion, List<Entry> entries) throws IOException {
+        try (FileChannel reader = FileChannel.open(file, StandardOpenOption.READ)) {
+            if (reader.size() < HEADER_SIZE) {
+                return 0;
+            }
+            if (reader.size() > Integer.MAX_VALUE) {
+                throw new IOException("Journal " + file + " is larger than 2 GB, write a snapshot to compact it");
+            }
+            ByteBuffer buffer = reader.map(FileChannel.MapMode.READ_ONLY, 0, reader.size());
+            if (buffer.getInt() != MAGIC || buffer.getShort() != FORMAT_VERSION) {
+                throw new IOException(file + " is not a journal of format version " + FORMAT_VERSION);
+            }
+            buffer.getShort();
+            long validLength = buffer.position();
+            CRC32 crc = new CRC32();
+            while (buffer.remaining() >= ENTRY_HEADER_SIZE) {
+                int length = buffer.getInt();
+                int checksum = buffer.getInt();
+                if (length <= 0 || length > buffer.remaining()) {
+                    break;
+                }
+                ByteBuffer payload = buffer.slice(buffer.position(), length);
+                crc.reset();
+                crc.update(payload.duplicate());
+                if ((int) crc.getValue() != checksum) {
+                    break;
+                }
+                Entry entry;
+                try {
+                    entry = decode(payload);
+                } catch (BufferUnderflowException exception) {
+                    break;
+                }
+                buffer.position(buffer.position() + length);
+                validLength = buffer.position();
+                if (entry != null && entry.version() > afterVersion) {
+                    entries.add(entry);
+                }
+            }
+            return validLength;
+        }
+    }
+
+    private static Entry decode(ByteBuffer payload) {
+        long version = payload.getLong();
+        byte type = payload.get();
+        if (type == CREATED) {
+            long sequence = payload.getLong();
+            return new Entry(version, MockEmployeeChange.Type.CREATED, sequence, null, MockEmployeeCodec.read(payload));
+        }
+        if (type == DELETED) {
+            return new Entry(version, MockEmployeeChange.Type.DELETED, 0, MockEmployeeCodec.readId(payload), null);
+        }
+        return null;
+    }
+
+    /**
+     * Appends the creation of {@code employees} at consecutive versions and sequences. Called under the store's write
+     * lock.
+     *
+     * @return the ticket to pass to {@link #awaitDurable(long)}
+     */
+    public long created(long firstVersion, long firstSequence, List<MockEmployee> employees) {
+        if (path == null) {
+            return 0;
+        }
+        try {
+            EntryWriter writer = new EntryWriter();
+            for (int i = 0; i < employees.size(); i++) {
+                DataOutputStream out = writer.begin();
+                out.writeLong(firstVersion + i);
+                out.writeByte(CREATED);
+                out.writeLong(firstSequence + i);
+                MockEmployeeCodec.write(out, employees.get(i));
+                writer.end();
+            }
+            return append(writer.buffer());
+        } catch (IOException exception) {
+            throw new UncheckedIOException("Could not append to journal " + path, exception);
+        }
+    }
+
+    /**
+     * Appends the deletion of the employee with {@code id}. Called under the store's write lock.
+     *
+     * @return the ticket to pass to {@link #awaitDurable(long)}
+     */
+    public long deleted(long version, UUID id) {
+        if (path == null) {
+            return 0;
+        }
+        try {
+            EntryWriter writer = new EntryWriter();
+            DataOutputStream out = writer.begin();
+            out.writeLong(version);
+            out.writeByte(DELETED);
+            MockEmployeeCodec.writeId(out, id);
+            writer.end();
+            return append(writer.buffer());
+        } catch (IOException exception) {
+            throw new UncheckedIOException("Could not append to journal " + path, exception);
+        }
+    }
+
+    private long append(ByteBuffer entries) throws IOException {
+        lock.lock();
+        try {
+            if (failure != null) {
+                throw new IOException("Journal failed earlier and no longer accepts writes", failure);
+            }
+            try {
+                while (entries.hasRemaining()) {
+                    channel.write(entries);
+                }
+                if (durability == Durability.PER_WRITE) {
+                    channel.force(false);
+                }
+            } catch (IOException exception) {
+                undo(exception);
+                throw exception;
+            }
+            appended += entries.limit();
+            length += entries.limit();
+            if (durability == Durability.PER_WRITE) {
+                durable = appended;
+            }
+            return appended;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Cuts off whatever part of a failed append reached the file, since the store rejects the write and a torn entry
+     * would also end replay before any entry appended after it. If even that fails, the journal refuses all further
+     * writes rather than let them land behind the torn entry.
+     */
+    private void undo(IOException cause) {
+        try {
+            channel.truncate(length);
+            channel.position(length);
+        } catch (IOException exception) {
+            cause.addSuppressed(exception);
+            failure = cause;
+            log.error("Journal {} is torn after {} bytes and refuses further writes", path, length, cause);
+        }
+    }
+
+    /**
+     * Returns once the entries up to {@code ticket} are as durable as the configured mode makes them.
+     */
+    public void awaitDurable(long ticket) {
+        if (path == null || durability != Durability.BATCHED) {
+            return;
+        }
+        lock.lock();
+        try {
+            while (durable < ticket) {
+                if (failure != null) {
+                    throw new UncheckedIOException("Could not sync journal " + path, failure);
+                }
+                if (syncing) {
+                    synced.awaitUninterruptibly();
+                    continue;
+                }
+                syncing = true;
+                long target = appended;
+                FileChannel syncedChannel = channel;
+                lock.unlock();
+                try {
+                    syncedChannel.force(false);
+                    lock.lock();
+                    durable = Math.max(durable, target);
+                } catch (IOException exception) {
+                    lock.lock();
+                    failure = exception;
+                    log.error("Could not sync journal {}, refusing further writes", path, exception);
+                    throw new UncheckedIOException("Could not sync journal " + path, exception);
+                } finally {
+                    syncing = false;
+                    synced.signalAll();
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Moves the current entries aside ahead of a snapshot, unless entries from an earlier unfinished snapshot are
+     * still there. Called under the store's write lock, so the snapshot covers exactly the rotated entries.
+     */
+    public void rotate() {
+        if (path == null) {
+            return;
+        }
+        lock.lock();
+        try {
+            while (syncing) {
+                synced.awaitUninterruptibly();
+            }
+            if (Files.exists(rotatedPath)) {
+                return;
+            }
+            channel.force(false);
+            durable = appended;
+            channel.close();
+            Files.move(path, rotatedPath, StandardCopyOption.ATOMIC_MOVE);
+            channel = FileChannel.open(
+                    path, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+            writeHeader(channel);
+            length = HEADER_SIZE;
+        } catch (IOException exception) {
+            throw new UncheckedIOException("Could not rotate journal " + path, exception);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Drops the rotated entries once a snapshot containing them is on disk.
+     */
+    public void discardRotated() {
+        if (path == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(rotatedPath);
+        } catch (IOException exception) {
+            log.warn("Could not delete rotated journal {}: {}", rotatedPath, exception.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void close() throws IOException {
+        lock.lock();
+        try {
+            if (channel != null) {
+                channel.force(false);
+                channel.close();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private static void writeHeader(FileChannel channel) throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE)
+                .putInt(MAGIC)
+                .putShort(FORMAT_VERSION)
+                .putShort((short) 0)
+                .flip();
+        while (header.hasRemaining()) {
+            channel.write(header);
+        }
+        channel.force(true);
+    }
+
+    /**
+     * One replayed write. A create carries its sequence and employee, a delete the employee's id.
+     */
+    public record Entry(long version, MockEmployeeChange.Type type, long sequence, UUID id, MockEmployee employee) {}
+
+    /**
+     * Frames entries with their length and checksum in one buffer, so a batch is appended with a single write.
+     */
+    private static final class EntryWriter extends ByteArrayOutputStream {
+
+        private final DataOutputStream out = new DataOutputStream(this);
+        private final CRC32 crc = new CRC32();
+        private int start;
+
+        EntryWriter() {
+            super(256);
+        }
+
+        DataOutputStream begin() throws IOException {
+            start = count;
+            out.writeLong(0);
+            return out;
+        }
+
+        void end() {
+            int payloadStart = start + ENTRY_HEADER_SIZE;
+            int length = count - payloadStart;
+            crc.reset();
+            crc.update(buf, payloadStart, length);
+            ByteBuffer.wrap(buf, start, ENTRY_HEADER_SIZE).putInt(length).putInt((int) crc.getValue());
+        }
+
+        ByteBuffer buffer() {
+            return ByteBuffer.wrap(buf, 0, count);
+        }
+    }
+}
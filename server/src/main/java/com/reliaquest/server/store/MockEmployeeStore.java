@@ -0,0 +1,464 @@
+package com.reliaquest.server.store;
+
+import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.model.MockEmployeeChange;
+import com.reliaquest.server.model.MockEmployeeChanges;
+import jakarta.annotation.PreDestroy;
+import java.io.UncheckedIOException;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.RandomAccess;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.ReentrantLock;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Thread-safe employee store with lock-free snapshot reads, a change log and optional image and journal persistence.
+ */
+@Slf4j
+@Component
+public class MockEmployeeStore {
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final ReentrantLock writeLock = new ReentrantLock();
+    private final Layout layout;
+    private final EmployeeIndex index;
+    private final SalaryRanking salaries = new SalaryRanking();
+    private final String epoch;
+    private final MockEmployeeChange[] changeLog;
+    private final MockEmployeeImageFile imageFile;
+    private final MockEmployeeJournal journal;
+    private long lastSequence;
+    private volatile Snapshot snapshot;
+
+    public MockEmployeeStore(
+            ObjectProvider<List<MockEmployee>> mockEmployees,
+            MockEmployeeImageFile imageFile,
+            MockEmployeeJournal journal,
+            @Value("${mock.employees.changes-retained:4096}") int changesRetained,
+            @Value("${mock.employees.layout:objects}") Layout layout) {
+        this.layout = layout;
+        this.index = layout.index();
+        this.changeLog = new MockEmployeeChange[Math.max(1, changesRetained)];
+        this.imageFile = imageFile;
+        this.journal = journal;
+        final var image = imageFile.read();
+        final var journaled =
+                journal.open(image.map(MockEmployeeImageFile.Image::version).orElse(0L));
+        // replayed writes may not be the exact ones clients saw if the journal lost its tail, so start a new epoch
+        this.epoch = image.filter(MockEmployeeImageFile.Image::clean)
+                .filter(restored -> journaled.isEmpty())
+                .map(MockEmployeeImageFile.Image::epoch)
+                .orElseGet(() -> Long.toHexString(ThreadLocalRandom.current().nextLong()));
+        if (image.isPresent()) {
+            restore(image.get());
+            if (image.get().clean()) {
+                imageFile.markDirty();
+            }
+        } else {
+            snapshot = new Snapshot(layout.rows(INITIAL_CAPACITY), new long[INITIAL_CAPACITY], 0, 0, epoch);
+            append(mockEmployees.getObject(), 1, 1);
+        }
+        journaled.forEach(this::replay);
+    }
+
+    private void restore(MockEmployeeImageFile.Image image) {
+        MockEmployee[] employees = image.employees();
+        EmployeeRows rows = layout.rows(Math.max(INITIAL_CAPACITY, employees.length));
+        for (int i = 0; i < employees.length; i++) {
+            rows.set(i, employees[i]);
+            index.add(employees[i], image.sequences()[i]);
+            salaries.add(employees[i], image.sequences()[i]);
+        }
+        lastSequence = image.lastSequence();
+        snapshot = new Snapshot(
+                rows, Arrays.copyOf(image.sequences(), rows.capacity()), employees.length, image.version(), epoch);
+    }
+
+    private void replay(MockEmployeeJournal.Entry entry) {
+        long version = Math.max(snapshot.version + 1, entry.version());
+        if (entry.type() == MockEmployeeChange.Type.CREATED) {
+            append(List.of(entry.employee()), version, Math.max(lastSequence + 1, entry.sequence()));
+        } else {
+            Optional<MockEmployee> employee = index.findById(entry.id(), snapshot);
+            int position = employee.isEmpty() ? -1 : index.positionOf(employee.get(), snapshot);
+            if (position >= 0) {
+                delete(position, employee.get(), version);
+            }
+        }
+    }
+
+    public boolean isImageEnabled() {
+        return imageFile.isEnabled();
+    }
+
+    /**
+     * Writes the current contents to the snapshot file.
+     *
+     * @return the entity tag of the version written
+     */
+    public String writeImage() {
+        final var image = image(false);
+        imageFile.write(image);
+        journal.discardRotated();
+        return epoch + "-" + image.version();
+    }
+
+    @PreDestroy
+    void writeImageOnShutdown() {
+        if (imageFile.isWrittenOnShutdown()) {
+            imageFile.write(image(true));
+            journal.discardRotated();
+        }
+    }
+
+    /**
+     * Captures the contents and rotates the journal at the same point.
+     */
+    private MockEmployeeImageFile.Image image(boolean clean) {
+        writeLock.lock();
+        try {
+            Snapshot current = snapshot;
+            journal.rotate();
+            return new MockEmployeeImageFile.Image(
+                    epoch,
+                    current.version,
+                    lastSequence,
+                    clean,
+                    current.toArray(new MockEmployee[current.size]),
+                    Arrays.copyOf(current.sequences, current.size));
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    public Snapshot snapshot() {
+        return snapshot;
+    }
+
+    public int size() {
+        return snapshot.size();
+    }
+
+    public Optional<MockEmployee> findById(UUID id) {
+        return index.findById(id, snapshot);
+    }
+
+    /**
+     * Returns the earliest added employee whose name equals {@code name} ignoring case.
+     */
+    public Optional<MockEmployee> findFirstByName(String name) {
+        if (name == null) {
+            return Optional.empty();
+        }
+        return index.findFirstByName(name, snapshot);
+    }
+
+    /**
+     * Returns the employees in insertion order whose name contains {@code text} ignoring case.
+     */
+    public List<MockEmployee> findByNameContaining(String text) {
+        Snapshot current = snapshot;
+        List<MockEmployee> matches = new ArrayList<>();
+        for (int i = 0; i < current.size; i++) {
+            String name = current.nameAt(i);
+            if (name != null && containsIgnoreCase(name, text)) {
+                matches.add(current.get(i));
+            }
+        }
+        return matches;
+    }
+
+    private static boolean containsIgnoreCase(String name, String text) {
+        for (int offset = 0; offset <= name.length() - text.length(); offset++) {
+            if (name.regionMatches(true, offset, text, 0, text.length())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns up to {@code limit} employees with the highest salaries, highest first, ties in insertion order.
+     */
+    public List<MockEmployee> findTopBySalary(int limit) {
+        long removals = salaries.removals();
+        Snapshot current = snapshot;
+        List<MockEmployee> top = salaries.top(limit, current);
+        if (salaries.removals() == removals) {
+            return top;
+        }
+        // a delete overlapped the walk and may have hidden an employee of this snapshot, so rank again between writes
+        writeLock.lock();
+        try {
+            return salaries.top(limit, snapshot);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Returns up to {@code limit} employees in insertion order whose sequence lies in {@code (after, until]}.
+     */
+    public Page page(long after, long until, int limit) {
+        return snapshot.page(after, until, limit);
+    }
+
+    /**
+     * Returns the writes after the version named by {@code versionTag}, or a resync if they are no longer retained.
+     */
+    public MockEmployeeChanges changesSince(String versionTag) {
+        Snapshot current = snapshot;
+        long since = versionOf(versionTag);
+        if (since >= 0 && since <= current.version && current.version - since <= changeLog.length) {
+            List<MockEmployeeChange> changes = new ArrayList<>((int) (current.version - since));
+            for (long version = since + 1; version <= current.version; version++) {
+                MockEmployeeChange change = changeLog[slot(version)];
+                if (change == null || change.version() != version) {
+                    return MockEmployeeChanges.resync(current.entityTag());
+                }
+                changes.add(change);
+            }
+            return MockEmployeeChanges.since(current.entityTag(), changes);
+        }
+        return MockEmployeeChanges.resync(current.entityTag());
+    }
+
+    public void add(MockEmployee employee) {
+        addAll(List.of(employee));
+    }
+
+    /**
+     * Publishes {@code employees} in one snapshot, then waits for the journal to make them durable.
+     */
+    public void addAll(List<MockEmployee> employees) {
+        if (employees.isEmpty()) {
+            return;
+        }
+        long ticket;
+        writeLock.lock();
+        try {
+            long version = snapshot.version + 1;
+            ticket = journal.created(version, lastSequence + 1, employees);
+            append(employees, version, lastSequence + 1);
+        } finally {
+            writeLock.unlock();
+        }
+        awaitDurable(ticket);
+    }
+
+    public boolean remove(MockEmployee employee) {
+        long ticket;
+        writeLock.lock();
+        try {
+            Snapshot current = snapshot;
+            int position = index.positionOf(employee, current);
+            if (position < 0) {
+                return false;
+            }
+            ticket = journal.deleted(current.version + 1, employee.getId());
+            delete(position, employee, current.version + 1);
+        } finally {
+            writeLock.unlock();
+        }
+        awaitDurable(ticket);
+        return true;
+    }
+
+    /**
+     * A failed sync is logged rather than thrown: the write is already visible, and the journal refuses the next one.
+     */
+    private void awaitDurable(long ticket) {
+        try {
+            journal.awaitDurable(ticket);
+        } catch (UncheckedIOException exception) {
+            log.error("Write is visible but may not survive a crash", exception);
+        }
+    }
+
+    /**
+     * Appends {@code employees} at consecutive versions and sequences, under the write lock or from the constructor.
+     */
+    private void append(List<MockEmployee> employees, long firstVersion, long firstSequence) {
+        Snapshot current = snapshot;
+        EmployeeRows rows = current.rows;
+        long[] sequences = current.sequences;
+        int size = current.size + employees.size();
+        if (size > rows.capacity()) {
+            int capacity = Math.max(INITIAL_CAPACITY, Math.max(size, rows.capacity() * 2));
+            rows = rows.grow(capacity, current.size);
+            sequences = Arrays.copyOf(sequences, capacity);
+        }
+        long version = firstVersion - 1;
+        int position = current.size;
+        lastSequence = firstSequence - 1;
+        for (MockEmployee employee : employees) {
+            rows.set(position, employee);
+            sequences[position++] = ++lastSequence;
+            index.add(employee, lastSequence);
+            salaries.add(employee, lastSequence);
+            version++;
+            changeLog[slot(version)] = MockEmployeeChange.created(version, employee);
+        }
+        snapshot = new Snapshot(rows, sequences, size, version, epoch);
+    }
+
+    private void delete(int position, MockEmployee employee, long version) {
+        Snapshot current = snapshot;
+        long[] sequences = new long[current.sequences.length];
+        System.arraycopy(current.sequences, 0, sequences, 0, position);
+        System.arraycopy(current.sequences, position + 1, sequences, position, current.size - position - 1);
+        index.remove(employee, current.sequences[position]);
+        changeLog[slot(version)] = MockEmployeeChange.deleted(version, employee);
+        snapshot =
+                new Snapshot(current.rows.without(position, current.size), sequences, current.size - 1, version, epoch);
+        salaries.remove(employee, current.sequences[position]);
+    }
+
+    private int slot(long version) {
+        return (int) (version % changeLog.length);
+    }
+
+    /**
+     * @return the version encoded in an entity tag of this store instance, or -1 if it is not one
+     */
+    private long versionOf(String versionTag) {
+        if (versionTag == null) {
+            return -1;
+        }
+        int separator = versionTag.lastIndexOf('-');
+        if (separator < 0 || !epoch.equals(versionTag.substring(0, separator))) {
+            return -1;
+        }
+        try {
+            return Long.parseLong(versionTag.substring(separator + 1));
+        } catch (NumberFormatException exception) {
+            return -1;
+        }
+    }
+
+    /**
+     * @param employees   the page, in insertion order
+     * @param nextCursor  cursor to request the following page with, or {@code null} once the range is exhausted
+     * @param lastCursor  sequence of the newest employee in the store, 0 when empty
+     * @param entityTag   tag of the store version the page was read from
+     */
+    public record Page(List<MockEmployee> employees, Long nextCursor, long lastCursor, String entityTag) {}
+
+    /**
+     * How the store holds its rows, set by {@code mock.employees.layout}.
+     */
+    public enum Layout {
+        /**
+         * The employee objects as created, indexed by hash maps.
+         */
+        OBJECTS {
+            @Override
+            EmployeeRows rows(int capacity) {
+                return new ObjectRows(capacity);
+            }
+
+            @Override
+            EmployeeIndex index() {
+                return new ObjectIndex();
+            }
+        },
+        /**
+         * Primitive columns with dictionary-encoded titles, indexed by primitive hash tables.
+         */
+        COLUMNAR {
+            @Override
+            EmployeeRows rows(int capacity) {
+                return new ColumnarRows(capacity);
+            }
+
+            @Override
+            EmployeeIndex index() {
+                return new ColumnarIndex();
+            }
+        };
+
+        abstract EmployeeRows rows(int capacity);
+
+        abstract EmployeeIndex index();
+    }
+
+    /**
+     * Immutable prefix of the store rows. Rows below {@code size} are never written again once published.
+     */
+    public static final class Snapshot extends AbstractList<MockEmployee> implements RandomAccess {
+
+        private final EmployeeRows rows;
+        private final long[] sequences;
+        private final int size;
+        private final long version;
+        private final String epoch;
+
+        Snapshot(EmployeeRows rows, long[] sequences, int size, long version, String epoch) {
+            this.rows = rows;
+            this.sequences = sequences;
+            this.size = size;
+            this.version = version;
+            this.epoch = epoch;
+        }
+
+        /**
+         * Opaque tag of the store version this snapshot belongs to, unique across writes and restarts.
+         */
+        public String entityTag() {
+            return epoch + "-" + version;
+        }
+
+        private Page page(long after, long until, int limit) {
+            int from = positionAfter(after);
+            int to = positionAfter(until);
+            int end = (int) Math.min(to, (long) from + limit);
+            Long nextCursor = end < to ? sequences[end - 1] : null;
+            long lastCursor = size == 0 ? 0 : sequences[size - 1];
+            return new Page(List.copyOf(subList(from, Math.max(from, end))), nextCursor, lastCursor, entityTag());
+        }
+
+        /**
+         * Position of the first employee with a sequence greater than {@code sequence}.
+         */
+        private int positionAfter(long sequence) {
+            if (sequence == Long.MAX_VALUE) {
+                return size;
+            }
+            int position = Arrays.binarySearch(sequences, 0, size, sequence + 1);
+            return position >= 0 ? position : -position - 1;
+        }
+
+        @Override
+        public MockEmployee get(int index) {
+            Objects.checkIndex(index, size);
+            return rows.get(index);
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        /**
+         * Position of the employee with insertion sequence {@code sequence}, or -1 if it is not in this snapshot.
+         */
+        int positionOfSequence(long sequence) {
+            int position = Arrays.binarySearch(sequences, 0, size, sequence);
+            return position >= 0 ? position : -1;
+        }
+
+        String nameAt(int position) {
+            return rows.name(position);
+        }
+    }
+}
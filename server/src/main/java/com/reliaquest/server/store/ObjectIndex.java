@@ -0,0 +1,77 @@
+package com.reliaquest.server.store;
+
+import com.reliaquest.server.model.MockEmployee;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Hash maps from id and from folded name to the stored {@link ObjectRows} employees themselves.
+ */
+final class ObjectIndex implements EmployeeIndex {
+
+    private final Map<UUID, MockEmployee> byId = new ConcurrentHashMap<>();
+    private final Map<String, List<MockEmployee>> byName = new ConcurrentHashMap<>();
+
+    @Override
+    public void add(MockEmployee employee, long sequence) {
+        if (employee.getId() != null) {
+            byId.putIfAbsent(employee.getId(), employee);
+        }
+        if (employee.getName() != null) {
+            byName.compute(fold(employee.getName()), (name, matches) -> {
+                if (matches == null) {
+                    return List.of(employee);
+                }
+                MockEmployee[] appended = matches.toArray(new MockEmployee[matches.size() + 1]);
+                appended[matches.size()] = employee;
+                return List.of(appended);
+            });
+        }
+    }
+
+    @Override
+    public void remove(MockEmployee employee, long sequence) {
+        if (employee.getId() != null) {
+            byId.remove(employee.getId(), employee);
+        }
+        if (employee.getName() != null) {
+            byName.computeIfPresent(fold(employee.getName()), (name, matches) -> {
+                List<MockEmployee> remaining =
+                        matches.stream().filter(match -> match != employee).toList();
+                return remaining.isEmpty() ? null : remaining;
+            });
+        }
+    }
+
+    @Override
+    public Optional<MockEmployee> findById(UUID id, MockEmployeeStore.Snapshot snapshot) {
+        return Optional.ofNullable(byId.get(id));
+    }
+
+    @Override
+    public Optional<MockEmployee> findFirstByName(String name, MockEmployeeStore.Snapshot snapshot) {
+        List<MockEmployee> matches = byName.get(fold(name));
+        return matches == null ? Optional.empty() : Optional.of(matches.get(0));
+    }
+
+    @Override
+    public int positionOf(MockEmployee employee, MockEmployeeStore.Snapshot snapshot) {
+        for (int i = 0; i < snapshot.size(); i++) {
+            if (snapshot.get(i) == employee) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static String fold(String name) {
+        char[] folded = new char[name.length()];
+        for (int i = 0; i < folded.length; i++) {
+            folded[i] = EmployeeIndex.fold(name.charAt(i));
+        }
+        return new String(folded);
+    }
+}
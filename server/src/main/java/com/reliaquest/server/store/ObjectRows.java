@@ -0,0 +1,53 @@
+package com.reliaquest.server.store;
+
+import com.reliaquest.server.model.MockEmployee;
+import java.util.Arrays;
+
+/**
+ * Employees kept as the objects they were created as.
+ */
+final class ObjectRows implements EmployeeRows {
+
+    private final MockEmployee[] employees;
+
+    ObjectRows(int capacity) {
+        this(new MockEmployee[capacity]);
+    }
+
+    private ObjectRows(MockEmployee[] employees) {
+        this.employees = employees;
+    }
+
+    @Override
+    public int capacity() {
+        return employees.length;
+    }
+
+    @Override
+    public MockEmployee get(int row) {
+        return employees[row];
+    }
+
+    @Override
+    public String name(int row) {
+        return employees[row].getName();
+    }
+
+    @Override
+    public void set(int row, MockEmployee employee) {
+        employees[row] = employee;
+    }
+
+    @Override
+    public EmployeeRows grow(int capacity, int size) {
+        return new ObjectRows(Arrays.copyOf(employees, capacity));
+    }
+
+    @Override
+    public EmployeeRows without(int row, int size) {
+        MockEmployee[] remaining = new MockEmployee[employees.length];
+        System.arraycopy(employees, 0, remaining, 0, row);
+        System.arraycopy(employees, row + 1, remaining, row, size - row - 1);
+        return new ObjectRows(remaining);
+    }
+}
@@ -0,0 +1,67 @@
+package com.reliaquest.server.store;
+
+import com.reliaquest.server.model.MockEmployee;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+/**
+ * Insertion sequences ranked by salary, highest first, ties broken by insertion order, the same ranking the api
+ * computes from a full roster. A missing salary ranks as 0. Updated under the store's write lock, read without one.
+ */
+final class SalaryRanking {
+
+    private static final Comparator<Ranked> HIGHEST_FIRST =
+            Comparator.comparingInt(Ranked::salary).reversed().thenComparingLong(Ranked::sequence);
+
+    private final ConcurrentSkipListSet<Ranked> ranking = new ConcurrentSkipListSet<>(HIGHEST_FIRST);
+    private volatile long removals;
+
+    void add(MockEmployee employee, long sequence) {
+        ranking.add(Ranked.of(employee, sequence));
+    }
+
+    /**
+     * Called after the snapshot without the employee is published, so a reader that sees this removal's count already
+     * reads that snapshot.
+     */
+    void remove(MockEmployee employee, long sequence) {
+        removals++;
+        ranking.remove(Ranked.of(employee, sequence));
+    }
+
+    /**
+     * Number of removals so far. A {@link #top} walk is consistent with its snapshot if this is unchanged across it,
+     * read before the snapshot and after the walk.
+     */
+    long removals() {
+        return removals;
+    }
+
+    /**
+     * Returns the first {@code limit} employees of the ranking that are in {@code snapshot}, skipping entries of
+     * writes the snapshot does not include. An employee removed while the walk runs is missing from the result even
+     * though the snapshot still holds it, so callers check {@link #removals()} to detect that.
+     */
+    List<MockEmployee> top(int limit, MockEmployeeStore.Snapshot snapshot) {
+        List<MockEmployee> top = new ArrayList<>(Math.min(limit, snapshot.size()));
+        for (Ranked ranked : ranking) {
+            if (top.size() >= limit) {
+                break;
+            }
+            int position = snapshot.positionOfSequence(ranked.sequence());
+            if (position >= 0) {
+                top.add(snapshot.get(position));
+            }
+        }
+        return top;
+    }
+
+    private record Ranked(int salary, long sequence) {
+
+        static Ranked of(MockEmployee employee, long sequence) {
+            return new Ranked(employee.getSalary() == null ? 0 : employee.getSalary(), sequence);
+        }
+    }
+}
@@ -0,0 +1,190 @@
+package com.reliaquest.server.store;
+
+import java.util.Arrays;
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * Open-addressing hash multimap from a 128-bit key, given as two {@code long}s, to insertion sequences, in flat
+ * primitive arrays with linear probing. Sequences are positive, so 0 marks an empty slot.
+ * <p>
+ * Writers take a {@link StampedLock} write lock; they are already serialized by the store. Readers probe under an
+ * optimistic stamp and only retry under the read lock if a write overlapped them.
+ */
+final class SequenceTable {
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final StampedLock lock = new StampedLock();
+    private Slots slots = new Slots(INITIAL_CAPACITY);
+    private int size;
+
+    /**
+     * @return the sequence of the first entry for the key, or 0 if there is none
+     */
+    long get(long high, long low) {
+        long stamp = lock.tryOptimisticRead();
+        long sequence = slots.get(high, low);
+        if (!lock.validate(stamp)) {
+            stamp = lock.readLock();
+            try {
+                sequence = slots.get(high, low);
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+        return sequence;
+    }
+
+    long[] getAll(long high, long low) {
+        long stamp = lock.tryOptimisticRead();
+        long[] sequences = slots.getAll(high, low);
+        if (!lock.validate(stamp)) {
+            stamp = lock.readLock();
+            try {
+                sequences = slots.getAll(high, low);
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+        return sequences;
+    }
+
+    void put(long high, long low, long sequence) {
+        long stamp = lock.writeLock();
+        try {
+            insert(high, low, sequence);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    void putIfAbsent(long high, long low, long sequence) {
+        long stamp = lock.writeLock();
+        try {
+            if (slots.get(high, low) == 0) {
+                insert(high, low, sequence);
+            }
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    void remove(long high, long low, long sequence) {
+        long stamp = lock.writeLock();
+        try {
+            if (slots.remove(high, low, sequence)) {
+                size--;
+            }
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    private void insert(long high, long low, long sequence) {
+        if ((size + 1) * 4L > slots.sequences.length * 3L) {
+            Slots grown = new Slots(slots.sequences.length * 2);
+            for (int i = 0; i < slots.sequences.length; i++) {
+                if (slots.sequences[i] != 0) {
+                    grown.insert(slots.highs[i], slots.lows[i], slots.sequences[i]);
+                }
+            }
+            slots = grown;
+        }
+        slots.insert(high, low, sequence);
+        size++;
+    }
+
+    /**
+     * One generation of the table's arrays, all of the same power-of-two length, so a reader that raced a resize
+     * still probes within bounds.
+     */
+    private static final class Slots {
+
+        private final long[] highs;
+        private final long[] lows;
+        private final long[] sequences;
+        private final int mask;
+
+        Slots(int capacity) {
+            highs = new long[capacity];
+            lows = new long[capacity];
+            sequences = new long[capacity];
+            mask = capacity - 1;
+        }
+
+        long get(long high, long low) {
+            int slot = home(high, low);
+            for (int probes = 0; probes <= mask; probes++, slot = (slot + 1) & mask) {
+                if (sequences[slot] == 0) {
+                    return 0;
+                }
+                if (highs[slot] == high && lows[slot] == low) {
+                    return sequences[slot];
+                }
+            }
+            return 0;
+        }
+
+        long[] getAll(long high, long low) {
+            long[] found = new long[0];
+            int slot = home(high, low);
+            for (int probes = 0; probes <= mask && sequences[slot] != 0; probes++, slot = (slot + 1) & mask) {
+                if (highs[slot] == high && lows[slot] == low) {
+                    found = Arrays.copyOf(found, found.length + 1);
+                    found[found.length - 1] = sequences[slot];
+                }
+            }
+            return found;
+        }
+
+        void insert(long high, long low, long sequence) {
+            int slot = home(high, low);
+            while (sequences[slot] != 0) {
+                slot = (slot + 1) & mask;
+            }
+            highs[slot] = high;
+            lows[slot] = low;
+            sequences[slot] = sequence;
+        }
+
+        /**
+         * Removes the entry and shifts back later entries of the same probe run, so no tombstones are needed.
+         */
+        boolean remove(long high, long low, long sequence) {
+            int hole = home(high, low);
+            while (sequences[hole] != sequence || highs[hole] != high || lows[hole] != low) {
+                if (sequences[hole] == 0) {
+                    return false;
+                }
+                hole = (hole + 1) & mask;
+            }
+            for (int slot = (hole + 1) & mask; sequences[slot] != 0; slot = (slot + 1) & mask) {
+                int home = home(highs[slot], lows[slot]);
+                if (((slot - home) & mask) >= ((slot - hole) & mask)) {
+                    highs[hole] = highs[slot];
+                    lows[hole] = lows[slot];
+                    sequences[hole] = sequences[slot];
+                    hole = slot;
+                }
+            }
+            highs[hole] = 0;
+            lows[hole] = 0;
+            sequences[hole] = 0;
+            return true;
+        }
+
+        private int home(long high, long low) {
+            return (int) mix(high, low) & mask;
+        }
+    }
+
+    /**
+     * Hash of a key, whose low bits pick its home slot.
+     */
+    static long mix(long high, long low) {
+        long z = high * 0x9e3779b97f4a7c15L + low;
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+}
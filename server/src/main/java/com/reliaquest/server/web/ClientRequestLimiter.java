@@ -0,0 +1,75 @@
+package com.reliaquest.server.web;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Keeps one {@code long} of limiter state per client, for at most {@code maxClients} clients.
+ */
+abstract class ClientRequestLimiter implements RequestLimiter {
+
+    static final long SWEEP_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(1);
+    private static final long NEVER_SWEPT = Long.MIN_VALUE;
+
+    private final Map<String, AtomicLong> states = new ConcurrentHashMap<>();
+    private final AtomicLong nextSweep = new AtomicLong(NEVER_SWEPT);
+    private final AtomicReference<AtomicLong> overflow = new AtomicReference<>();
+    private final int maxClients;
+
+    ClientRequestLimiter(int maxClients) {
+        this.maxClients = Math.max(1, maxClients);
+    }
+
+    @Override
+    public long acquire(String client, long nowNanos) {
+        AtomicLong state = states.get(client);
+        if (state == null) {
+            if (states.size() >= maxClients) {
+                sweep(nowNanos);
+                if (states.size() >= maxClients) {
+                    return acquire(overflow(nowNanos), nowNanos);
+                }
+            }
+            state = states.computeIfAbsent(client, key -> new AtomicLong(initialState(nowNanos)));
+        }
+        return acquire(state, nowNanos);
+    }
+
+    int trackedClients() {
+        return states.size();
+    }
+
+    private void sweep(long nowNanos) {
+        long due = nextSweep.get();
+        if (due != NEVER_SWEPT && nowNanos - due < 0) {
+            return;
+        }
+        if (nextSweep.compareAndSet(due, nowNanos + SWEEP_INTERVAL_NANOS)) {
+            states.values().removeIf(state -> isIdle(state.get(), nowNanos));
+        }
+    }
+
+    private AtomicLong overflow(long nowNanos) {
+        AtomicLong state = overflow.get();
+        if (state == null) {
+            overflow.compareAndSet(null, new AtomicLong(initialState(nowNanos)));
+            state = overflow.get();
+        }
+        return state;
+    }
+
+    abstract long initialState(long nowNanos);
+
+    /**
+     * Admits or rejects a request against {@code state}, as {@link RequestLimiter#acquire(String, long)} does.
+     */
+    abstract long acquire(AtomicLong state, long nowNanos);
+
+    /**
+     * Whether {@code state} admits the same requests as {@link #initialState(long)} would.
+     */
+    abstract boolean isIdle(long state, long nowNanos);
+}
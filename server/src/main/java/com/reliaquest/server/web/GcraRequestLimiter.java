@@ -0,0 +1,49 @@
+package com.reliaquest.server.web;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Generic cell rate algorithm: each client may send {@code requests} per {@code period}, evenly spaced, and up to
+ * {@code burst} of them at once.
+ * <p>
+ * The only state per client is its theoretical arrival time, the time at which it would be back to a full burst. A
+ * request is admitted unless that time lies more than {@code burst - 1} emission intervals ahead, and then pushes it
+ * one interval further. A rejected request returns exactly how long until the next admission.
+ */
+public final class GcraRequestLimiter extends ClientRequestLimiter {
+
+    private final long interval;
+    private final long tolerance;
+
+    public GcraRequestLimiter(int requests, Duration period, int burst, int maxClients) {
+        super(maxClients);
+        this.interval = Math.max(1, period.toNanos() / Math.max(1, requests));
+        this.tolerance = interval * (Math.max(1, burst) - 1);
+    }
+
+    @Override
+    long initialState(long nowNanos) {
+        return nowNanos;
+    }
+
+    @Override
+    long acquire(AtomicLong arrival, long nowNanos) {
+        while (true) {
+            long current = arrival.get();
+            long wait = current - tolerance - nowNanos;
+            if (wait > 0) {
+                return wait;
+            }
+            long next = (current - nowNanos > 0 ? current : nowNanos) + interval;
+            if (arrival.compareAndSet(current, next)) {
+                return 0;
+            }
+        }
+    }
+
+    @Override
+    boolean isIdle(long arrival, long nowNanos) {
+        return arrival - nowNanos <= 0;
+    }
+}
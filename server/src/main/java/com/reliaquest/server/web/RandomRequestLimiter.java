@@ -0,0 +1,77 @@
+package com.reliaquest.server.web;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * The mock server's original limit: after {@code limit} admitted requests a client is locked out until
+ * {@code backoff} has passed since the last of them, and the first request after that starts over from zero. The
+ * server picks the limit from 5 to 9 and the backoff from 30 to 89 seconds at random when it starts.
+ * <p>
+ * Each client's state packs the admitted count into the top 16 bits and the time of the last admission, in
+ * milliseconds since the limiter was created, into the low 48.
+ */
+public final class RandomRequestLimiter extends ClientRequestLimiter {
+
+    private static final int TIME_BITS = 48;
+    private static final long TIME_MASK = (1L << TIME_BITS) - 1;
+
+    private final int limit;
+    private final long backoffMillis;
+    private final long originNanos = System.nanoTime();
+
+    public RandomRequestLimiter(int limit, Duration backoff, int maxClients) {
+        super(maxClients);
+        this.limit = Math.min(Math.max(1, limit), 0xffff);
+        this.backoffMillis = backoff.toMillis();
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    public Duration getBackoff() {
+        return Duration.ofMillis(backoffMillis);
+    }
+
+    @Override
+    long initialState(long nowNanos) {
+        return pack(0, millis(nowNanos));
+    }
+
+    @Override
+    long acquire(AtomicLong state, long nowNanos) {
+        long now = millis(nowNanos);
+        while (true) {
+            long current = state.get();
+            int count = (int) (current >>> TIME_BITS);
+            long next;
+            if (count >= limit) {
+                long wait = (current & TIME_MASK) + backoffMillis - now;
+                if (wait > 0) {
+                    return TimeUnit.MILLISECONDS.toNanos(wait);
+                }
+                next = pack(0, now);
+            } else {
+                next = pack(count + 1, now);
+            }
+            if (state.compareAndSet(current, next)) {
+                return 0;
+            }
+        }
+    }
+
+    @Override
+    boolean isIdle(long state, long nowNanos) {
+        return millis(nowNanos) - (state & TIME_MASK) >= backoffMillis;
+    }
+
+    private long millis(long nanos) {
+        return Math.max(0, (nanos - originNanos) / 1_000_000);
+    }
+
+    private static long pack(int count, long millis) {
+        return (long) count << TIME_BITS | (millis & TIME_MASK);
+    }
+}
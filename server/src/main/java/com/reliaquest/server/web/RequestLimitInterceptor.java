@@ -0,0 +1,88 @@
+package com.reliaquest.server.web;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.time.Duration;
+import java.util.random.RandomGenerator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * Rate limits requests per client, identified by the {@code mock.rate-limit.client-header} request header or else by
+ * remote address, and answers rejected ones with 429 and a {@code Retry-After} in whole seconds.
+ * <p>
+ * {@code mock.rate-limit.mode} selects the limiter: {@code random} (default) keeps the original randomly sized lockout,
+ * {@code gcra} admits {@code requests} per {@code period} with bursts of up to {@code burst}, and {@code off} admits
+ * everything. Rejections are counted as {@code mock.rate-limit.rejections}, tagged with the mode.
+ */
+@Slf4j
+@Component
+public class RequestLimitInterceptor implements HandlerInterceptor {
+
+    private final RequestLimiter limiter;
+    private final String clientHeader;
+    private final Counter rejections;
+
+    public RequestLimitInterceptor(
+            @Value("${mock.rate-limit.mode:random}") Mode mode,
+            @Value("${mock.rate-limit.client-header:X-Client-Id}") String clientHeader,
+            @Value("${mock.rate-limit.requests:10}") int requests,
+            @Value("${mock.rate-limit.period:1s}") Duration period,
+            @Value("${mock.rate-limit.burst:10}") int burst,
+            @Value("${mock.rate-limit.max-clients:10000}") int maxClients,
+            MeterRegistry meterRegistry) {
+        this.limiter = switch (mode) {
+            case RANDOM -> random(maxClients);
+            case GCRA -> {
+                log.info("Limiting each client to {} requests per {}, bursts of {}", requests, period, burst);
+                yield new GcraRequestLimiter(requests, period, burst, maxClients);
+            }
+            case OFF -> null;};
+        this.clientHeader = clientHeader;
+        this.rejections = Counter.builder("mock.rate-limit.rejections")
+                .description("Requests answered with 429")
+                .tag("mode", mode.name().toLowerCase())
+                .register(meterRegistry);
+    }
+
+    private static RandomRequestLimiter random(int maxClients) {
+        final var limiter = new RandomRequestLimiter(
+                RandomGenerator.getDefault().nextInt(5, 10),
+                Duration.ofSeconds(RandomGenerator.getDefault().nextInt(30, 90)),
+                maxClients);
+        log.info("Locking out each client for {} after {} requests", limiter.getBackoff(), limiter.getLimit());
+        return limiter;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (limiter == null) {
+            return true;
+        }
+        long wait = limiter.acquire(client(request), System.nanoTime());
+        if (wait > 0) {
+            rejections.increment();
+            response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+            response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString((wait + 999_999_999) / 1_000_000_000));
+            return false;
+        }
+        return true;
+    }
+
+    private String client(HttpServletRequest request) {
+        String client = clientHeader.isEmpty() ? null : request.getHeader(clientHeader);
+        return client == null || client.isBlank() ? request.getRemoteAddr() : client;
+    }
+
+    public enum Mode {
+        RANDOM,
+        GCRA,
+        OFF
+    }
+}
@@ -0,0 +1,15 @@
+package com.reliaquest.server.web;
+
+/**
+ * Decides whether a client's request is admitted under the server's rate limit.
+ */
+public interface RequestLimiter {
+
+    /**
+     * Admits or rejects one request of {@code client} arriving at {@code nowNanos}, a {@link System#nanoTime()}
+     * reading.
+     *
+     * @return 0 if the request is admitted, otherwise the nanoseconds until the client may retry
+     */
+    long acquire(String client, long nowNanos);
+}
@@ -0,0 +1,53 @@
+package com.reliaquest.server.config;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.server.model.MockEmployee;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import org.junit.jupiter.api.Test;
+
+class MockEmployeeGeneratorTest {
+
+    private static final int COUNT = MockEmployeeGenerator.CHUNK_SIZE * 6 + 17;
+
+    @Test
+    void testGenerate_SameSeedSameRosterOnAnyNumberOfThreads() {
+        List<MockEmployee> sequential = new MockEmployeeGenerator(Locale.US, 42, 1).generate(COUNT);
+        List<MockEmployee> parallel = new MockEmployeeGenerator(Locale.US, 42, 4).generate(COUNT);
+
+        assertEquals(COUNT, sequential.size());
+        assertEquals(sequential, parallel);
+        assertEquals(sequential, new MockEmployeeGenerator(Locale.US, 42, 4).generate(COUNT));
+    }
+
+    @Test
+    void testGenerate_ReusedGeneratorRepeatsRoster() {
+        MockEmployeeGenerator generator = new MockEmployeeGenerator(Locale.US, 42, 3);
+
+        assertEquals(generator.generate(COUNT), generator.generate(COUNT));
+    }
+
+    @Test
+    void testGenerate_DifferentSeedsDifferentRosters() {
+        List<MockEmployee> first = new MockEmployeeGenerator(Locale.US, 42, 2).generate(COUNT);
+        List<MockEmployee> second = new MockEmployeeGenerator(Locale.US, 43, 2).generate(COUNT);
+
+        assertNotEquals(first, second);
+    }
+
+    @Test
+    void testGenerate_UniqueVersionFourIds() {
+        List<MockEmployee> employees = new MockEmployeeGenerator(Locale.US, 42, 4).generate(COUNT);
+
+        assertEquals(
+                COUNT, new HashSet<>(employees.stream().map(MockEmployee::getId).toList()).size());
+        employees.forEach(employee -> assertEquals(4, employee.getId().version()));
+    }
+
+    @Test
+    void testGenerate_EmptyRoster() {
+        assertTrue(new MockEmployeeGenerator(Locale.US, 42, 4).generate(0).isEmpty());
+    }
+}
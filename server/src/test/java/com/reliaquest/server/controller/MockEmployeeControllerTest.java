@@ -0,0 +1,158 @@
+package com.reliaquest.server.controller;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.service.MockEmployeeService;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+@SpringBootTest(properties = {"mock.rate-limit.mode=off", "mock.employees.seed=42"})
+@AutoConfigureMockMvc
+class MockEmployeeControllerTest {
+
+    private static final String EMPLOYEE_URL = "/api/v1/employee";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private MockEmployeeService mockEmployeeService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    void testSearchEmployees_MatchesNamesContainingTextIgnoringCase() throws Exception {
+        List<MockEmployee> roster = mockEmployeeService.getMockEmployees();
+        String text = roster.get(0).getName().substring(1, 3).toUpperCase();
+        List<String> expected = roster.stream()
+                .filter(employee -> employee.getName().toUpperCase().contains(text))
+                .map(employee -> employee.getId().toString())
+                .toList();
+
+        List<String> found = ids(mockMvc.perform(get(EMPLOYEE_URL + "/search").param("name", text))
+                .andExpect(status().isOk()));
+
+        assertFalse(found.isEmpty());
+        assertEquals(expected, found);
+    }
+
+    @Test
+    void testSearchEmployees_RejectsBlankName() throws Exception {
+        mockMvc.perform(get(EMPLOYEE_URL + "/search").param("name", " "))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value("name: must not be blank"));
+    }
+
+    @Test
+    void testGetHighestSalary_ReturnsMaximum() throws Exception {
+        int highest = mockEmployeeService.getMockEmployees().stream()
+                .mapToInt(MockEmployee::getSalary)
+                .max()
+                .orElseThrow();
+
+        mockMvc.perform(get(EMPLOYEE_URL + "/salary/max"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data").value(highest));
+    }
+
+    @Test
+    void testGetTopEarners_RanksBySalaryThenInsertionOrder() throws Exception {
+        List<MockEmployee> ranked = new ArrayList<>(mockEmployeeService.getMockEmployees());
+        ranked.sort(Comparator.comparing(MockEmployee::getSalary).reversed());
+        List<String> expected =
+                ranked.stream().map(employee -> employee.getId().toString()).toList();
+
+        List<String> topThree =
+                ids(mockMvc.perform(get(EMPLOYEE_URL + "/salary/top").param("limit", "3"))
+                        .andExpect(status().isOk()));
+        List<String> topTen = ids(mockMvc.perform(get(EMPLOYEE_URL + "/salary/top")));
+
+        assertEquals(expected.subList(0, 3), topThree);
+        assertEquals(expected.subList(0, 10), topTen);
+    }
+
+    @Test
+    void testGetTopEarners_RejectsLimitOutOfRange() throws Exception {
+        mockMvc.perform(get(EMPLOYEE_URL + "/salary/top").param("limit", "0")).andExpect(status().isBadRequest());
+        mockMvc.perform(get(EMPLOYEE_URL + "/salary/top")
+                        .param("limit", Integer.toString(MockEmployeeController.MAX_PAGE_SIZE + 1)))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void testCreateEmployees_ReportsInvalidItemsInTheirSlotAndCreatesTheRest() throws Exception {
+        String body = "[{\"name\":\"Devki\",\"salary\":100,\"age\":30,\"title\":\"Engineer\"},"
+                + "{\"name\":\"pooja\",\"salary\":-1,\"age\":12,\"title\":\"Manager\"},"
+                + "null,"
+                + "{\"name\":\"Chauhan\",\"salary\":300,\"age\":40,\"title\":\"Director\"}]";
+
+        JsonNode data = objectMapper
+                .readTree(mockMvc.perform(post(EMPLOYEE_URL + "/bulk")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(body))
+                        .andExpect(status().isOk())
+                        .andReturn()
+                        .getResponse()
+                        .getContentAsString())
+                .get("data");
+
+        assertEquals(4, data.size());
+        assertEquals("Devki", data.get(0).get("employee").get("employee_name").asText());
+        assertFalse(data.get(0).has("error"));
+        assertEquals(
+                "age: must be greater than or equal to 16, salary: must be greater than 0",
+                data.get(1).get("error").asText());
+        assertFalse(data.get(1).has("employee"));
+        assertEquals("employee: must not be null", data.get(2).get("error").asText());
+        assertEquals("Chauhan", data.get(3).get("employee").get("employee_name").asText());
+        UUID created = UUID.fromString(data.get(3).get("employee").get("id").asText());
+        assertEquals(
+                "Chauhan", mockEmployeeService.findById(created).orElseThrow().getName());
+    }
+
+    @Test
+    void testCreateEmployees_RejectsEmptyAndOversizedBatches() throws Exception {
+        int before = mockEmployeeService.getMockEmployees().size();
+        String item = "{\"name\":\"Devki\",\"salary\":100,\"age\":30,\"title\":\"Engineer\"}";
+        String oversized =
+                "[" + String.join(",", Collections.nCopies(MockEmployeeController.MAX_BULK_SIZE + 1, item)) + "]";
+
+        mockMvc.perform(post(EMPLOYEE_URL + "/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[]"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(post(EMPLOYEE_URL + "/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(oversized))
+                .andExpect(status().isBadRequest());
+
+        assertEquals(before, mockEmployeeService.getMockEmployees().size());
+    }
+
+    private List<String> ids(ResultActions result) throws Exception {
+        JsonNode data = objectMapper
+                .readTree(result.andReturn().getResponse().getContentAsString())
+                .get("data");
+        List<String> ids = new ArrayList<>();
+        data.forEach(employee -> ids.add(employee.get("id").asText()));
+        return ids;
+    }
+}
@@ -0,0 +1,69 @@
+package com.reliaquest.server.store;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.server.model.MockEmployee;
+import java.util.Optional;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+class ColumnarIndexTest {
+
+    private final MockEmployee devki =
+            new MockEmployee(UUID.randomUUID(), "Devki", 100, 30, "Engineer", "dev123@test.com");
+    private final MockEmployee pooja = new MockEmployee(UUID.randomUUID(), "Pooja", 200, 28, null, "pooja123@test.com");
+    private final MockEmployee devkiToo =
+            new MockEmployee(UUID.randomUUID(), "DEVKI", 300, 41, "Engineer", "devki@test.com");
+
+    @Test
+    void testFindFirstByName_ConfirmsNameOnHashCollision() {
+        // every name of the same length shares one key
+        ColumnarIndex index = new ColumnarIndex(name -> 0L);
+        MockEmployeeStore.Snapshot snapshot = snapshot(index, devki, pooja, devkiToo);
+
+        assertEquals(Optional.of(pooja), index.findFirstByName("pooja", snapshot));
+        assertEquals(Optional.of(devki), index.findFirstByName("devki", snapshot));
+        assertEquals(Optional.empty(), index.findFirstByName("Kiran", snapshot));
+    }
+
+    @Test
+    void testFindFirstByName_SkipsRemovedEmployee() {
+        ColumnarIndex index = new ColumnarIndex();
+        snapshot(index, devki, pooja, devkiToo);
+
+        index.remove(devki, 1);
+        MockEmployeeStore.Snapshot remaining = snapshot(new long[] {2, 3}, pooja, devkiToo);
+
+        assertEquals(Optional.of(devkiToo), index.findFirstByName("Devki", remaining));
+        assertEquals(Optional.empty(), index.findById(devki.getId(), remaining));
+        assertEquals(1, index.positionOf(devkiToo, remaining));
+    }
+
+    @Test
+    void testFindFirstByName_IgnoresEmployeesNotYetInSnapshot() {
+        ColumnarIndex index = new ColumnarIndex();
+        snapshot(index, devki, pooja, devkiToo);
+
+        MockEmployeeStore.Snapshot older = snapshot(new long[] {2}, pooja);
+
+        assertEquals(Optional.empty(), index.findFirstByName("devki", older));
+        assertEquals(Optional.of(pooja), index.findById(pooja.getId(), older));
+    }
+
+    private static MockEmployeeStore.Snapshot snapshot(ColumnarIndex index, MockEmployee... employees) {
+        long[] sequences = new long[employees.length];
+        for (int i = 0; i < employees.length; i++) {
+            sequences[i] = i + 1;
+            index.add(employees[i], sequences[i]);
+        }
+        return snapshot(sequences, employees);
+    }
+
+    private static MockEmployeeStore.Snapshot snapshot(long[] sequences, MockEmployee... employees) {
+        ColumnarRows rows = new ColumnarRows(employees.length);
+        for (int i = 0; i < employees.length; i++) {
+            rows.set(i, employees[i]);
+        }
+        return new MockEmployeeStore.Snapshot(rows, sequences, employees.length, 1, "a");
+    }
+}
@@ -0,0 +1,55 @@
+package com.reliaquest.server.store;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.server.model.MockEmployee;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+class ColumnarRowsTest {
+
+    private final MockEmployee devki =
+            new MockEmployee(UUID.randomUUID(), "Devki", 100, 30, "Engineer", "dev123@test.com");
+    private final MockEmployee blank = new MockEmployee(null, null, null, null, null, null);
+    private final MockEmployee pooja =
+            new MockEmployee(UUID.randomUUID(), "pooja", 0, 0, "Engineer", "pooja123@test.com");
+
+    @Test
+    void testGet_RoundTripsRowsWithNulls() {
+        ColumnarRows rows = rows(devki, blank, pooja);
+
+        assertEquals(devki, rows.get(0));
+        assertEquals(blank, rows.get(1));
+        assertEquals(pooja, rows.get(2));
+        assertEquals("pooja", rows.name(2));
+    }
+
+    @Test
+    void testGrow_KeepsRowsAndSharesTitles() {
+        EmployeeRows grown = rows(devki, blank).grow(8, 2);
+        MockEmployee manager = pooja.toBuilder().title("Manager").build();
+        grown.set(2, manager);
+
+        assertEquals(8, grown.capacity());
+        assertEquals(devki, grown.get(0));
+        assertEquals(blank, grown.get(1));
+        assertEquals(manager, grown.get(2));
+    }
+
+    @Test
+    void testWithout_ShiftsLaterRows() {
+        EmployeeRows remaining = rows(devki, blank, pooja).without(1, 3);
+
+        assertEquals(3, remaining.capacity());
+        assertEquals(devki, remaining.get(0));
+        assertEquals(pooja, remaining.get(1));
+    }
+
+    private static ColumnarRows rows(MockEmployee... employees) {
+        ColumnarRows rows = new ColumnarRows(employees.length);
+        for (int i = 0; i < employees.length; i++) {
+            rows.set(i, employees[i]);
+        }
+        return rows;
+    }
+}
@@ -0,0 +1,171 @@
+package com.reliaquest.server.store;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.server.model.MockEmployee;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.ObjectProvider;
+
+class MockEmployeeImageFileTest {
+
+    private final MockEmployee devki =
+            new MockEmployee(UUID.randomUUID(), "Devki", 100, 30, "Engineer", "dev123@test.com");
+    private final MockEmployee pooja = new MockEmployee(UUID.randomUUID(), "pooja", 200, 28, null, "pooja123@test.com");
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void testWrite_RoundTripsContents() {
+        MockEmployeeImageFile imageFile = imageFile();
+
+        imageFile.write(new MockEmployeeImageFile.Image(
+                "1f", 7, 12, true, new MockEmployee[] {devki, pooja}, new long[] {3, 12}));
+        MockEmployeeImageFile.Image image = imageFile.read().orElseThrow();
+
+        assertEquals("1f", image.epoch());
+        assertEquals(7, image.version());
+        assertEquals(12, image.lastSequence());
+        assertTrue(image.clean());
+        assertArrayEquals(new MockEmployee[] {devki, pooja}, image.employees());
+        assertArrayEquals(new long[] {3, 12}, image.sequences());
+    }
+
+    @Test
+    void testStore_KeepsEpochAfterCleanRestore() {
+        MockEmployeeStore store = store();
+        store.add(pooja);
+        store.writeImageOnShutdown();
+
+        MockEmployeeStore restored = store();
+
+        assertEquals(store.snapshot().entityTag(), restored.snapshot().entityTag());
+        assertEquals(names(store), names(restored));
+    }
+
+    @Test
+    void testStore_ClearsCleanFlagOnRestore() {
+        MockEmployeeStore store = store();
+        store.writeImageOnShutdown();
+
+        MockEmployeeStore restored = store();
+
+        assertFalse(imageFile().read().orElseThrow().clean());
+        // a crash now skips the shutdown image, so the next start must not reuse the epoch for the write below
+        restored.add(pooja);
+        MockEmployeeStore afterCrash = store();
+
+        assertNotEquals(epoch(restored), epoch(afterCrash));
+    }
+
+    @Test
+    void testStore_StartsNewEpochAfterDirtyRestore() {
+        MockEmployeeStore store = store();
+        store.writeImage();
+
+        MockEmployeeStore restored = store();
+
+        assertNotEquals(epoch(store), epoch(restored));
+        assertEquals(names(store), names(restored));
+    }
+
+    @Test
+    void testRead_IgnoresCorruptBody() throws IOException {
+        MockEmployeeImageFile imageFile = imageFile();
+        imageFile.write(image());
+
+        try (RandomAccessFile file = new RandomAccessFile(path().toFile(), "rw")) {
+            file.seek(file.length() - 1);
+            int last = file.read();
+            file.seek(file.length() - 1);
+            file.write(last ^ 1);
+        }
+
+        assertTrue(imageFile.read().isEmpty());
+    }
+
+    @Test
+    void testRead_IgnoresForeignOrTruncatedHeader() throws IOException {
+        MockEmployeeImageFile imageFile = imageFile();
+        imageFile.write(image());
+        byte[] contents = Files.readAllBytes(path());
+
+        contents[0] = 'X';
+        Files.write(path(), contents);
+        assertTrue(imageFile.read().isEmpty());
+
+        Files.write(path(), new byte[MockEmployeeImageFile.HEADER_SIZE - 1]);
+        assertTrue(imageFile.read().isEmpty());
+    }
+
+    @Test
+    void testRead_IgnoresOtherFormatVersion() throws IOException {
+        MockEmployeeImageFile imageFile = imageFile();
+        imageFile.write(image());
+        byte[] contents = Files.readAllBytes(path());
+
+        contents[Integer.BYTES + 1] = (byte) (MockEmployeeImageFile.FORMAT_VERSION + 1);
+        Files.write(path(), contents);
+
+        assertTrue(imageFile.read().isEmpty());
+    }
+
+    private MockEmployeeImageFile.Image image() {
+        return new MockEmployeeImageFile.Image("a", 1, 1, false, new MockEmployee[] {devki}, new long[] {1});
+    }
+
+    private Path path() {
+        return directory.resolve("employees.img");
+    }
+
+    private MockEmployeeImageFile imageFile() {
+        return new MockEmployeeImageFile(path().toString(), true);
+    }
+
+    private MockEmployeeStore store() {
+        ObjectProvider<List<MockEmployee>> seed = new ObjectProvider<>() {
+            @Override
+            public List<MockEmployee> getObject(Object... args) {
+                return getObject();
+            }
+
+            @Override
+            public List<MockEmployee> getIfAvailable() {
+                return getObject();
+            }
+
+            @Override
+            public List<MockEmployee> getIfUnique() {
+                return getObject();
+            }
+
+            @Override
+            public List<MockEmployee> getObject() {
+                return List.of(devki);
+            }
+        };
+        return new MockEmployeeStore(
+                seed,
+                imageFile(),
+                new MockEmployeeJournal("", MockEmployeeJournal.Durability.NONE),
+                16,
+                MockEmployeeStore.Layout.OBJECTS);
+    }
+
+    private static String epoch(MockEmployeeStore store) {
+        String entityTag = store.snapshot().entityTag();
+        return entityTag.substring(0, entityTag.indexOf('-'));
+    }
+
+    private static List<String> names(MockEmployeeStore store) {
+        return store.snapshot().stream().map(MockEmployee::getName).collect(Collectors.toList());
+    }
+}
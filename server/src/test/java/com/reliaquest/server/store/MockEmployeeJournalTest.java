@@ -0,0 +1,239 @@
+package com.reliaquest.server.store;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.model.MockEmployeeChange;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.ObjectProvider;
+
+class MockEmployeeJournalTest {
+
+    private final MockEmployee devki =
+            new MockEmployee(UUID.randomUUID(), "Devki", 100, 30, "Engineer", "dev123@test.com");
+    private final MockEmployee pooja = new MockEmployee(UUID.randomUUID(), "pooja", 200, 28, null, "pooja123@test.com");
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void testOpen_ReplaysEntriesAfterVersion() throws IOException {
+        MockEmployeeJournal journal = journal(MockEmployeeJournal.Durability.NONE);
+        journal.open(0);
+        journal.created(1, 1, List.of(devki, pooja));
+        journal.deleted(3, devki.getId());
+        journal.close();
+
+        List<MockEmployeeJournal.Entry> entries =
+                journal(MockEmployeeJournal.Durability.NONE).open(0);
+        List<MockEmployeeJournal.Entry> tail =
+                journal(MockEmployeeJournal.Durability.NONE).open(2);
+
+        assertEquals(3, entries.size());
+        assertEquals(new MockEmployeeJournal.Entry(1, MockEmployeeChange.Type.CREATED, 1, null, devki), entries.get(0));
+        assertEquals(new MockEmployeeJournal.Entry(2, MockEmployeeChange.Type.CREATED, 2, null, pooja), entries.get(1));
+        assertEquals(
+                new MockEmployeeJournal.Entry(3, MockEmployeeChange.Type.DELETED, 0, devki.getId(), null),
+                entries.get(2));
+        assertEquals(entries.subList(2, 3), tail);
+    }
+
+    @Test
+    void testOpen_CutsTornTailAndAppendsAfterIt() throws IOException {
+        MockEmployeeJournal journal = journal(MockEmployeeJournal.Durability.NONE);
+        journal.open(0);
+        journal.created(1, 1, List.of(devki));
+        journal.close();
+        long validLength = Files.size(path());
+        journal = journal(MockEmployeeJournal.Durability.NONE);
+        journal.open(0);
+        journal.created(2, 2, List.of(pooja));
+        journal.close();
+        byte[] contents = Files.readAllBytes(path());
+        Files.write(path(), Arrays.copyOf(contents, contents.length - 3));
+
+        journal = journal(MockEmployeeJournal.Durability.NONE);
+        List<MockEmployeeJournal.Entry> entries = journal.open(0);
+        assertEquals(validLength, Files.size(path()));
+        journal.deleted(2, devki.getId());
+        journal.close();
+
+        assertEquals(List.of(1L), versions(entries));
+        assertEquals(
+                List.of(1L, 2L),
+                versions(journal(MockEmployeeJournal.Durability.NONE).open(0)));
+    }
+
+    @Test
+    void testOpen_StopsAtCorruptEntry() throws IOException {
+        MockEmployeeJournal journal = journal(MockEmployeeJournal.Durability.NONE);
+        journal.open(0);
+        journal.created(1, 1, List.of(devki, pooja));
+        journal.close();
+        byte[] contents = Files.readAllBytes(path());
+        contents[contents.length - 1] ^= 1;
+        Files.write(path(), contents);
+
+        assertEquals(
+                List.of(1L),
+                versions(journal(MockEmployeeJournal.Durability.NONE).open(0)));
+    }
+
+    @Test
+    void testRotate_ReplaysRotatedEntriesUntilDiscarded() throws IOException {
+        MockEmployeeJournal journal = journal(MockEmployeeJournal.Durability.NONE);
+        journal.open(0);
+        journal.created(1, 1, List.of(devki));
+        journal.rotate();
+        journal.created(2, 2, List.of(pooja));
+        journal.close();
+        Path rotated = directory.resolve("employees.journal.prev");
+
+        // a crash before the snapshot was written keeps both files
+        assertTrue(Files.exists(rotated));
+        assertEquals(
+                List.of(1L, 2L),
+                versions(journal(MockEmployeeJournal.Durability.NONE).open(0)));
+        // a snapshot at version 1 already holds the rotated entry
+        assertEquals(
+                List.of(2L),
+                versions(journal(MockEmployeeJournal.Durability.NONE).open(1)));
+
+        journal.discardRotated();
+
+        assertFalse(Files.exists(rotated));
+        assertEquals(
+                List.of(2L),
+                versions(journal(MockEmployeeJournal.Durability.NONE).open(0)));
+    }
+
+    @Test
+    void testRotate_KeepsUnfinishedRotation() throws IOException {
+        MockEmployeeJournal journal = journal(MockEmployeeJournal.Durability.NONE);
+        journal.open(0);
+        journal.created(1, 1, List.of(devki));
+        journal.rotate();
+        journal.created(2, 2, List.of(pooja));
+        journal.rotate();
+        journal.close();
+
+        assertEquals(
+                List.of(1L, 2L),
+                versions(journal(MockEmployeeJournal.Durability.NONE).open(0)));
+    }
+
+    @Test
+    void testAwaitDurable_PerWriteIsDurableOnAppend() throws Exception {
+        assertConcurrentWritersReplay(MockEmployeeJournal.Durability.PER_WRITE);
+    }
+
+    @Test
+    void testAwaitDurable_BatchedReleasesEveryWriter() throws Exception {
+        assertConcurrentWritersReplay(MockEmployeeJournal.Durability.BATCHED);
+    }
+
+    @Test
+    void testCreated_RefusesWritesOnceAppendCannotBeUndone() throws IOException {
+        MockEmployeeJournal journal = journal(MockEmployeeJournal.Durability.NONE);
+        journal.open(0);
+        journal.created(1, 1, List.of(devki));
+        journal.close();
+
+        assertThrows(UncheckedIOException.class, () -> journal.created(2, 2, List.of(pooja)));
+        UncheckedIOException exception =
+                assertThrows(UncheckedIOException.class, () -> journal.deleted(2, devki.getId()));
+
+        assertTrue(exception.getCause().getMessage().contains("no longer accepts writes"));
+        assertEquals(
+                List.of(1L),
+                versions(journal(MockEmployeeJournal.Durability.NONE).open(0)));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testStore_KeepsVisibleWriteWhenSyncFails() {
+        MockEmployeeJournal journal = spy(new MockEmployeeJournal("", MockEmployeeJournal.Durability.NONE));
+        doThrow(new UncheckedIOException(new IOException("disk gone")))
+                .when(journal)
+                .awaitDurable(anyLong());
+        ObjectProvider<List<MockEmployee>> seed = mock(ObjectProvider.class);
+        when(seed.getObject()).thenReturn(List.of(devki));
+        MockEmployeeStore store = new MockEmployeeStore(
+                seed, new MockEmployeeImageFile("", true), journal, 64, MockEmployeeStore.Layout.OBJECTS);
+
+        assertDoesNotThrow(() -> store.add(pooja));
+        assertTrue(store.remove(devki));
+
+        assertEquals(List.of(pooja), store.snapshot());
+    }
+
+    @Test
+    void testDisabled_IgnoresWrites() {
+        MockEmployeeJournal journal = new MockEmployeeJournal("", MockEmployeeJournal.Durability.BATCHED);
+
+        assertEquals(List.of(), journal.open(0));
+        assertEquals(0, journal.created(1, 1, List.of(devki)));
+        journal.awaitDurable(0);
+        journal.rotate();
+        assertFalse(journal.isEnabled());
+    }
+
+    private void assertConcurrentWritersReplay(MockEmployeeJournal.Durability durability) throws Exception {
+        MockEmployeeJournal journal = journal(durability);
+        journal.open(0);
+        Object storeLock = new Object();
+        long[] version = {0};
+        ExecutorService writers = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<?>> writes = new ArrayList<>();
+            for (int i = 0; i < 200; i++) {
+                writes.add(writers.submit(() -> {
+                    long ticket;
+                    synchronized (storeLock) {
+                        version[0]++;
+                        ticket = journal.created(version[0], version[0], List.of(devki));
+                    }
+                    journal.awaitDurable(ticket);
+                }));
+            }
+            for (Future<?> write : writes) {
+                write.get(10, TimeUnit.SECONDS);
+            }
+        } finally {
+            writers.shutdownNow();
+        }
+        journal.close();
+
+        List<Long> versions = versions(journal(durability).open(0));
+        assertEquals(200, versions.size());
+        for (int i = 0; i < versions.size(); i++) {
+            assertEquals(i + 1, versions.get(i));
+        }
+    }
+
+    private Path path() {
+        return directory.resolve("employees.journal");
+    }
+
+    private MockEmployeeJournal journal(MockEmployeeJournal.Durability durability) {
+        return new MockEmployeeJournal(path().toString(), durability);
+    }
+
+    private static List<Long> versions(List<MockEmployeeJournal.Entry> entries) {
+        return entries.stream().map(MockEmployeeJournal.Entry::version).toList();
+    }
+}
@@ -0,0 +1,94 @@
+package com.reliaquest.server.store;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import com.reliaquest.server.model.MockEmployee;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+
+class MockEmployeeStoreLayoutTest {
+
+    private static final String[] NAMES = {"Devki", "devki", "Pooja", "POOJA", "Kiran", "Anu", null};
+    private static final String[] TITLES = {"Engineer", "Manager", null};
+
+    @Test
+    void testLayouts_AnswerAlikeUnderSameWrites() {
+        Random random = new Random(7);
+        List<MockEmployee> seed = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            seed.add(employee(random));
+        }
+        MockEmployeeStore objects = store(seed, MockEmployeeStore.Layout.OBJECTS);
+        MockEmployeeStore columnar = store(seed, MockEmployeeStore.Layout.COLUMNAR);
+        List<MockEmployee> live = new ArrayList<>(seed);
+
+        for (int step = 0; step < 2_000; step++) {
+            int operation = random.nextInt(4);
+            if (operation == 0 && !live.isEmpty()) {
+                MockEmployee removed = live.remove(random.nextInt(live.size()));
+                assertEquals(objects.remove(removed), columnar.remove(removed));
+            } else if (operation == 1) {
+                List<MockEmployee> batch = List.of(employee(random), employee(random));
+                objects.addAll(batch);
+                columnar.addAll(batch);
+                live.addAll(batch);
+            } else {
+                MockEmployee added = employee(random);
+                objects.add(added);
+                columnar.add(added);
+                live.add(added);
+            }
+            assertSameAnswers(objects, columnar, live, random);
+        }
+        assertEquals(live, objects.snapshot());
+    }
+
+    private static void assertSameAnswers(
+            MockEmployeeStore objects, MockEmployeeStore columnar, List<MockEmployee> live, Random random) {
+        assertEquals(objects.snapshot(), columnar.snapshot());
+        assertEquals(
+                objects.snapshot().entityTag().split("-")[1],
+                columnar.snapshot().entityTag().split("-")[1]);
+        String name = NAMES[random.nextInt(NAMES.length - 1)];
+        assertEquals(objects.findFirstByName(name), columnar.findFirstByName(name));
+        assertEquals(objects.findByNameContaining("ki"), columnar.findByNameContaining("ki"));
+        assertEquals(objects.findTopBySalary(5), columnar.findTopBySalary(5));
+        assertEquals(
+                objects.page(0, Long.MAX_VALUE, 7).employees(),
+                columnar.page(0, Long.MAX_VALUE, 7).employees());
+        if (!live.isEmpty()) {
+            UUID id = live.get(random.nextInt(live.size())).getId();
+            assertEquals(objects.findById(id), columnar.findById(id));
+            assertTrue(columnar.findById(id).isPresent());
+        }
+        UUID unknown = UUID.randomUUID();
+        assertEquals(objects.findById(unknown), columnar.findById(unknown));
+    }
+
+    private static MockEmployee employee(Random random) {
+        return new MockEmployee(
+                new UUID(random.nextLong(), random.nextLong()),
+                NAMES[random.nextInt(NAMES.length)],
+                random.nextInt(10) == 0 ? null : random.nextInt(50) * 1_000,
+                random.nextInt(10) == 0 ? null : 18 + random.nextInt(50),
+                TITLES[random.nextInt(TITLES.length)],
+                "employee" + random.nextInt(1_000) + "@test.com");
+    }
+
+    @SuppressWarnings("unchecked")
+    private static MockEmployeeStore store(List<MockEmployee> seed, MockEmployeeStore.Layout layout) {
+        ObjectProvider<List<MockEmployee>> provider = mock(ObjectProvider.class);
+        when(provider.getObject()).thenReturn(seed);
+        return new MockEmployeeStore(
+                provider,
+                new MockEmployeeImageFile("", true),
+                new MockEmployeeJournal("", MockEmployeeJournal.Durability.NONE),
+                64,
+                layout);
+    }
+}
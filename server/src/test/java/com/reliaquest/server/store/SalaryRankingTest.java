@@ -0,0 +1,76 @@
+package com.reliaquest.server.store;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import com.reliaquest.server.model.MockEmployee;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+
+class SalaryRankingTest {
+
+    @Test
+    void testTop_RanksBySalaryThenInsertionOrder() {
+        MockEmployee devki = employee("Devki", 100);
+        MockEmployee pooja = employee("pooja", 200);
+        MockEmployee kiran = employee("Kiran", 200);
+        MockEmployee anu = employee("Anu", null);
+        MockEmployeeStore store = store(List.of(devki, pooja, kiran, anu));
+
+        assertEquals(List.of(pooja, kiran, devki, anu), store.findTopBySalary(10));
+        assertEquals(List.of(pooja), store.findTopBySalary(1));
+
+        store.remove(pooja);
+        assertEquals(List.of(kiran, devki), store.findTopBySalary(2));
+    }
+
+    @Test
+    void testTop_NeverMissesEmployeeOfSnapshotDeletedDuringWalk() throws InterruptedException {
+        MockEmployee top = employee("Devki", 300);
+        List<MockEmployee> roster = new ArrayList<>(List.of(top));
+        for (int i = 0; i < 500; i++) {
+            roster.add(employee("Pooja " + i, 200));
+        }
+        MockEmployeeStore store = store(roster);
+        AtomicBoolean running = new AtomicBoolean(true);
+        // every snapshot holds at least one employee earning 300: a successor is added before its predecessor goes
+        Thread writer = new Thread(() -> {
+            MockEmployee current = top;
+            while (running.get()) {
+                MockEmployee next = employee("Devki", 300);
+                store.add(next);
+                store.remove(current);
+                current = next;
+            }
+        });
+        writer.start();
+        try {
+            for (int i = 0; i < 20_000; i++) {
+                assertEquals(300, store.findTopBySalary(1).get(0).getSalary());
+            }
+        } finally {
+            running.set(false);
+            writer.join();
+        }
+    }
+
+    private static MockEmployee employee(String name, Integer salary) {
+        return new MockEmployee(UUID.randomUUID(), name, salary, 30, "Engineer", "employee@test.com");
+    }
+
+    @SuppressWarnings("unchecked")
+    private static MockEmployeeStore store(List<MockEmployee> seed) {
+        ObjectProvider<List<MockEmployee>> provider = mock(ObjectProvider.class);
+        when(provider.getObject()).thenReturn(seed);
+        return new MockEmployeeStore(
+                provider,
+                new MockEmployeeImageFile("", true),
+                new MockEmployeeJournal("", MockEmployeeJournal.Durability.NONE),
+                64,
+                MockEmployeeStore.Layout.OBJECTS);
+    }
+}
@@ -0,0 +1,148 @@
+package com.reliaquest.server.store;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.Test;
+
+class SequenceTableTest {
+
+    private static final int INITIAL_MASK = 15;
+
+    @Test
+    void testGet_FollowsProbeChainPastCollidingKeys() {
+        SequenceTable table = new SequenceTable();
+        long[] lows = keysWithHome(4, 4);
+
+        for (int i = 0; i < 3; i++) {
+            table.put(7, lows[i], i + 1);
+        }
+
+        for (int i = 0; i < 3; i++) {
+            assertEquals(i + 1, table.get(7, lows[i]));
+        }
+        assertEquals(0, table.get(7, lows[3]));
+    }
+
+    @Test
+    void testGetAll_ReturnsEverySequenceOfKey() {
+        SequenceTable table = new SequenceTable();
+        long[] lows = keysWithHome(2, 2);
+
+        table.put(7, lows[0], 1);
+        table.put(7, lows[1], 2);
+        table.put(7, lows[0], 3);
+        table.putIfAbsent(7, lows[0], 4);
+
+        assertArrayEquals(new long[] {1, 3}, table.getAll(7, lows[0]));
+        assertArrayEquals(new long[] {2}, table.getAll(7, lows[1]));
+        assertEquals(1, table.get(7, lows[0]));
+    }
+
+    @Test
+    void testRemove_ShiftsBackLaterEntriesOfProbeRun() {
+        SequenceTable table = new SequenceTable();
+        long[] lows = keysWithHome(4, INITIAL_MASK);
+
+        // the run starts at the last slot and wraps around to the first ones
+        for (int i = 0; i < 4; i++) {
+            table.put(7, lows[i], i + 1);
+        }
+        table.remove(7, lows[0], 1);
+        table.remove(7, lows[2], 3);
+
+        assertEquals(0, table.get(7, lows[0]));
+        assertEquals(2, table.get(7, lows[1]));
+        assertEquals(0, table.get(7, lows[2]));
+        assertEquals(4, table.get(7, lows[3]));
+    }
+
+    @Test
+    void testRemove_KeepsEntriesHomedInsideRun() {
+        SequenceTable table = new SequenceTable();
+        long[] first = keysWithHome(2, 3);
+        long[] second = keysWithHome(1, 4);
+
+        // first[1] probes into slot 4, so second[0] lands in slot 5 and must not move into slot 3
+        table.put(7, first[0], 1);
+        table.put(7, first[1], 2);
+        table.put(7, second[0], 3);
+        table.remove(7, first[0], 1);
+
+        assertEquals(2, table.get(7, first[1]));
+        assertEquals(3, table.get(7, second[0]));
+    }
+
+    @Test
+    void testRemove_OnlyRemovesGivenSequence() {
+        SequenceTable table = new SequenceTable();
+
+        table.put(1, 2, 10);
+        table.put(1, 2, 11);
+        table.remove(1, 2, 10);
+        table.remove(1, 2, 12);
+
+        assertArrayEquals(new long[] {11}, table.getAll(1, 2));
+    }
+
+    @Test
+    void testPut_ResizesAndKeepsEntries() {
+        SequenceTable table = new SequenceTable();
+
+        for (long i = 1; i <= 10_000; i++) {
+            table.put(i, -i, i);
+        }
+        for (long i = 1; i <= 10_000; i += 2) {
+            table.remove(i, -i, i);
+        }
+
+        for (long i = 1; i <= 10_000; i++) {
+            assertEquals(i % 2 == 0 ? i : 0, table.get(i, -i));
+        }
+    }
+
+    @Test
+    void testOperations_MatchHashMap() {
+        SequenceTable table = new SequenceTable();
+        Map<Long, List<Long>> expected = new HashMap<>();
+        Random random = new Random(42);
+        long[] lows = LongStream.range(0, 64).toArray();
+
+        for (long sequence = 1; sequence <= 20_000; sequence++) {
+            long low = lows[random.nextInt(lows.length)];
+            List<Long> sequences = expected.computeIfAbsent(low, key -> new ArrayList<>());
+            if (random.nextInt(3) == 0 && !sequences.isEmpty()) {
+                table.remove(0, low, sequences.remove(random.nextInt(sequences.size())));
+            } else {
+                table.put(0, low, sequence);
+                sequences.add(sequence);
+            }
+        }
+
+        for (long low : lows) {
+            List<Long> sequences = expected.getOrDefault(low, List.of());
+            assertEquals(
+                    sequences.stream().sorted().toList(),
+                    LongStream.of(table.getAll(0, low)).sorted().boxed().toList());
+        }
+    }
+
+    /**
+     * Low halves of keys with high half 7 whose home slot in a table of the initial capacity is {@code home}.
+     */
+    private static long[] keysWithHome(int count, int home) {
+        long[] lows = new long[count];
+        int found = 0;
+        for (long low = 0; found < count; low++) {
+            if (((int) SequenceTable.mix(7, low) & INITIAL_MASK) == home) {
+                lows[found++] = low;
+            }
+        }
+        return lows;
+    }
+}
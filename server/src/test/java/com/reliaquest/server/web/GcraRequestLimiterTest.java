@@ -0,0 +1,91 @@
+package com.reliaquest.server.web;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+class GcraRequestLimiterTest {
+
+    private static final long INTERVAL = TimeUnit.MILLISECONDS.toNanos(100);
+
+    @Test
+    void testAcquire_AdmitsBurstThenReturnsExactWait() {
+        GcraRequestLimiter limiter = new GcraRequestLimiter(10, Duration.ofSeconds(1), 3, 100);
+
+        assertEquals(0, limiter.acquire("a", 0));
+        assertEquals(0, limiter.acquire("a", 0));
+        assertEquals(0, limiter.acquire("a", 0));
+        assertEquals(INTERVAL, limiter.acquire("a", 0));
+        assertEquals(INTERVAL - 40, limiter.acquire("a", 40));
+
+        assertEquals(0, limiter.acquire("a", INTERVAL));
+        assertEquals(INTERVAL, limiter.acquire("a", INTERVAL));
+    }
+
+    @Test
+    void testAcquire_SpacesSteadyRequestsEvenly() {
+        GcraRequestLimiter limiter = new GcraRequestLimiter(10, Duration.ofSeconds(1), 1, 100);
+
+        for (long now = 0; now < 10 * INTERVAL; now += INTERVAL) {
+            assertEquals(0, limiter.acquire("a", now));
+            assertEquals(INTERVAL - 1, limiter.acquire("a", now + 1));
+        }
+    }
+
+    @Test
+    void testAcquire_KeepsClientsApart() {
+        GcraRequestLimiter limiter = new GcraRequestLimiter(10, Duration.ofSeconds(1), 1, 100);
+
+        assertEquals(0, limiter.acquire("a", 0));
+        assertTrue(limiter.acquire("a", 0) > 0);
+        assertEquals(0, limiter.acquire("b", 0));
+    }
+
+    @Test
+    void testAcquire_ConcurrentCallersShareBurst() throws InterruptedException {
+        GcraRequestLimiter limiter = new GcraRequestLimiter(10, Duration.ofSeconds(1), 25, 100);
+
+        assertEquals(25, RequestLimiters.admitConcurrently(limiter, 16, 1_000, 0));
+    }
+
+    @Test
+    void testAcquire_ForgetsIdleClientsBeyondMaxClients() {
+        GcraRequestLimiter limiter = new GcraRequestLimiter(10, Duration.ofSeconds(1), 1, 1);
+
+        assertEquals(0, limiter.acquire("a", 0));
+        assertEquals(0, limiter.acquire("b", INTERVAL));
+        // "a" was idle and swept to make room for "b"
+        assertEquals(1, limiter.trackedClients());
+        assertTrue(limiter.acquire("b", INTERVAL) > 0);
+    }
+
+    @Test
+    void testAcquire_UntrackedClientsShareOverflowWhenFull() {
+        GcraRequestLimiter limiter = new GcraRequestLimiter(10, Duration.ofSeconds(1), 1, 2);
+
+        assertEquals(0, limiter.acquire("a", 0));
+        assertEquals(0, limiter.acquire("b", 0));
+        assertEquals(0, limiter.acquire("c", 0));
+        assertEquals(INTERVAL, limiter.acquire("d", 0));
+        assertEquals(2, limiter.trackedClients());
+    }
+
+    @Test
+    void testAcquire_SweepsAtMostOncePerInterval() {
+        GcraRequestLimiter limiter = new GcraRequestLimiter(10, Duration.ofSeconds(1), 1, 2);
+        assertEquals(0, limiter.acquire("a", 0));
+        assertEquals(0, limiter.acquire("b", 0));
+        assertEquals(0, limiter.acquire("c", 0));
+
+        // "a" and "b" are idle now, but the sweep that found them busy was too recent
+        assertEquals(0, limiter.acquire("d", INTERVAL));
+        assertEquals(2, limiter.trackedClients());
+        assertEquals(INTERVAL, limiter.acquire("e", INTERVAL));
+
+        long later = ClientRequestLimiter.SWEEP_INTERVAL_NANOS;
+        assertEquals(0, limiter.acquire("e", later));
+        assertEquals(1, limiter.trackedClients());
+    }
+}
@@ -0,0 +1,52 @@
+package com.reliaquest.server.web;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+class RandomRequestLimiterTest {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    @Test
+    void testAcquire_LocksOutAfterLimitUntilBackoffPassed() {
+        RandomRequestLimiter limiter = new RandomRequestLimiter(3, Duration.ofSeconds(30), 100);
+        long start = System.nanoTime();
+
+        assertEquals(0, limiter.acquire("a", start));
+        assertEquals(0, limiter.acquire("a", start));
+        assertEquals(0, limiter.acquire("a", start + SECOND));
+
+        // the backoff runs from the last admitted request
+        assertWait(30 * SECOND, limiter.acquire("a", start + SECOND));
+        assertWait(20 * SECOND, limiter.acquire("a", start + 11 * SECOND));
+        assertEquals(0, limiter.acquire("a", start + 31 * SECOND));
+        assertEquals(0, limiter.acquire("a", start + 31 * SECOND));
+    }
+
+    @Test
+    void testAcquire_KeepsClientsApart() {
+        RandomRequestLimiter limiter = new RandomRequestLimiter(1, Duration.ofSeconds(30), 100);
+        long start = System.nanoTime();
+
+        assertEquals(0, limiter.acquire("a", start));
+        assertTrue(limiter.acquire("a", start) > 0);
+        assertEquals(0, limiter.acquire("b", start));
+    }
+
+    @Test
+    void testAcquire_ConcurrentCallersShareLimit() throws InterruptedException {
+        RandomRequestLimiter limiter = new RandomRequestLimiter(9, Duration.ofSeconds(30), 100);
+
+        assertEquals(9, RequestLimiters.admitConcurrently(limiter, 16, 1_000, System.nanoTime()));
+    }
+
+    /**
+     * The limiter counts in milliseconds since it was created, so waits are exact only to the millisecond.
+     */
+    private static void assertWait(long expected, long actual) {
+        assertTrue(Math.abs(expected - actual) <= TimeUnit.MILLISECONDS.toNanos(1), () -> "wait " + actual);
+    }
+}
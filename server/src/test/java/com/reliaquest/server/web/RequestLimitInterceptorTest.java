@@ -0,0 +1,79 @@
+package com.reliaquest.server.web;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+class RequestLimitInterceptorTest {
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void testPreHandle_RejectsWithRetryAfterInWholeSeconds() {
+        RequestLimitInterceptor interceptor = interceptor(RequestLimitInterceptor.Mode.GCRA);
+
+        MockHttpServletResponse admitted = handle(interceptor, "client-a", "10.0.0.1");
+        MockHttpServletResponse rejected = handle(interceptor, "client-a", "10.0.0.1");
+
+        assertEquals(200, admitted.getStatus());
+        assertNull(admitted.getHeader("Retry-After"));
+        assertEquals(429, rejected.getStatus());
+        assertEquals("60", rejected.getHeader("Retry-After"));
+        assertEquals(
+                1,
+                meterRegistry
+                        .counter("mock.rate-limit.rejections", "mode", "gcra")
+                        .count());
+    }
+
+    @Test
+    void testPreHandle_KeysClientsByHeader() {
+        RequestLimitInterceptor interceptor = interceptor(RequestLimitInterceptor.Mode.GCRA);
+
+        handle(interceptor, "client-a", "10.0.0.1");
+
+        assertEquals(200, handle(interceptor, "client-b", "10.0.0.1").getStatus());
+        assertEquals(429, handle(interceptor, "client-a", "10.0.0.2").getStatus());
+    }
+
+    @Test
+    void testPreHandle_KeysClientsWithoutHeaderByRemoteAddress() {
+        RequestLimitInterceptor interceptor = interceptor(RequestLimitInterceptor.Mode.GCRA);
+
+        handle(interceptor, null, "10.0.0.1");
+
+        assertEquals(429, handle(interceptor, " ", "10.0.0.1").getStatus());
+        assertEquals(200, handle(interceptor, null, "10.0.0.2").getStatus());
+    }
+
+    @Test
+    void testPreHandle_AdmitsEverythingWhenOff() {
+        RequestLimitInterceptor interceptor = interceptor(RequestLimitInterceptor.Mode.OFF);
+
+        for (int i = 0; i < 100; i++) {
+            assertEquals(200, handle(interceptor, "client-a", "10.0.0.1").getStatus());
+        }
+    }
+
+    private RequestLimitInterceptor interceptor(RequestLimitInterceptor.Mode mode) {
+        return new RequestLimitInterceptor(mode, "X-Client-Id", 1, Duration.ofMinutes(1), 1, 100, meterRegistry);
+    }
+
+    private static MockHttpServletResponse handle(
+            RequestLimitInterceptor interceptor, String clientId, String remoteAddress) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/employee");
+        request.setRemoteAddr(remoteAddress);
+        if (clientId != null) {
+            request.addHeader("X-Client-Id", clientId);
+        }
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        boolean proceed = interceptor.preHandle(request, response, new Object());
+        assertEquals(response.getStatus() == 200, proceed);
+        return response;
+    }
+}
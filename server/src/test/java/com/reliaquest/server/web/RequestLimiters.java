@@ -0,0 +1,48 @@
+package com.reliaquest.server.web;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+final class RequestLimiters {
+
+    private RequestLimiters() {}
+
+    /**
+     * Has {@code threads} threads, released together, each send {@code requests} requests of one client at
+     * {@code nowNanos}, and returns how many were admitted.
+     */
+    static int admitConcurrently(RequestLimiter limiter, int threads, int requests, long nowNanos)
+            throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger admitted = new AtomicInteger();
+        try {
+            for (int t = 0; t < threads; t++) {
+                executor.execute(() -> {
+                    try {
+                        start.await();
+                    } catch (InterruptedException exception) {
+                        Thread.currentThread().interrupt();
+                        return;
+                    }
+                    for (int i = 0; i < requests; i++) {
+                        if (limiter.acquire("client", nowNanos) == 0) {
+                            admitted.incrementAndGet();
+                        }
+                    }
+                });
+            }
+            start.countDown();
+            executor.shutdown();
+            if (!executor.awaitTermination(10, TimeUnit.SECONDS)) {
+                throw new IllegalStateException("Requests did not finish");
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        return admitted.get();
+    }
+}